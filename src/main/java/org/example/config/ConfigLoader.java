@@ -6,6 +6,8 @@ import org.apache.logging.log4j.Logger;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -27,10 +29,30 @@ public class ConfigLoader {
     private static final String PROP_IMPLICIT_WAIT = "implicit.wait";
     private static final String PROP_EXPLICIT_WAIT = "explicit.wait";
     private static final String PROP_PAGE_LOAD_TIMEOUT = "page.load.timeout";
+    private static final String PROP_WAIT_POLL_INITIAL = "wait.poll.initial.ms";
+    private static final String PROP_WAIT_POLL_MAX = "wait.poll.max.ms";
+    private static final String PROP_WAIT_BACKEND = "wait.backend";
+    private static final String PROP_WAIT_ADAPTIVE_ENABLED = "wait.adaptive.enabled";
+    private static final String PROP_WAIT_ADAPTIVE_FACTOR = "wait.adaptive.factor";
+    private static final String PROP_WAIT_ADAPTIVE_MIN = "wait.adaptive.min.ms";
+    private static final String PROP_WAIT_ADAPTIVE_MIN_SAMPLES = "wait.adaptive.min.samples";
+    private static final String PROP_WAIT_LATENCY_FILE = "wait.latency.file";
+    private static final String PROP_ELEMENT_CACHE_ENABLED = "element.cache.enabled";
+    private static final String PROP_DROPDOWN_TIMEOUT = "dropdown.timeout";
+    private static final String PROP_FIELD_ERROR_STRATEGIES = "field.error.strategies";
+    private static final String PROP_PAUSE_SCALE = "pause.scale";
+    private static final String PROP_QUIESCENCE_TIMEOUT = "quiescence.timeout";
+    private static final String PROP_QUIESCENCE_QUIET = "quiescence.quiet.ms";
+    private static final String PROP_QUIESCENCE_BUSY_SELECTORS = "quiescence.busy.selectors";
+    private static final String PROP_QUIESCENCE_IGNORE_URLS = "quiescence.ignore.urls";
+    private static final String PROP_QUIESCENCE_REQUEST_MAX_AGE = "quiescence.request.max.age.ms";
+    private static final String PROP_ABSENCE_SETTLE_TIMEOUT = "absence.settle.timeout";
     private static final String PROP_SCREENSHOT_ON_PASS = "screenshot.on.pass";
     private static final String PROP_SCREENSHOT_ON_FAIL = "screenshot.on.fail";
     private static final String PROP_SUITE_EXCEL = "suite.excel";
     private static final String PROP_OR_FOLDER = "or.folder";
+    private static final String PROP_OR_INDEX_FILE = "or.index.file";
+    private static final String PROP_OR_WATCH_ENABLED = "or.watch.enabled";
     private static final String PROP_ENVIRONMENT = "environment";
 
     // Database Properties
@@ -49,6 +71,40 @@ public class ConfigLoader {
     private static final String PROP_API_BASE_URL = "api.base.url";
     private static final String PROP_API_TIMEOUT = "api.timeout";
 
+    // Driver Pool Properties
+    private static final String PROP_DRIVER_POOL_ENABLED = "driver.pool.enabled";
+    private static final String PROP_DRIVER_POOL_SIZE = "driver.pool.size";
+    private static final String PROP_DRIVER_POOL_MAX_USES = "driver.pool.max.uses";
+    private static final String PROP_DRIVER_POOL_LEASE_TIMEOUT = "driver.pool.lease.timeout";
+    private static final String PROP_DRIVER_POOL_RESET_ORIGINS = "driver.pool.reset.origins";
+    private static final String PROP_DRIVER_RESOLUTION_OFFLINE = "driver.resolution.offline";
+
+    // Session Properties
+    private static final String PROP_SESSION_SNAPSHOT_ENABLED = "session.snapshot.enabled";
+    private static final String PROP_SESSION_SNAPSHOT_TTL = "session.snapshot.ttl.minutes";
+    private static final String PROP_SESSION_PROBE_TTL = "session.probe.ttl.ms";
+    private static final String PROP_SESSION_LOGIN_URL_PATTERN = "session.probe.login.url.pattern";
+    private static final String PROP_SESSION_AUTH_COOKIE = "session.probe.auth.cookie";
+    private static final String PROP_BROWSER_PRESETS = "browser.presets";
+    private static final String PROP_PROFILE_TEMPLATE_ENABLED = "browser.profile.template.enabled";
+    private static final String PROP_PROFILE_TEMPLATE_DIR = "browser.profile.template.dir";
+    private static final String PROP_PROFILE_TEMPLATE_WARMUP_URLS = "browser.profile.template.warmup.urls";
+    private static final String PROP_PROFILE_TEMPLATE_MAX_AGE = "browser.profile.template.max.age.hours";
+    private static final String PROP_DRIVER_WATCHDOG_ENABLED = "driver.watchdog.enabled";
+    private static final String PROP_DRIVER_WATCHDOG_INTERVAL = "driver.watchdog.interval";
+    private static final String PROP_DRIVER_WATCHDOG_TIMEOUT = "driver.watchdog.timeout";
+    private static final String PROP_DRIVER_REAPER_ENABLED = "driver.reaper.enabled";
+    private static final String PROP_THREAD_COUNT = "thread.count";
+    private static final String PROP_NETWORK_BLOCKING_PROFILE = "network.blocking.profile";
+    private static final String PROP_NETWORK_BLOCKING_BROWSER_PREFIX = "network.blocking.browser.";
+    private static final String PROP_NETWORK_BLOCKING_PROFILES_PREFIX = "network.blocking.profiles.";
+    private static final String PROP_MULTITAB_ENABLED = "multitab.enabled";
+    private static final String PROP_MULTITAB_MAX_TABS = "multitab.max.tabs";
+    private static final String PROP_MULTITAB_LEASE_TIMEOUT = "multitab.lease.timeout";
+    private static final String PROP_GRID_QUEUE_TIMEOUT = "grid.queue.timeout";
+    private static final String PROP_GRID_QUEUE_BACKOFF_INITIAL = "grid.queue.backoff.initial.ms";
+    private static final String PROP_GRID_QUEUE_BACKOFF_MAX = "grid.queue.backoff.max.ms";
+
     /**
      * Private constructor - loads properties from config file
      */
@@ -150,6 +206,110 @@ public class ConfigLoader {
         return Integer.parseInt(getProperty(PROP_PAGE_LOAD_TIMEOUT, String.valueOf(FrameworkConstants.DEFAULT_PAGE_LOAD_TIMEOUT)));
     }
 
+    public long getWaitPollInitial() {
+        return Long.parseLong(getProperty(PROP_WAIT_POLL_INITIAL, String.valueOf(FrameworkConstants.DEFAULT_WAIT_POLL_INITIAL)));
+    }
+
+    public long getWaitPollMax() {
+        return Long.parseLong(getProperty(PROP_WAIT_POLL_MAX, String.valueOf(FrameworkConstants.DEFAULT_WAIT_POLL_MAX)));
+    }
+
+    /**
+     * Get how element waits detect their condition
+     * @return "poll" (findElements from Java) or "observer" (MutationObserver in the page)
+     */
+    public String getWaitBackend() {
+        return getProperty(PROP_WAIT_BACKEND, FrameworkConstants.DEFAULT_WAIT_BACKEND).trim().toLowerCase();
+    }
+
+    public boolean isWaitAdaptiveEnabled() {
+        return Boolean.parseBoolean(getProperty(PROP_WAIT_ADAPTIVE_ENABLED, String.valueOf(FrameworkConstants.DEFAULT_WAIT_ADAPTIVE_ENABLED)));
+    }
+
+    public double getWaitAdaptiveFactor() {
+        return Double.parseDouble(getProperty(PROP_WAIT_ADAPTIVE_FACTOR, String.valueOf(FrameworkConstants.DEFAULT_WAIT_ADAPTIVE_FACTOR)));
+    }
+
+    public long getWaitAdaptiveMin() {
+        return Long.parseLong(getProperty(PROP_WAIT_ADAPTIVE_MIN, String.valueOf(FrameworkConstants.DEFAULT_WAIT_ADAPTIVE_MIN)));
+    }
+
+    public int getWaitAdaptiveMinSamples() {
+        return Integer.parseInt(getProperty(PROP_WAIT_ADAPTIVE_MIN_SAMPLES, String.valueOf(FrameworkConstants.DEFAULT_WAIT_ADAPTIVE_MIN_SAMPLES)));
+    }
+
+    public String getWaitLatencyFile() {
+        return getProperty(PROP_WAIT_LATENCY_FILE, FrameworkConstants.WAIT_LATENCY_PATH);
+    }
+
+    /**
+     * Get how long a dropdown waits for its options to render
+     * @return Timeout in seconds
+     */
+    public int getDropdownTimeout() {
+        return Integer.parseInt(getProperty(PROP_DROPDOWN_TIMEOUT, String.valueOf(FrameworkConstants.DEFAULT_DROPDOWN_TIMEOUT)));
+    }
+
+    public boolean isElementCacheEnabled() {
+        return Boolean.parseBoolean(getProperty(PROP_ELEMENT_CACHE_ENABLED, String.valueOf(FrameworkConstants.DEFAULT_ELEMENT_CACHE_ENABLED)));
+    }
+
+    /**
+     * Get the factor fixed sleeps (Pause.sleep) are scaled by
+     * @return Scale (1 = as written, 0 = skip fixed sleeps)
+     */
+    public double getPauseScale() {
+        return Double.parseDouble(getProperty(PROP_PAUSE_SCALE, String.valueOf(FrameworkConstants.DEFAULT_PAUSE_SCALE)));
+    }
+
+    public int getQuiescenceTimeout() {
+        return Integer.parseInt(getProperty(PROP_QUIESCENCE_TIMEOUT, String.valueOf(FrameworkConstants.DEFAULT_QUIESCENCE_TIMEOUT)));
+    }
+
+    /**
+     * Get how long an absence check waits for the app to go idle before its single check
+     * @return Timeout in seconds
+     */
+    public int getAbsenceSettleTimeout() {
+        return Integer.parseInt(getProperty(PROP_ABSENCE_SETTLE_TIMEOUT, String.valueOf(FrameworkConstants.DEFAULT_ABSENCE_SETTLE_TIMEOUT)));
+    }
+
+    public long getQuiescenceQuietMillis() {
+        return Long.parseLong(getProperty(PROP_QUIESCENCE_QUIET, String.valueOf(FrameworkConstants.DEFAULT_QUIESCENCE_QUIET)));
+    }
+
+    /**
+     * Get CSS selectors of loading indicators that keep the app busy while visible
+     * @return Comma-separated selector list
+     */
+    public String getQuiescenceBusySelectors() {
+        return getProperty(PROP_QUIESCENCE_BUSY_SELECTORS, FrameworkConstants.DEFAULT_QUIESCENCE_BUSY_SELECTORS);
+    }
+
+    /**
+     * Get URL fragments of requests that never count as in flight (long-polling, SSE, analytics beacons)
+     * @return URL substrings
+     */
+    public List<String> getQuiescenceIgnoreUrls() {
+        return splitList(getProperty(PROP_QUIESCENCE_IGNORE_URLS, ""));
+    }
+
+    /**
+     * Get the age after which an open request no longer counts as in flight
+     * @return Age in milliseconds (0 = no limit)
+     */
+    public long getQuiescenceRequestMaxAge() {
+        return Long.parseLong(getProperty(PROP_QUIESCENCE_REQUEST_MAX_AGE, String.valueOf(FrameworkConstants.DEFAULT_QUIESCENCE_REQUEST_MAX_AGE)));
+    }
+
+    /**
+     * Get field error detection strategies, in evaluation order
+     * @return Strategy names (e.g. aria-invalid, red-text)
+     */
+    public List<String> getFieldErrorStrategies() {
+        return splitList(getProperty(PROP_FIELD_ERROR_STRATEGIES, FrameworkConstants.DEFAULT_FIELD_ERROR_STRATEGIES));
+    }
+
     public boolean isScreenshotOnPass() {
         return Boolean.parseBoolean(getProperty(PROP_SCREENSHOT_ON_PASS, String.valueOf(FrameworkConstants.DEFAULT_SCREENSHOT_ON_PASS)));
     }
@@ -166,6 +326,14 @@ public class ConfigLoader {
         return getProperty(PROP_OR_FOLDER, FrameworkConstants.OBJECT_REPOSITORY_PATH);
     }
 
+    public String getObjectRepositoryIndexFile() {
+        return getProperty(PROP_OR_INDEX_FILE, FrameworkConstants.OBJECT_REPOSITORY_INDEX_PATH);
+    }
+
+    public boolean isObjectRepositoryWatchEnabled() {
+        return Boolean.parseBoolean(getProperty(PROP_OR_WATCH_ENABLED, String.valueOf(FrameworkConstants.DEFAULT_OR_WATCH_ENABLED)));
+    }
+
     public String getEnvironment() {
         return getProperty(PROP_ENVIRONMENT, FrameworkConstants.DEFAULT_ENVIRONMENT).toLowerCase();
     }
@@ -216,8 +384,185 @@ public class ConfigLoader {
         return Integer.parseInt(getProperty(PROP_API_TIMEOUT, String.valueOf(FrameworkConstants.API_DEFAULT_TIMEOUT)));
     }
 
+    // ==================== Driver Pool / Resolution Getters ====================
+
+    public boolean isDriverPoolEnabled() {
+        return Boolean.parseBoolean(getProperty(PROP_DRIVER_POOL_ENABLED, String.valueOf(FrameworkConstants.DEFAULT_DRIVER_POOL_ENABLED)));
+    }
+
+    public int getDriverPoolSize() {
+        return Integer.parseInt(getProperty(PROP_DRIVER_POOL_SIZE, String.valueOf(FrameworkConstants.DEFAULT_DRIVER_POOL_SIZE)));
+    }
+
+    public int getDriverPoolMaxUses() {
+        return Integer.parseInt(getProperty(PROP_DRIVER_POOL_MAX_USES, String.valueOf(FrameworkConstants.DEFAULT_DRIVER_POOL_MAX_USES)));
+    }
+
+    public int getDriverPoolLeaseTimeout() {
+        return Integer.parseInt(getProperty(PROP_DRIVER_POOL_LEASE_TIMEOUT, String.valueOf(FrameworkConstants.DEFAULT_DRIVER_POOL_LEASE_TIMEOUT)));
+    }
+
+    /**
+     * Get origins whose storage is cleared when a pooled session is returned (base.url is always included)
+     * @return Origin URLs
+     */
+    public List<String> getDriverPoolResetOrigins() {
+        List<String> origins = splitList(getProperty(PROP_DRIVER_POOL_RESET_ORIGINS, ""));
+        origins.add(0, getBaseUrl());
+        return origins;
+    }
+
+    public boolean isDriverResolutionOffline() {
+        return Boolean.parseBoolean(getProperty(PROP_DRIVER_RESOLUTION_OFFLINE, String.valueOf(FrameworkConstants.DEFAULT_DRIVER_RESOLUTION_OFFLINE)));
+    }
+
+    /**
+     * Get launch presets for a browser (browser.presets.<name>, else browser.presets)
+     * @param browserName Browser name (chrome, edge, ...)
+     * @return Preset names in order
+     */
+    public List<String> getBrowserPresets(String browserName) {
+        String defaultPresets = getProperty(PROP_BROWSER_PRESETS, FrameworkConstants.DEFAULT_BROWSER_PRESETS);
+        return splitList(getProperty(PROP_BROWSER_PRESETS + "." + browserName.toLowerCase(), defaultPresets));
+    }
+
+    public boolean isProfileTemplateEnabled() {
+        return Boolean.parseBoolean(getProperty(PROP_PROFILE_TEMPLATE_ENABLED, String.valueOf(FrameworkConstants.DEFAULT_PROFILE_TEMPLATE_ENABLED)));
+    }
+
+    public String getProfileTemplateDir() {
+        return getProperty(PROP_PROFILE_TEMPLATE_DIR, FrameworkConstants.PROFILE_TEMPLATE_PATH);
+    }
+
+    /**
+     * Get URLs loaded while priming a profile template
+     * @return Warm-up URLs (base.url if none configured)
+     */
+    public List<String> getProfileTemplateWarmupUrls() {
+        return splitList(getProperty(PROP_PROFILE_TEMPLATE_WARMUP_URLS, getBaseUrl()));
+    }
+
+    public int getProfileTemplateMaxAgeHours() {
+        return Integer.parseInt(getProperty(PROP_PROFILE_TEMPLATE_MAX_AGE, String.valueOf(FrameworkConstants.DEFAULT_PROFILE_TEMPLATE_MAX_AGE_HOURS)));
+    }
+
+    public boolean isDriverWatchdogEnabled() {
+        return Boolean.parseBoolean(getProperty(PROP_DRIVER_WATCHDOG_ENABLED, String.valueOf(FrameworkConstants.DEFAULT_DRIVER_WATCHDOG_ENABLED)));
+    }
+
+    public int getDriverWatchdogInterval() {
+        return Integer.parseInt(getProperty(PROP_DRIVER_WATCHDOG_INTERVAL, String.valueOf(FrameworkConstants.DEFAULT_DRIVER_WATCHDOG_INTERVAL)));
+    }
+
+    public int getDriverWatchdogTimeout() {
+        return Integer.parseInt(getProperty(PROP_DRIVER_WATCHDOG_TIMEOUT, String.valueOf(FrameworkConstants.DEFAULT_DRIVER_WATCHDOG_TIMEOUT)));
+    }
+
+    public boolean isDriverReaperEnabled() {
+        return Boolean.parseBoolean(getProperty(PROP_DRIVER_REAPER_ENABLED, String.valueOf(FrameworkConstants.DEFAULT_DRIVER_REAPER_ENABLED)));
+    }
+
+    // ==================== Network Blocking Getters ====================
+
+    /**
+     * Get blocking profile for a browser (network.blocking.browser.<name>, else network.blocking.profile)
+     * @param browserName Browser name (chrome, edge, ...)
+     * @return Profile name
+     */
+    public String getNetworkBlockingProfile(String browserName) {
+        String defaultProfile = getProperty(PROP_NETWORK_BLOCKING_PROFILE, FrameworkConstants.DEFAULT_NETWORK_BLOCKING_PROFILE);
+        return getProperty(PROP_NETWORK_BLOCKING_BROWSER_PREFIX + browserName.toLowerCase(), defaultProfile).trim();
+    }
+
+    public List<String> getNetworkBlockingProfileUrls(String profile) {
+        return splitList(getProperty(PROP_NETWORK_BLOCKING_PROFILES_PREFIX + profile + ".urls", ""));
+    }
+
+    public List<String> getNetworkBlockingProfileTypes(String profile) {
+        return splitList(getProperty(PROP_NETWORK_BLOCKING_PROFILES_PREFIX + profile + ".types", ""));
+    }
+
+    // ==================== Parallel / Grid Capacity Getters ====================
+
+    public int getThreadCount() {
+        return Integer.parseInt(getProperty(PROP_THREAD_COUNT, String.valueOf(FrameworkConstants.DEFAULT_THREAD_COUNT)));
+    }
+
+    /**
+     * Check if @multitab scenarios run as tabs of a shared browser (experimental)
+     * @return true if enabled
+     */
+    public boolean isMultiTabEnabled() {
+        return Boolean.parseBoolean(getProperty(PROP_MULTITAB_ENABLED, String.valueOf(FrameworkConstants.DEFAULT_MULTITAB_ENABLED)));
+    }
+
+    public int getMultiTabMaxTabs() {
+        return Integer.parseInt(getProperty(PROP_MULTITAB_MAX_TABS, String.valueOf(FrameworkConstants.DEFAULT_MULTITAB_MAX_TABS)));
+    }
+
+    public int getMultiTabLeaseTimeout() {
+        return Integer.parseInt(getProperty(PROP_MULTITAB_LEASE_TIMEOUT, String.valueOf(FrameworkConstants.DEFAULT_MULTITAB_LEASE_TIMEOUT)));
+    }
+
+    public int getGridQueueTimeout() {
+        return Integer.parseInt(getProperty(PROP_GRID_QUEUE_TIMEOUT, String.valueOf(FrameworkConstants.DEFAULT_GRID_QUEUE_TIMEOUT)));
+    }
+
+    public long getGridQueueBackoffInitial() {
+        return Long.parseLong(getProperty(PROP_GRID_QUEUE_BACKOFF_INITIAL, String.valueOf(FrameworkConstants.DEFAULT_GRID_QUEUE_BACKOFF_INITIAL)));
+    }
+
+    public long getGridQueueBackoffMax() {
+        return Long.parseLong(getProperty(PROP_GRID_QUEUE_BACKOFF_MAX, String.valueOf(FrameworkConstants.DEFAULT_GRID_QUEUE_BACKOFF_MAX)));
+    }
+
+    // ==================== Session Getters ====================
+
+    public boolean isSessionSnapshotEnabled() {
+        return Boolean.parseBoolean(getProperty(PROP_SESSION_SNAPSHOT_ENABLED, String.valueOf(FrameworkConstants.DEFAULT_SESSION_SNAPSHOT_ENABLED)));
+    }
+
+    public int getSessionSnapshotTtl() {
+        return Integer.parseInt(getProperty(PROP_SESSION_SNAPSHOT_TTL, String.valueOf(FrameworkConstants.DEFAULT_SESSION_SNAPSHOT_TTL)));
+    }
+
+    public long getSessionProbeTtl() {
+        return Long.parseLong(getProperty(PROP_SESSION_PROBE_TTL, String.valueOf(FrameworkConstants.DEFAULT_SESSION_PROBE_TTL)));
+    }
+
+    /**
+     * Get the regex for URLs of the login route (a session on such a URL is not logged in)
+     * @return URL regex
+     */
+    public String getSessionLoginUrlPattern() {
+        return getProperty(PROP_SESSION_LOGIN_URL_PATTERN, FrameworkConstants.DEFAULT_SESSION_LOGIN_URL_PATTERN);
+    }
+
+    /**
+     * Get the name of the cookie that carries the authenticated session
+     * @return Cookie name, or empty to accept any cookie of the application
+     */
+    public String getSessionAuthCookie() {
+        return getProperty(PROP_SESSION_AUTH_COOKIE, "").trim();
+    }
+
     // ==================== Utility Methods ====================
 
+    /**
+     * Split a comma-separated property value
+     * @param value Property value
+     * @return Trimmed, non-empty entries
+     */
+    private List<String> splitList(String value) {
+        List<String> entries = new ArrayList<>();
+        for (String entry : value.split(",")) {
+            if (!entry.trim().isEmpty()) {
+                entries.add(entry.trim());
+            }
+        }
+        return entries;
+    }
+
     public boolean isLocalExecution() {
         return FrameworkConstants.RUN_MODE_LOCAL.equalsIgnoreCase(getRunMode());
     }
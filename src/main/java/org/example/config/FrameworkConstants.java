@@ -24,6 +24,8 @@ public final class FrameworkConstants {
 
     // ==================== Object Repository ====================
     public static final String OBJECT_REPOSITORY_PATH = RESOURCES_PATH + File.separator + "objectrepository";
+    public static final String OBJECT_REPOSITORY_INDEX_PATH = PROJECT_PATH + File.separator + "target" + File.separator + "or-index.tsv";
+    public static final boolean DEFAULT_OR_WATCH_ENABLED = false;
 
     // ==================== Test Data ====================
     public static final String TEST_DATA_PATH = TEST_RESOURCES_PATH + File.separator + "testdata";
@@ -39,6 +41,10 @@ public final class FrameworkConstants {
     public static final String REPORTS_PATH = TARGET_PATH + File.separator + "reports";
     public static final String LOGS_PATH = TARGET_PATH + File.separator + "logs";
     public static final String EXTENT_REPORT_PATH = REPORTS_PATH + File.separator + "ExtentReport.html";
+    public static final String DRIVER_CACHE_PATH = TARGET_PATH + File.separator + "driver-cache";
+    public static final String SESSION_SNAPSHOT_PATH = TARGET_PATH + File.separator + "session";
+    // Outside target/ so the registry survives mvn clean after a killed run
+    public static final String PROCESS_REGISTRY_PATH = System.getProperty("java.io.tmpdir") + File.separator + "automation-framework-pids";
 
     // ==================== Timeouts (in seconds) ====================
     public static final int DEFAULT_IMPLICIT_WAIT = 10;
@@ -47,6 +53,69 @@ public final class FrameworkConstants {
     public static final int DEFAULT_SCRIPT_TIMEOUT = 30;
     public static final int POLLING_INTERVAL = 500; // milliseconds
 
+    // ==================== Wait Engine ====================
+    public static final long DEFAULT_WAIT_POLL_INITIAL = 50; // milliseconds
+    public static final long DEFAULT_WAIT_POLL_MAX = 500; // milliseconds
+    public static final String DEFAULT_WAIT_BACKEND = "poll";
+    public static final boolean DEFAULT_WAIT_ADAPTIVE_ENABLED = true;
+    public static final double DEFAULT_WAIT_ADAPTIVE_FACTOR = 3.0;
+    public static final long DEFAULT_WAIT_ADAPTIVE_MIN = 2000; // milliseconds
+    public static final int DEFAULT_WAIT_ADAPTIVE_MIN_SAMPLES = 5;
+    public static final String WAIT_LATENCY_PATH = TARGET_PATH + File.separator + "wait-latency.json";
+    public static final boolean DEFAULT_ELEMENT_CACHE_ENABLED = true;
+    public static final int DEFAULT_DROPDOWN_TIMEOUT = 5; // seconds
+    public static final double DEFAULT_PAUSE_SCALE = 1.0;
+    public static final int DEFAULT_QUIESCENCE_TIMEOUT = 10; // seconds
+    public static final long DEFAULT_QUIESCENCE_QUIET = 100; // milliseconds
+    public static final long DEFAULT_QUIESCENCE_REQUEST_MAX_AGE = 15000; // milliseconds, 0 = no limit
+    public static final int DEFAULT_ABSENCE_SETTLE_TIMEOUT = 3; // seconds
+    public static final String DEFAULT_QUIESCENCE_BUSY_SELECTORS =
+            ".MuiCircularProgress-root,.MuiLinearProgress-root,.MuiSkeleton-root,.animate-spin,[aria-busy=true]";
+    public static final String DEFAULT_FIELD_ERROR_STRATEGIES = "mui-form-control,mui-input-base,aria-invalid,"
+            + "nearby-text,wrapper-text,border-class,helper-text,outer-text,red-text";
+
+    // ==================== Driver Pool ====================
+    public static final boolean DEFAULT_DRIVER_POOL_ENABLED = false;
+    public static final int DEFAULT_DRIVER_POOL_SIZE = 2;
+    public static final int DEFAULT_DRIVER_POOL_MAX_USES = 20;
+    public static final int DEFAULT_DRIVER_POOL_LEASE_TIMEOUT = 120; // seconds
+    public static final boolean DEFAULT_DRIVER_RESOLUTION_OFFLINE = false;
+
+    // ==================== Browser Launch ====================
+    public static final String DEFAULT_BROWSER_PRESETS = "standard";
+    public static final int DEFAULT_WINDOW_WIDTH = 1920;
+    public static final int DEFAULT_WINDOW_HEIGHT = 1080;
+    public static final String BROWSER_PROFILE_PREFIX = "automation-profile-";
+    public static final boolean DEFAULT_PROFILE_TEMPLATE_ENABLED = false;
+    public static final int DEFAULT_PROFILE_TEMPLATE_MAX_AGE_HOURS = 24;
+    public static final String PROFILE_TEMPLATE_PATH = System.getProperty("java.io.tmpdir") + File.separator + "automation-profile-templates";
+
+    // ==================== Driver Watchdog ====================
+    public static final boolean DEFAULT_DRIVER_WATCHDOG_ENABLED = false;
+    public static final int DEFAULT_DRIVER_WATCHDOG_INTERVAL = 30; // seconds
+    public static final int DEFAULT_DRIVER_WATCHDOG_TIMEOUT = 10; // seconds
+
+    // ==================== Process Reaper ====================
+    public static final boolean DEFAULT_DRIVER_REAPER_ENABLED = true;
+
+    // ==================== Network Blocking ====================
+    public static final String DEFAULT_NETWORK_BLOCKING_PROFILE = "none";
+
+    // ==================== Parallel / Grid Capacity ====================
+    public static final int DEFAULT_THREAD_COUNT = 4;
+    public static final boolean DEFAULT_MULTITAB_ENABLED = false; // experimental
+    public static final int DEFAULT_MULTITAB_MAX_TABS = 4;
+    public static final int DEFAULT_MULTITAB_LEASE_TIMEOUT = 120; // seconds
+    public static final int DEFAULT_GRID_QUEUE_TIMEOUT = 300; // seconds
+    public static final long DEFAULT_GRID_QUEUE_BACKOFF_INITIAL = 500; // milliseconds
+    public static final long DEFAULT_GRID_QUEUE_BACKOFF_MAX = 10000; // milliseconds
+
+    // ==================== Session Snapshot ====================
+    public static final boolean DEFAULT_SESSION_SNAPSHOT_ENABLED = false;
+    public static final int DEFAULT_SESSION_SNAPSHOT_TTL = 30; // minutes
+    public static final long DEFAULT_SESSION_PROBE_TTL = 1000; // milliseconds
+    public static final String DEFAULT_SESSION_LOGIN_URL_PATTERN = "(?i).*/(login|signin|sign-in|prelogin)([/?#].*)?";
+
     // ==================== Screenshot Naming ====================
     public static final String SCREENSHOT_DATE_FORMAT = "yyyyMMdd_HHmmss";
     public static final String SCREENSHOT_EXTENSION = ".png";
@@ -0,0 +1,208 @@
+package org.example.core.bootstrap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.config.EnvironmentConfig;
+import org.example.core.driver.BrowserProcessTracker;
+import org.example.core.driver.BrowserType;
+import org.example.core.driver.DriverBinaryCache;
+import org.example.core.driver.DriverManager;
+import org.example.utils.excel.ExcelReader;
+import org.example.utils.json.ObjectRepositoryManager;
+import org.example.validation.ValidationEngine;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * SuiteBootstrap - Overlaps suite initialisation with browser startup.
+ *
+ * As soon as ConfigLoader is read, driver creation starts on a background executor
+ * (via DriverManager.initDriverAsync) while ObjectRepositoryManager, ValidationEngine,
+ * EnvironmentConfig and the test-data workbook load in parallel. The driver future is
+ * joined only when the first step calls DriverManager.getDriver().
+ *
+ * Per-component startup timings are logged so time-to-first-step can be analysed.
+ */
+public final class SuiteBootstrap {
+
+    private static final Logger logger = LogManager.getLogger(SuiteBootstrap.class);
+
+    // Component name -> startup duration in ms (insertion order = completion order)
+    private static final Map<String, Long> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private static ExecutorService executor;
+    private static CompletableFuture<Map<String, String>> testDataFuture;
+    private static CompletableFuture<Void> componentsFuture;
+    private static long startTime;
+
+    private SuiteBootstrap() {
+        // Private constructor - utility class
+    }
+
+    /**
+     * Start bootstrap with browser from configuration. Safe to call more than once.
+     */
+    public static synchronized void start() {
+        if (executor != null) {
+            logger.debug("SuiteBootstrap already started");
+            return;
+        }
+
+        startTime = System.currentTimeMillis();
+        ConfigLoader config = timed("ConfigLoader", ConfigLoader::getInstance);
+
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        executor = Executors.newFixedThreadPool(5, runnable -> {
+            Thread thread = new Thread(runnable, "suite-bootstrap-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Reap browsers left behind by killed runs before spawning new ones
+        timed("Process reaper", () -> {
+            BrowserProcessTracker.initialize();
+            return BrowserProcessTracker.getReapedCount();
+        });
+
+        // Browser first - it is the slowest component
+        BrowserType browserType = BrowserType.fromString(config.getBrowser(), config.isHeadless());
+        long driverStart = System.currentTimeMillis();
+        DriverManager.initDriverAsync(browserType, executor).whenComplete((driver, error) -> {
+            long elapsed = System.currentTimeMillis() - driverStart;
+            timings.put("WebDriver (" + browserType + ")", elapsed);
+            if (error != null) {
+                logger.error("Startup: WebDriver failed after {} ms: {}", elapsed, error.getMessage());
+            } else {
+                logger.info("Startup: WebDriver ready in {} ms", elapsed);
+            }
+        });
+
+        CompletableFuture<Void> orFuture = CompletableFuture.runAsync(
+                () -> timed("ObjectRepositoryManager", ObjectRepositoryManager::getInstance), executor);
+        CompletableFuture<Void> validationFuture = CompletableFuture.runAsync(
+                () -> timed("ValidationEngine", ValidationEngine::getInstance), executor);
+        CompletableFuture<Void> environmentFuture = CompletableFuture.runAsync(
+                () -> timed("EnvironmentConfig", EnvironmentConfig::getInstance), executor);
+        testDataFuture = CompletableFuture.supplyAsync(
+                () -> timed("TestData workbook", () -> loadTestData(config.getSuiteExcelPath())), executor);
+
+        componentsFuture = CompletableFuture.allOf(orFuture, validationFuture, environmentFuture, testDataFuture)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        logger.error("Startup: component initialisation failed: {}", error.getMessage());
+                    }
+                    logger.info("Startup: components ready {} ms after bootstrap start",
+                            System.currentTimeMillis() - startTime);
+                });
+
+        logger.info("SuiteBootstrap started - browser and components loading in parallel");
+    }
+
+    /**
+     * Check if bootstrap was started
+     * @return true if start() was called
+     */
+    public static synchronized boolean isStarted() {
+        return executor != null;
+    }
+
+    /**
+     * Wait for all non-browser components to finish loading
+     */
+    public static void awaitComponents() {
+        CompletableFuture<Void> future = componentsFuture;
+        if (future == null) {
+            return;
+        }
+        try {
+            future.join();
+        } catch (Exception e) {
+            logger.warn("Component initialisation completed with errors: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get test data loaded from the suite workbook (default sheet).
+     * Blocks until the workbook is loaded; loads synchronously if bootstrap was not started.
+     * @return Test data map (empty if loading failed)
+     */
+    public static Map<String, String> getTestData() {
+        CompletableFuture<Map<String, String>> future = testDataFuture;
+        if (future == null) {
+            return loadTestData(ConfigLoader.getInstance().getSuiteExcelPath());
+        }
+        try {
+            return future.join();
+        } catch (Exception e) {
+            logger.error("Failed to load test data: {}", e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Get recorded startup timings
+     * @return Map of component name to duration in ms
+     */
+    public static Map<String, Long> getTimings() {
+        synchronized (timings) {
+            return new LinkedHashMap<>(timings);
+        }
+    }
+
+    /**
+     * Log all recorded startup timings
+     */
+    public static void printTimings() {
+        logger.info("========== Startup Timings ==========");
+        getTimings().forEach((component, millis) -> logger.info("{} = {} ms", component, millis));
+        logger.info("Driver binary resolution (total) = {} ms", DriverBinaryCache.getInstance().getResolutionTimeMillis());
+        logger.info("Orphaned processes reaped = {} ({} MB reclaimed)",
+                BrowserProcessTracker.getReapedCount(), BrowserProcessTracker.getReclaimedBytes() / (1024 * 1024));
+        logger.info("=====================================");
+    }
+
+    /**
+     * Stop the bootstrap executor and clear state
+     */
+    public static synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+        testDataFuture = null;
+        componentsFuture = null;
+    }
+
+    /**
+     * Run a loader and record its duration
+     * @param component Component name
+     * @param loader Loader to run
+     * @return Loader result
+     */
+    private static <T> T timed(String component, Supplier<T> loader) {
+        long start = System.currentTimeMillis();
+        T result = loader.get();
+        long elapsed = System.currentTimeMillis() - start;
+        timings.put(component, elapsed);
+        logger.info("Startup: {} loaded in {} ms", component, elapsed);
+        return result;
+    }
+
+    private static Map<String, String> loadTestData(String excelPath) {
+        ExcelReader reader = new ExcelReader(excelPath);
+        try {
+            return reader.getTestData();
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,528 @@
+package org.example.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.config.FrameworkConstants;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * BrowserProcessTracker - Tracks the driver service process (chromedriver, msedgedriver, geckodriver)
+ * and browser processes behind each local WebDriver.
+ *
+ * - Hung sessions: the whole process tree can be force-killed (used by DriverWatchdog).
+ * - Shutdown hook: processes of drivers that were never quit are killed when the JVM exits.
+ * - Temporary profiles: a profile directory attached to a driver is deleted when it is unregistered.
+ * - Orphan reaper: tracked PIDs are persisted per JVM under PROCESS_REGISTRY_PATH, so processes
+ *   left behind by a killed run are reaped when the next run starts. PIDs are matched on their
+ *   start time to avoid killing an unrelated process that reused the PID; a process whose start
+ *   time cannot be read is never reaped.
+ *
+ * The service process is the JVM child launched with the service's own --port, so unrelated child
+ * processes and parallel launches cannot be mistaken for it. Where the OS hides command lines,
+ * the only new child running the service executable is used instead (or none if ambiguous).
+ */
+public class BrowserProcessTracker {
+
+    private static final Logger logger = LogManager.getLogger(BrowserProcessTracker.class);
+    private static final Object launchLock = new Object();
+
+    private static final String OWNER_KEY = "owner";
+    private static final String REGISTRY_SUFFIX = ".pids";
+
+    // Driver -> driver service process
+    private static final Map<WebDriver, ProcessHandle> driverProcesses = new ConcurrentHashMap<>();
+
+    // Driver -> driver service URL (for off-session /status checks)
+    private static final Map<WebDriver, URL> serviceUrls = new ConcurrentHashMap<>();
+
+    // Driver -> temporary browser profile directory, deleted when the driver is unregistered
+    private static final Map<WebDriver, Path> profileDirs = new ConcurrentHashMap<>();
+
+    // Profile directories that could not be deleted yet (browser still shutting down)
+    private static final Set<Path> pendingProfileDirs = ConcurrentHashMap.newKeySet();
+
+    // PID -> start time (epoch ms, -1 if unknown) of every process tracked by this JVM
+    private static final Map<Long, Long> trackedPids = new ConcurrentHashMap<>();
+
+    private static final AtomicBoolean initialized = new AtomicBoolean(false);
+
+    // Metrics
+    private static final AtomicInteger reapedCount = new AtomicInteger(0);
+    private static final AtomicLong reclaimedBytes = new AtomicLong(0);
+
+    private BrowserProcessTracker() {
+        // Private constructor - utility class
+    }
+
+    /**
+     * Install the shutdown hook and reap orphans from earlier runs. Runs once per JVM;
+     * called automatically before the first driver service starts.
+     */
+    public static void initialize() {
+        if (!initialized.compareAndSet(false, true)) {
+            return;
+        }
+        boolean reaperEnabled = ConfigLoader.getInstance().isDriverReaperEnabled();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> cleanupAtShutdown(reaperEnabled), "browser-process-reaper"));
+        if (reaperEnabled) {
+            reapOrphans();
+        } else {
+            logger.info("Process reaper disabled (driver.reaper.enabled=false)");
+        }
+    }
+
+    /**
+     * Start a driver service and identify its process
+     * @param service Driver service (not yet started)
+     * @return Service process handle, or null if it could not be identified
+     * @throws IOException if the service fails to start
+     */
+    public static ProcessHandle startService(DriverService service) throws IOException {
+        initialize();
+        Set<Long> before;
+        synchronized (launchLock) {
+            before = childPids();
+            service.start();
+        }
+        String port = String.valueOf(service.getUrl().getPort());
+        List<ProcessHandle> children = ProcessHandle.current().children().collect(Collectors.toList());
+        ProcessHandle byPort = children.stream()
+                .filter(child -> hasPortArgument(child, port))
+                .findFirst()
+                .orElse(null);
+        if (byPort != null) {
+            return byPort;
+        }
+
+        // Command lines not visible: accept the new child only if it is the unambiguous service executable
+        String executable = service.getExecutable() != null ? new File(service.getExecutable()).getName() : "";
+        List<ProcessHandle> candidates = children.stream()
+                .filter(child -> !before.contains(child.pid()))
+                .filter(child -> child.info().command().map(cmd -> new File(cmd).getName().equals(executable)).orElse(false))
+                .filter(child -> !driverProcesses.containsValue(child))
+                .collect(Collectors.toList());
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        logger.debug("Could not identify driver service process on port {} ({} candidates) - not tracked",
+                port, candidates.size());
+        return null;
+    }
+
+    /**
+     * Associate a driver with its service process and record the service and browser PIDs
+     * @param driver WebDriver instance (session already created)
+     * @param serviceProcess Service process handle (ignored if null)
+     * @param serviceUrl Driver service URL (may be null)
+     */
+    public static void register(WebDriver driver, ProcessHandle serviceProcess, URL serviceUrl) {
+        if (driver == null || serviceProcess == null) {
+            return;
+        }
+        driverProcesses.put(driver, serviceProcess);
+        if (serviceUrl != null) {
+            serviceUrls.put(driver, serviceUrl);
+        }
+        track(serviceProcess);
+        // Browser processes are re-parented if the driver service dies with the JVM, so record them too
+        serviceProcess.children().forEach(BrowserProcessTracker::track);
+        persist();
+        logger.debug("Tracking driver process PID {} ({} processes total)", serviceProcess.pid(), trackedPids.size());
+    }
+
+    /**
+     * Attach a temporary browser profile directory to a driver; it is deleted when the driver
+     * is unregistered or killed, or at JVM shutdown at the latest
+     * @param driver WebDriver instance
+     * @param profileDir Profile directory (ignored if null)
+     */
+    public static void attachProfileDir(WebDriver driver, Path profileDir) {
+        if (driver != null && profileDir != null) {
+            profileDirs.put(driver, profileDir);
+        }
+    }
+
+    /**
+     * Stop tracking a driver (after a normal quit)
+     * @param driver WebDriver instance
+     */
+    public static void unregister(WebDriver driver) {
+        ProcessHandle serviceProcess = driver != null ? driverProcesses.remove(driver) : null;
+        if (serviceProcess != null) {
+            serviceUrls.remove(driver);
+            untrack(serviceProcess);
+            persist();
+        }
+        releaseProfileDir(driver);
+    }
+
+    /**
+     * Delete a profile directory, retrying at shutdown if the browser still holds files
+     * @param profileDir Profile directory
+     */
+    public static void deleteProfileDir(Path profileDir) {
+        if (profileDir != null && !deleteRecursively(profileDir)) {
+            pendingProfileDirs.add(profileDir);
+        }
+    }
+
+    /**
+     * Get the driver service URL of a local driver
+     * @param driver WebDriver instance
+     * @return Service URL, or null if not tracked (remote session)
+     */
+    public static URL getServiceUrl(WebDriver driver) {
+        return driver != null ? serviceUrls.get(driver) : null;
+    }
+
+    /**
+     * Check if the driver service process of a local driver is still running
+     * @param driver WebDriver instance
+     * @return true/false, or null if the driver is not tracked (remote session)
+     */
+    public static Boolean isServiceAlive(WebDriver driver) {
+        ProcessHandle handle = driver != null ? driverProcesses.get(driver) : null;
+        return handle != null ? handle.isAlive() : null;
+    }
+
+    /**
+     * Get the service process PID for a driver
+     * @param driver WebDriver instance
+     * @return PID or -1 if not tracked
+     */
+    public static long getPid(WebDriver driver) {
+        ProcessHandle handle = driver != null ? driverProcesses.get(driver) : null;
+        return handle != null ? handle.pid() : -1;
+    }
+
+    /**
+     * Force-kill the driver service process and all its descendants (browser processes)
+     * @param driver WebDriver instance
+     * @return true if a tracked process tree was killed
+     */
+    public static boolean killProcessTree(WebDriver driver) {
+        ProcessHandle serviceProcess = driver != null ? driverProcesses.remove(driver) : null;
+        if (serviceProcess == null) {
+            return false;
+        }
+        serviceUrls.remove(driver);
+        untrack(serviceProcess);
+        int killed = killTree(serviceProcess);
+        persist();
+        releaseProfileDir(driver);
+        logger.warn("Force-killed process tree of PID {} ({} processes)", serviceProcess.pid(), killed);
+        return true;
+    }
+
+    /**
+     * Reap browser/driver processes recorded by runs whose JVM is no longer alive
+     * @return Number of processes killed
+     */
+    public static int reapOrphans() {
+        File[] registries = new File(FrameworkConstants.PROCESS_REGISTRY_PATH).listFiles(
+                (dir, name) -> name.endsWith(REGISTRY_SUFFIX));
+        if (registries == null) {
+            return 0;
+        }
+
+        int killed = 0;
+        long bytes = 0;
+        for (File registry : registries) {
+            Properties entries = readRegistry(registry);
+            if (entries == null) {
+                continue;
+            }
+            String owner = entries.getProperty(OWNER_KEY, "");
+            if (isAlive(owner)) {
+                continue; // Another run on this machine is still using these processes
+            }
+            for (String key : entries.stringPropertyNames()) {
+                if (OWNER_KEY.equals(key)) {
+                    continue;
+                }
+                ProcessHandle process = matchingProcess(Long.parseLong(key), Long.parseLong(entries.getProperty(key)));
+                if (process != null) {
+                    for (ProcessHandle member : treeOf(process)) {
+                        long rss = residentBytes(member);
+                        if (member.destroyForcibly()) {
+                            killed++;
+                            bytes += rss;
+                        }
+                    }
+                }
+            }
+            if (!registry.delete()) {
+                logger.debug("Could not delete process registry {}", registry);
+            }
+        }
+
+        reapedCount.addAndGet(killed);
+        reclaimedBytes.addAndGet(bytes);
+        if (killed > 0) {
+            logger.warn("Reaped {} orphaned browser/driver processes from earlier runs, reclaimed {} MB",
+                    killed, bytes / (1024 * 1024));
+        } else {
+            logger.debug("No orphaned browser/driver processes found");
+        }
+        return killed;
+    }
+
+    /**
+     * Get number of orphaned processes killed (startup reap and shutdown hook)
+     * @return Reaped process count
+     */
+    public static int getReapedCount() {
+        return reapedCount.get();
+    }
+
+    /**
+     * Get resident memory freed by reaping (Linux only, 0 elsewhere)
+     * @return Reclaimed bytes
+     */
+    public static long getReclaimedBytes() {
+        return reclaimedBytes.get();
+    }
+
+    /**
+     * Force-kill a process and all its descendants, children first
+     * @param root Root process
+     * @return Number of processes signalled
+     */
+    static int killTree(ProcessHandle root) {
+        int killed = 0;
+        for (ProcessHandle member : treeOf(root)) {
+            if (member.destroyForcibly()) {
+                killed++;
+            }
+        }
+        return killed;
+    }
+
+    // ==================== Internal Helpers ====================
+
+    /**
+     * Shutdown hook: kill processes of drivers that were never quit (if the reaper is enabled),
+     * drop this run's registry and delete temporary profiles
+     */
+    private static void cleanupAtShutdown(boolean reaperEnabled) {
+        if (reaperEnabled) {
+            killRemaining();
+        }
+        pendingProfileDirs.addAll(profileDirs.values());
+        profileDirs.clear();
+        pendingProfileDirs.removeIf(BrowserProcessTracker::deleteRecursively);
+    }
+
+    private static void killRemaining() {
+        int killed = 0;
+        long bytes = 0;
+        for (ProcessHandle serviceProcess : new ArrayList<>(driverProcesses.values())) {
+            for (ProcessHandle member : treeOf(serviceProcess)) {
+                long rss = residentBytes(member);
+                if (member.destroyForcibly()) {
+                    killed++;
+                    bytes += rss;
+                }
+            }
+        }
+        driverProcesses.clear();
+        trackedPids.clear();
+        try {
+            Files.deleteIfExists(registryFile());
+        } catch (IOException ignored) {
+            // Next run reaps it
+        }
+        // No logging here: Log4j may already be stopped in a shutdown hook
+        reapedCount.addAndGet(killed);
+        reclaimedBytes.addAndGet(bytes);
+    }
+
+    private static void releaseProfileDir(WebDriver driver) {
+        Path profileDir = driver != null ? profileDirs.remove(driver) : null;
+        deleteProfileDir(profileDir);
+        // Retry directories left over from earlier quits
+        pendingProfileDirs.removeIf(BrowserProcessTracker::deleteRecursively);
+    }
+
+    /**
+     * Delete a directory tree
+     * @return true if the directory no longer exists
+     */
+    private static boolean deleteRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return true;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException | UncheckedIOException e) {
+            logger.debug("Could not fully delete {}: {}", dir, e.getMessage());
+        }
+        return !Files.exists(dir);
+    }
+
+    private static void track(ProcessHandle process) {
+        trackedPids.put(process.pid(), startMillis(process));
+    }
+
+    private static void untrack(ProcessHandle serviceProcess) {
+        trackedPids.remove(serviceProcess.pid());
+        serviceProcess.descendants().forEach(child -> trackedPids.remove(child.pid()));
+        // Browser processes recorded at registration may already be gone from the tree
+        trackedPids.keySet().removeIf(pid -> ProcessHandle.of(pid).map(p -> !p.isAlive()).orElse(true));
+    }
+
+    private static synchronized void persist() {
+        Path registry = registryFile();
+        try {
+            if (trackedPids.isEmpty()) {
+                Files.deleteIfExists(registry);
+                return;
+            }
+            Files.createDirectories(registry.getParent());
+            Properties entries = new Properties();
+            entries.setProperty(OWNER_KEY, ProcessHandle.current().pid() + ":" + startMillis(ProcessHandle.current()));
+            trackedPids.forEach((pid, start) -> entries.setProperty(String.valueOf(pid), String.valueOf(start)));
+            try (OutputStream out = new FileOutputStream(registry.toFile())) {
+                entries.store(out, "Browser/driver processes of run " + ProcessHandle.current().pid());
+            }
+        } catch (IOException e) {
+            logger.debug("Could not persist process registry: {}", e.getMessage());
+        }
+    }
+
+    private static Properties readRegistry(File registry) {
+        Properties entries = new Properties();
+        try (InputStream in = new FileInputStream(registry)) {
+            entries.load(in);
+            return entries;
+        } catch (IOException e) {
+            logger.debug("Could not read process registry {}: {}", registry, e.getMessage());
+            return null;
+        }
+    }
+
+    private static Path registryFile() {
+        return Paths.get(FrameworkConstants.PROCESS_REGISTRY_PATH, ProcessHandle.current().pid() + REGISTRY_SUFFIX);
+    }
+
+    /**
+     * Check if the owning JVM ("pid:startMillis") of a registry may still be running.
+     * An unknown start time counts as running, so another run's processes are never reaped by mistake.
+     */
+    private static boolean isAlive(String owner) {
+        String[] parts = owner.split(":");
+        if (parts.length != 2) {
+            return false;
+        }
+        try {
+            long pid = Long.parseLong(parts[0]);
+            long expectedStart = Long.parseLong(parts[1]);
+            ProcessHandle process = ProcessHandle.of(pid).filter(ProcessHandle::isAlive).orElse(null);
+            if (process == null) {
+                return false;
+            }
+            long actualStart = startMillis(process);
+            return expectedStart <= 0 || actualStart <= 0 || Math.abs(actualStart - expectedStart) <= 1000;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Find a live process with the given PID and start time
+     * @return Process handle, or null if gone, the PID was reused or either start time is unknown
+     */
+    private static ProcessHandle matchingProcess(long pid, long expectedStart) {
+        ProcessHandle process = ProcessHandle.of(pid).orElse(null);
+        if (process == null || !process.isAlive()) {
+            return null;
+        }
+        long actualStart = startMillis(process);
+        if (expectedStart <= 0 || actualStart <= 0 || Math.abs(actualStart - expectedStart) > 1000) {
+            return null; // Cannot prove it is ours
+        }
+        return process;
+    }
+
+    /**
+     * Check if a process was started with the given --port (chromedriver/msedgedriver/geckodriver)
+     */
+    private static boolean hasPortArgument(ProcessHandle process, String port) {
+        ProcessHandle.Info info = process.info();
+        String[] args = info.arguments().orElse(null);
+        if (args != null) {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--port=" + port)
+                        || (args[i].equals("--port") && i + 1 < args.length && args[i + 1].equals(port))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return info.commandLine()
+                .map(line -> line.matches(".*--port[= ]" + port + "(\\s.*)?"))
+                .orElse(false);
+    }
+
+    private static List<ProcessHandle> treeOf(ProcessHandle root) {
+        List<ProcessHandle> tree = root.descendants().collect(Collectors.toList());
+        tree.add(root);
+        return tree;
+    }
+
+    private static long startMillis(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli).orElse(-1L);
+    }
+
+    /**
+     * Read resident set size from /proc (Linux only)
+     * @return RSS in bytes, 0 if unavailable
+     */
+    private static long residentBytes(ProcessHandle process) {
+        Path status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+        try {
+            for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (Exception ignored) {
+            // Not Linux or process already gone
+        }
+        return 0;
+    }
+
+    private static Set<Long> childPids() {
+        return ProcessHandle.current().children()
+                .map(ProcessHandle::pid)
+                .collect(Collectors.toSet());
+    }
+}
@@ -1,5 +1,11 @@
 package org.example.core.driver;
 
+import org.example.config.ConfigLoader;
+import org.example.config.FrameworkConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * BrowserType - Enumeration of supported browser types.
  * Includes both standard and headless variants.
@@ -30,6 +36,60 @@ public enum BrowserType {
         return headless;
     }
 
+    /**
+     * Get the system property Selenium reads the driver binary path from
+     * @return Property name, or null if the browser ships its own driver (Safari)
+     */
+    public String getDriverSystemProperty() {
+        switch (browserName) {
+            case FrameworkConstants.BROWSER_CHROME:
+                return "webdriver.chrome.driver";
+            case FrameworkConstants.BROWSER_EDGE:
+                return "webdriver.edge.driver";
+            case FrameworkConstants.BROWSER_FIREFOX:
+                return "webdriver.gecko.driver";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Get resolved driver binary path. Resolved once per JVM via DriverBinaryCache
+     * and shared by pooled and parallel sessions.
+     * @return Driver binary path, or null for Safari
+     */
+    public String getDriverBinaryPath() {
+        return DriverBinaryCache.getInstance().resolve(this);
+    }
+
+    /**
+     * Get launch presets for this browser (browser.presets.&lt;name&gt; or browser.presets)
+     * @return Presets in configured order
+     */
+    public List<LaunchPreset> getLaunchPresets() {
+        List<LaunchPreset> presets = new ArrayList<>();
+        for (String name : ConfigLoader.getInstance().getBrowserPresets(browserName)) {
+            presets.add(LaunchPreset.fromString(name));
+        }
+        return presets;
+    }
+
+    /**
+     * Get merged launch settings (configured presets plus this type's headless flag)
+     * @return Launch settings
+     */
+    public LaunchPreset.Settings getLaunchSettings() {
+        return LaunchPreset.compose(getLaunchPresets(), headless);
+    }
+
+    /**
+     * Get network blocking profile for this browser (network.blocking.browser.&lt;name&gt; or network.blocking.profile)
+     * @return Profile name, "none" if nothing is blocked
+     */
+    public String getNetworkBlockingProfile() {
+        return ConfigLoader.getInstance().getNetworkBlockingProfile(browserName);
+    }
+
     /**
      * Get BrowserType from string name
      * @param browserName Browser name string
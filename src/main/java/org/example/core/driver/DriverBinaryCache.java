@@ -0,0 +1,274 @@
+package org.example.core.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.config.FrameworkConstants;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DriverBinaryCache - Resolves driver binaries (chromedriver, msedgedriver, geckodriver) once
+ * and reuses the result across sessions and runs.
+ *
+ * Resolution order:
+ * 1. In-memory result for this JVM (pooled/parallel sessions never resolve twice)
+ * 2. Persisted entry in target/driver-cache/driver-resolution.properties,
+ *    keyed by browser name and installed browser version
+ * 3. WebDriverManager setup() - skipped in strict offline mode (driver.resolution.offline=true)
+ *
+ * The resolved path is exported as the driver system property (e.g. webdriver.chrome.driver).
+ */
+public class DriverBinaryCache {
+
+    private static final Logger logger = LogManager.getLogger(DriverBinaryCache.class);
+    private static DriverBinaryCache instance;
+
+    private static final String CACHE_FILE_NAME = "driver-resolution.properties";
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+(\\.\\d+)+)");
+
+    private final boolean offline;
+    private final File cacheFile;
+    private final Properties persistedEntries;
+
+    // Browser name -> resolution of the driver path for this JVM. The task runs outside the map,
+    // so a download never blocks callers that hash to the same bin; concurrent callers for the
+    // same browser wait on the one task.
+    private final Map<String, FutureTask<String>> resolvedPaths;
+
+    // Metrics
+    private final AtomicLong resolutionTimeMillis = new AtomicLong(0);
+    private final AtomicInteger resolutionCount = new AtomicInteger(0);
+    private final AtomicInteger persistedHits = new AtomicInteger(0);
+
+    /**
+     * Private constructor - loads persisted cache entries
+     */
+    private DriverBinaryCache() {
+        this.offline = ConfigLoader.getInstance().isDriverResolutionOffline();
+        this.cacheFile = new File(FrameworkConstants.DRIVER_CACHE_PATH, CACHE_FILE_NAME);
+        this.persistedEntries = new Properties();
+        this.resolvedPaths = new ConcurrentHashMap<>();
+        loadPersistedEntries();
+    }
+
+    /**
+     * Get singleton instance
+     * @return DriverBinaryCache instance
+     */
+    public static synchronized DriverBinaryCache getInstance() {
+        if (instance == null) {
+            instance = new DriverBinaryCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Resolve driver binary for browser type. Resolution happens at most once per
+     * browser name per JVM; headless and headed variants share the result.
+     * @param browserType Browser type
+     * @return Absolute path to driver binary, or null for browsers without a managed driver (Safari)
+     */
+    public String resolve(BrowserType browserType) {
+        if (browserType.getDriverSystemProperty() == null) {
+            return null;
+        }
+        String browserName = browserType.getBrowserName();
+        FutureTask<String> task = new FutureTask<>(() -> resolveAndExport(browserType));
+        FutureTask<String> existing = resolvedPaths.putIfAbsent(browserName, task);
+        if (existing == null) {
+            existing = task;
+            task.run();
+        }
+
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while resolving driver for " + browserName, e);
+        } catch (ExecutionException e) {
+            // Failed resolutions are not cached - the next session tries again
+            resolvedPaths.remove(browserName, existing);
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new RuntimeException("Driver resolution failed for " + browserName, cause);
+        }
+    }
+
+    /**
+     * Get total time spent resolving driver binaries (cache lookups and downloads)
+     * @return Time in milliseconds
+     */
+    public long getResolutionTimeMillis() {
+        return resolutionTimeMillis.get();
+    }
+
+    /**
+     * Get number of resolutions performed in this JVM
+     * @return Resolution count
+     */
+    public int getResolutionCount() {
+        return resolutionCount.get();
+    }
+
+    /**
+     * Get number of resolutions served from the persisted cache
+     * @return Persisted cache hit count
+     */
+    public int getPersistedHits() {
+        return persistedHits.get();
+    }
+
+    // ==================== Internal Resolution ====================
+
+    private String resolveAndExport(BrowserType browserType) {
+        long start = System.currentTimeMillis();
+        String browserName = browserType.getBrowserName();
+        String systemProperty = browserType.getDriverSystemProperty();
+
+        try {
+            // Explicitly configured driver path always wins
+            String configuredPath = System.getProperty(systemProperty);
+            if (configuredPath != null && new File(configuredPath).isFile()) {
+                logger.info("Using configured {} = {}", systemProperty, configuredPath);
+                return configuredPath;
+            }
+
+            String browserVersion = detectBrowserVersion(browserName);
+            String cacheKey = browserName + "." + browserVersion;
+
+            String cachedPath = getPersistedEntry(cacheKey);
+            if (cachedPath != null && new File(cachedPath).isFile()) {
+                persistedHits.incrementAndGet();
+                System.setProperty(systemProperty, cachedPath);
+                logger.info("Driver for {} {} resolved from cache: {}", browserName, browserVersion, cachedPath);
+                return cachedPath;
+            }
+
+            if (offline) {
+                throw new IllegalStateException("Strict offline mode: no cached driver for " + browserName
+                        + " " + browserVersion + ". Run once online or set -D" + systemProperty + "=<path>");
+            }
+
+            WebDriverManager manager = WebDriverManager.getInstance(browserName);
+            manager.setup();
+            String driverPath = manager.getDownloadedDriverPath();
+            if (driverPath == null) {
+                throw new IllegalStateException("WebDriverManager did not resolve a driver for " + browserName);
+            }
+
+            System.setProperty(systemProperty, driverPath);
+            storePersistedEntry(cacheKey, driverPath);
+            logger.info("Driver for {} {} resolved via WebDriverManager: {} (version {})",
+                    browserName, browserVersion, driverPath, manager.getDownloadedDriverVersion());
+            return driverPath;
+
+        } finally {
+            long elapsed = System.currentTimeMillis() - start;
+            resolutionTimeMillis.addAndGet(elapsed);
+            resolutionCount.incrementAndGet();
+            logger.info("Driver resolution for {} took {} ms (total: {} ms)",
+                    browserName, elapsed, resolutionTimeMillis.get());
+        }
+    }
+
+    /**
+     * Detect installed browser version without network access.
+     * Uses "<browser> --version"; falls back to a fingerprint of the browser binary
+     * (size + last modified) where the binary does not print its version (e.g. Windows).
+     * @param browserName Browser name
+     * @return Version string or fingerprint, "unknown" if browser was not found
+     */
+    private String detectBrowserVersion(String browserName) {
+        Optional<Path> browserPath;
+        try {
+            browserPath = WebDriverManager.getInstance(browserName).getBrowserPath();
+        } catch (Exception e) {
+            logger.debug("Could not locate {} binary: {}", browserName, e.getMessage());
+            browserPath = Optional.empty();
+        }
+
+        if (browserPath.isEmpty()) {
+            return "unknown";
+        }
+
+        File browserFile = browserPath.get().toFile();
+        if (System.getProperty("os.name", "").toLowerCase().startsWith("windows")) {
+            // Windows browser binaries launch a window instead of printing --version
+            return "fp-" + browserFile.length() + "-" + browserFile.lastModified();
+        }
+
+        try {
+            Process process = new ProcessBuilder(browserFile.getAbsolutePath(), "--version")
+                    .redirectErrorStream(true)
+                    .start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String output = reader.readLine();
+                if (process.waitFor(5, TimeUnit.SECONDS) && output != null) {
+                    Matcher matcher = VERSION_PATTERN.matcher(output);
+                    if (matcher.find()) {
+                        return matcher.group(1);
+                    }
+                }
+            } finally {
+                process.destroy();
+            }
+        } catch (Exception e) {
+            logger.debug("Could not read {} version from shell: {}", browserName, e.getMessage());
+        }
+
+        return "fp-" + browserFile.length() + "-" + browserFile.lastModified();
+    }
+
+    // ==================== Persistence ====================
+
+    private synchronized void loadPersistedEntries() {
+        if (!cacheFile.exists()) {
+            return;
+        }
+        try (FileInputStream fis = new FileInputStream(cacheFile)) {
+            persistedEntries.load(fis);
+            logger.info("Driver resolution cache loaded: {} entries from {}", persistedEntries.size(), cacheFile);
+        } catch (IOException e) {
+            logger.warn("Could not read driver resolution cache {}: {}", cacheFile, e.getMessage());
+        }
+    }
+
+    private synchronized String getPersistedEntry(String cacheKey) {
+        return persistedEntries.getProperty(cacheKey);
+    }
+
+    private synchronized void storePersistedEntry(String cacheKey, String driverPath) {
+        persistedEntries.setProperty(cacheKey, driverPath);
+        File parent = cacheFile.getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+            logger.warn("Could not create driver cache directory: {}", parent);
+            return;
+        }
+        try (FileOutputStream fos = new FileOutputStream(cacheFile)) {
+            persistedEntries.store(fos, "Driver binary resolution cache (browser.version=driverPath)");
+        } catch (IOException e) {
+            logger.warn("Could not write driver resolution cache {}: {}", cacheFile, e.getMessage());
+        }
+    }
+}
@@ -1,25 +1,36 @@
 package org.example.core.driver;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.ConfigLoader;
 import org.example.config.FrameworkConstants;
+import org.example.core.wait.Quiescence;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
 import org.openqa.selenium.safari.SafariDriver;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * DriverFactory - Creates and configures WebDriver instances.
@@ -41,94 +52,91 @@ public class DriverFactory {
     public WebDriver createDriver() {
         String browser = config.getBrowser();
         boolean headless = config.isHeadless();
-        BrowserType browserType = BrowserType.fromString(browser, headless);
-
-        logger.info("Creating WebDriver for browser: {}", browserType);
-
-        WebDriver driver;
-
-        if (config.isGridExecution()) {
-            driver = createRemoteDriver(browserType);
-        } else {
-            driver = createLocalDriver(browserType);
-        }
-
-        configureDriver(driver);
-        return driver;
+        return createDriver(BrowserType.fromString(browser, headless));
     }
 
     /**
-     * Create WebDriver instance with specific browser type
+     * Create WebDriver instance with specific browser type and its configured launch presets
      * @param browserType Browser type enum
      * @return Configured WebDriver instance
      */
     public WebDriver createDriver(BrowserType browserType) {
-        logger.info("Creating WebDriver for browser: {}", browserType);
+        return createDriver(browserType, browserType.getLaunchSettings());
+    }
+
+    /**
+     * Create WebDriver instance with specific browser type and launch settings
+     * @param browserType Browser type enum
+     * @param launchSettings Merged launch presets
+     * @return Configured WebDriver instance
+     */
+    public WebDriver createDriver(BrowserType browserType, LaunchPreset.Settings launchSettings) {
+        logger.info("Creating WebDriver for browser: {} (presets: {})", browserType, launchSettings);
 
         WebDriver driver;
 
         if (config.isGridExecution()) {
-            driver = createRemoteDriver(browserType);
+            driver = createRemoteDriver(browserType, launchSettings);
         } else {
-            driver = createLocalDriver(browserType);
+            driver = createLocalDriver(browserType, launchSettings);
+            NetworkBlocker.apply(driver, browserType);
+            Quiescence.install(driver, browserType);
         }
 
-        configureDriver(driver);
+        configureDriver(driver, launchSettings);
         return driver;
     }
 
     /**
      * Create local WebDriver instance
      * @param browserType Browser type
+     * @param launchSettings Merged launch presets
      * @return WebDriver instance
      */
-    private WebDriver createLocalDriver(BrowserType browserType) {
+    private WebDriver createLocalDriver(BrowserType browserType, LaunchPreset.Settings launchSettings) {
         switch (browserType) {
             case CHROME:
             case CHROME_HEADLESS:
-                return createChromeDriver(browserType.isHeadless());
+                return createChromeDriver(launchSettings);
             case EDGE:
             case EDGE_HEADLESS:
-                return createEdgeDriver(browserType.isHeadless());
+                return createEdgeDriver(launchSettings);
             case FIREFOX:
             case FIREFOX_HEADLESS:
-                return createFirefoxDriver(browserType.isHeadless());
+                return createFirefoxDriver(launchSettings.isHeadless());
             case SAFARI:
                 return createSafariDriver();
             default:
                 logger.warn("Unknown browser type: {}. Defaulting to Chrome.", browserType);
-                return createChromeDriver(false);
+                return createChromeDriver(launchSettings);
         }
     }
 
     /**
      * Create Chrome WebDriver
-     * @param headless Whether to run in headless mode
+     * @param launchSettings Merged launch presets
      * @return ChromeDriver instance
      */
-    private WebDriver createChromeDriver(boolean headless) {
-        WebDriverManager.chromedriver().setup();
-
-        ChromeOptions options = new ChromeOptions();
-
-        if (headless) {
-            options.addArguments("--headless=new");
-        }
+    private WebDriver createChromeDriver(LaunchPreset.Settings launchSettings) {
+        Path profileDir = createProfileDir(BrowserType.CHROME, launchSettings,
+                templateDir -> launchChrome(launchSettings, templateDir, false));
+        WebDriver driver = launchChrome(launchSettings, profileDir, true);
+        logger.info("Chrome WebDriver created successfully (headless: {})", launchSettings.isHeadless());
+        return driver;
+    }
 
-        // Common Chrome options
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--disable-popup-blocking");
-        options.addArguments("--disable-infobars");
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--remote-allow-origins=*");
+    /**
+     * Start Chrome on a user-data-dir
+     * @param launchSettings Merged launch presets
+     * @param userDataDir Profile directory, or null for Chrome's default
+     * @param ownsProfile Whether the directory is deleted with the driver
+     * @return ChromeDriver instance
+     */
+    private WebDriver launchChrome(LaunchPreset.Settings launchSettings, Path userDataDir, boolean ownsProfile) {
+        String driverPath = BrowserType.CHROME.getDriverBinaryPath();
 
-        // Disable automation flags
-        options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
-        options.setExperimentalOption("useAutomationExtension", false);
+        ChromeOptions options = new ChromeOptions();
+        applyLaunchSettings(options, launchSettings, userDataDir);
 
         // Set download preferences
         Map<String, Object> prefs = new HashMap<>();
@@ -138,41 +146,91 @@ public class DriverFactory {
         prefs.put("password_manager_enabled", false);
         options.setExperimentalOption("prefs", prefs);
 
-        logger.info("Chrome WebDriver created successfully (headless: {})", headless);
-        return new ChromeDriver(options);
+        ChromeDriverService.Builder serviceBuilder = new ChromeDriverService.Builder();
+        if (driverPath != null) {
+            serviceBuilder.usingDriverExecutable(new File(driverPath));
+        }
+        return startTracked(serviceBuilder.build(), ownsProfile ? userDataDir : null,
+                service -> new ChromeDriver(service, options));
     }
 
     /**
      * Create Edge WebDriver
-     * @param headless Whether to run in headless mode
+     * @param launchSettings Merged launch presets
      * @return EdgeDriver instance
      */
-    private WebDriver createEdgeDriver(boolean headless) {
-        WebDriverManager.edgedriver().setup();
+    private WebDriver createEdgeDriver(LaunchPreset.Settings launchSettings) {
+        Path profileDir = createProfileDir(BrowserType.EDGE, launchSettings,
+                templateDir -> launchEdge(launchSettings, templateDir, false));
+        WebDriver driver = launchEdge(launchSettings, profileDir, true);
+        logger.info("Edge WebDriver created successfully (headless: {})", launchSettings.isHeadless());
+        return driver;
+    }
+
+    /**
+     * Start Edge on a user-data-dir
+     * @param launchSettings Merged launch presets
+     * @param userDataDir Profile directory, or null for Edge's default
+     * @param ownsProfile Whether the directory is deleted with the driver
+     * @return EdgeDriver instance
+     */
+    private WebDriver launchEdge(LaunchPreset.Settings launchSettings, Path userDataDir, boolean ownsProfile) {
+        String driverPath = BrowserType.EDGE.getDriverBinaryPath();
 
         EdgeOptions options = new EdgeOptions();
+        applyLaunchSettings(options, launchSettings, userDataDir);
 
-        if (headless) {
-            options.addArguments("--headless=new");
+        EdgeDriverService.Builder serviceBuilder = new EdgeDriverService.Builder();
+        if (driverPath != null) {
+            serviceBuilder.usingDriverExecutable(new File(driverPath));
         }
+        return startTracked(serviceBuilder.build(), ownsProfile ? userDataDir : null,
+                service -> new EdgeDriver(service, options));
+    }
 
-        // Common Edge options
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--disable-popup-blocking");
-        options.addArguments("--disable-infobars");
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--remote-allow-origins=*");
+    /**
+     * Apply launch preset arguments and automation flags shared by Chrome and Edge
+     * @param options Chrome or Edge options
+     * @param launchSettings Merged launch presets
+     * @param userDataDir Profile directory, or null for the browser's default
+     */
+    private void applyLaunchSettings(ChromiumOptions<?> options, LaunchPreset.Settings launchSettings, Path userDataDir) {
+        options.addArguments(launchSettings.getArguments());
 
         // Disable automation flags
         options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
         options.setExperimentalOption("useAutomationExtension", false);
 
-        logger.info("Edge WebDriver created successfully (headless: {})", headless);
-        return new EdgeDriver(options);
+        if (userDataDir != null) {
+            options.addArguments("--user-data-dir=" + userDataDir.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Create the per-session profile directory: a clone of the profile template when enabled,
+     * otherwise an empty temp directory if the presets ask for an isolated profile
+     * @param browserType Chrome or Edge
+     * @param launchSettings Merged launch presets
+     * @param primer Launches the browser on the template directory when it has to be built
+     * @return Profile directory, or null to use the browser's default profile
+     */
+    private Path createProfileDir(BrowserType browserType, LaunchPreset.Settings launchSettings,
+                                  Function<Path, WebDriver> primer) {
+        if (ProfileTemplate.isEnabled()) {
+            Path clone = ProfileTemplate.getInstance().cloneFor(browserType, primer);
+            if (clone != null) {
+                return clone;
+            }
+        }
+        if (!launchSettings.isIsolatedProfile()) {
+            return null;
+        }
+        try {
+            return Files.createTempDirectory(FrameworkConstants.BROWSER_PROFILE_PREFIX);
+        } catch (IOException e) {
+            logger.warn("Could not create isolated profile directory, using default profile: {}", e.getMessage());
+            return null;
+        }
     }
 
     /**
@@ -181,7 +239,7 @@ public class DriverFactory {
      * @return FirefoxDriver instance
      */
     private WebDriver createFirefoxDriver(boolean headless) {
-        WebDriverManager.firefoxdriver().setup();
+        String driverPath = BrowserType.FIREFOX.getDriverBinaryPath();
 
         FirefoxOptions options = new FirefoxOptions();
 
@@ -199,8 +257,44 @@ public class DriverFactory {
         options.addPreference("browser.helperApps.neverAsk.saveToDisk", "application/pdf,application/octet-stream");
         options.addPreference("pdfjs.disabled", true);
 
+        GeckoDriverService.Builder serviceBuilder = new GeckoDriverService.Builder();
+        if (driverPath != null) {
+            serviceBuilder.usingDriverExecutable(new File(driverPath));
+        }
+        WebDriver driver = startTracked(serviceBuilder.build(), null, service -> new FirefoxDriver(service, options));
         logger.info("Firefox WebDriver created successfully (headless: {})", headless);
-        return new FirefoxDriver(options);
+        return driver;
+    }
+
+    /**
+     * Start a driver service explicitly so its process can be tracked (and force-killed by
+     * DriverWatchdog if the session hangs), then create the driver on top of it
+     * @param service Driver service (not yet started)
+     * @param profileDir Temporary profile directory deleted with the driver (may be null)
+     * @param launcher Creates the driver from the started service
+     * @return WebDriver instance
+     */
+    private <S extends DriverService> WebDriver startTracked(S service, Path profileDir, Function<S, WebDriver> launcher) {
+        ProcessHandle serviceProcess;
+        try {
+            serviceProcess = BrowserProcessTracker.startService(service);
+        } catch (IOException e) {
+            BrowserProcessTracker.deleteProfileDir(profileDir);
+            logger.error("Failed to start driver service: {}", e.getMessage());
+            throw new RuntimeException("Failed to start driver service", e);
+        }
+
+        WebDriver driver;
+        try {
+            driver = launcher.apply(service);
+        } catch (RuntimeException e) {
+            service.stop();
+            BrowserProcessTracker.deleteProfileDir(profileDir);
+            throw e;
+        }
+        BrowserProcessTracker.register(driver, serviceProcess, service.getUrl());
+        BrowserProcessTracker.attachProfileDir(driver, profileDir);
+        return driver;
     }
 
     /**
@@ -215,52 +309,52 @@ public class DriverFactory {
     /**
      * Create Remote WebDriver for Grid execution
      * @param browserType Browser type
+     * @param launchSettings Merged launch presets (isolated profiles are left to the node)
      * @return RemoteWebDriver instance
      */
-    private WebDriver createRemoteDriver(BrowserType browserType) {
+    private WebDriver createRemoteDriver(BrowserType browserType, LaunchPreset.Settings launchSettings) {
         String gridUrl = config.getGridUrl();
 
         try {
             URL hubUrl = new URL(gridUrl);
+            Capabilities options;
 
             switch (browserType) {
                 case CHROME:
                 case CHROME_HEADLESS:
                     ChromeOptions chromeOptions = new ChromeOptions();
-                    if (browserType.isHeadless()) {
-                        chromeOptions.addArguments("--headless=new");
-                    }
-                    chromeOptions.addArguments("--start-maximized");
-                    chromeOptions.addArguments("--no-sandbox");
-                    chromeOptions.addArguments("--disable-dev-shm-usage");
-                    logger.info("Remote Chrome WebDriver created for Grid: {}", gridUrl);
-                    return new RemoteWebDriver(hubUrl, chromeOptions);
+                    chromeOptions.addArguments(launchSettings.getArguments());
+                    options = chromeOptions;
+                    break;
 
                 case EDGE:
                 case EDGE_HEADLESS:
                     EdgeOptions edgeOptions = new EdgeOptions();
-                    if (browserType.isHeadless()) {
-                        edgeOptions.addArguments("--headless=new");
-                    }
-                    edgeOptions.addArguments("--start-maximized");
-                    logger.info("Remote Edge WebDriver created for Grid: {}", gridUrl);
-                    return new RemoteWebDriver(hubUrl, edgeOptions);
+                    edgeOptions.addArguments(launchSettings.getArguments());
+                    options = edgeOptions;
+                    break;
 
                 case FIREFOX:
                 case FIREFOX_HEADLESS:
                     FirefoxOptions firefoxOptions = new FirefoxOptions();
-                    if (browserType.isHeadless()) {
+                    if (launchSettings.isHeadless()) {
                         firefoxOptions.addArguments("--headless");
                     }
-                    logger.info("Remote Firefox WebDriver created for Grid: {}", gridUrl);
-                    return new RemoteWebDriver(hubUrl, firefoxOptions);
+                    options = firefoxOptions;
+                    break;
 
                 default:
                     ChromeOptions defaultOptions = new ChromeOptions();
-                    defaultOptions.addArguments("--start-maximized");
-                    logger.info("Remote Chrome WebDriver (default) created for Grid: {}", gridUrl);
-                    return new RemoteWebDriver(hubUrl, defaultOptions);
+                    defaultOptions.addArguments(launchSettings.getArguments());
+                    options = defaultOptions;
+                    break;
             }
+
+            // Wait for a free Grid slot instead of failing when the grid is saturated
+            WebDriver driver = GridCapacityClient.getInstance()
+                    .acquireSession(options.getBrowserName(), () -> new RemoteWebDriver(hubUrl, options));
+            logger.info("Remote {} WebDriver created for Grid: {}", options.getBrowserName(), gridUrl);
+            return driver;
         } catch (MalformedURLException e) {
             logger.error("Invalid Grid URL: {}", gridUrl);
             throw new RuntimeException("Invalid Grid URL: " + gridUrl, e);
@@ -270,18 +364,20 @@ public class DriverFactory {
     /**
      * Configure WebDriver with timeouts
      * @param driver WebDriver instance
+     * @param launchSettings Merged launch presets
      */
-    private void configureDriver(WebDriver driver) {
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
+    private void configureDriver(WebDriver driver, LaunchPreset.Settings launchSettings) {
+        // Implicit wait stays 0: it would be multiplied into every WaitEngine poll
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
         driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(FrameworkConstants.DEFAULT_SCRIPT_TIMEOUT));
 
-        // Maximize window only for non-headless mode
-        if (!config.isHeadless()) {
+        // Maximize window only when the presets ask for it (never headless - fixed window size instead)
+        if (launchSettings.isMaximized()) {
             driver.manage().window().maximize();
         }
 
-        logger.info("WebDriver configured with implicit wait: {}s, page load timeout: {}s",
-                config.getImplicitWait(), config.getPageLoadTimeout());
+        logger.info("WebDriver configured with implicit wait: 0s, page load timeout: {}s",
+                config.getPageLoadTimeout());
     }
 }
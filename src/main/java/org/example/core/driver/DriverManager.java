@@ -2,11 +2,20 @@ package org.example.core.driver;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
 import org.openqa.selenium.WebDriver;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * DriverManager - Manages WebDriver lifecycle using ThreadLocal.
  * Ensures thread-safe driver management for parallel test execution.
+ * When driver.pool.enabled=true, drivers are leased from and returned to DriverPool.
+ * Every driver bound to a thread is watched by DriverWatchdog; a session marked hung is
+ * transparently replaced on the owning thread's next getDriver() call.
+ * In multi-tab mode (openTabWorker) the thread's driver routes to its own tab of a shared browser.
  */
 public class DriverManager {
 
@@ -14,19 +23,112 @@ public class DriverManager {
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<String> browserNameThreadLocal = new ThreadLocal<>();
 
+    // Thread's own driver, parked while the thread runs as a tab worker
+    private static final ThreadLocal<WebDriver> suspendedDriverThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> suspendedBrowserNameThreadLocal = new ThreadLocal<>();
+
+    // Driver being created in the background, claimed by the first thread that needs a browser
+    private static final AtomicReference<PendingDriver> pendingDriver = new AtomicReference<>();
+
+    /**
+     * PendingDriver - Inner class holding a background driver creation and its browser type
+     */
+    private static class PendingDriver {
+        private final BrowserType browserType;
+        private final CompletableFuture<WebDriver> future;
+
+        PendingDriver(BrowserType browserType, CompletableFuture<WebDriver> future) {
+            this.browserType = browserType;
+            this.future = future;
+        }
+    }
+
     private DriverManager() {
         // Private constructor to prevent instantiation
     }
 
+    /**
+     * Start creating a WebDriver in the background. The driver is bound to the first
+     * thread that calls initDriver()/getDriver() with the same browser type.
+     * @param browserType Browser type enum
+     * @param executor Executor to create the driver on
+     * @return Future completing with the created driver
+     */
+    public static CompletableFuture<WebDriver> initDriverAsync(BrowserType browserType, Executor executor) {
+        CompletableFuture<WebDriver> future = CompletableFuture.supplyAsync(() -> createDriver(browserType), executor);
+        PendingDriver previous = pendingDriver.getAndSet(new PendingDriver(browserType, future));
+        if (previous != null) {
+            discardPending(previous);
+        }
+        logger.info("WebDriver ({}) creation started in background", browserType);
+        return future;
+    }
+
+    /**
+     * Check if a background driver creation is waiting to be claimed
+     * @return true if a pending driver exists
+     */
+    public static boolean hasPendingDriver() {
+        return pendingDriver.get() != null;
+    }
+
+    /**
+     * Create a driver from the pool or factory
+     * @param browserType Browser type enum
+     * @return WebDriver instance
+     */
+    private static WebDriver createDriver(BrowserType browserType) {
+        return DriverPool.isEnabled()
+                ? DriverPool.getInstance().lease(browserType)
+                : new DriverFactory().createDriver(browserType);
+    }
+
+    /**
+     * Claim the pending background driver if it matches the requested browser type,
+     * otherwise create a new one on the calling thread
+     * @param browserType Browser type enum
+     * @return WebDriver instance
+     */
+    private static WebDriver acquireDriver(BrowserType browserType) {
+        PendingDriver pending = pendingDriver.get();
+        if (pending != null && pending.browserType == browserType && pendingDriver.compareAndSet(pending, null)) {
+            long start = System.currentTimeMillis();
+            try {
+                WebDriver driver = pending.future.join();
+                logger.info("Joined background WebDriver ({}) after waiting {} ms",
+                        browserType, System.currentTimeMillis() - start);
+                return driver;
+            } catch (Exception e) {
+                logger.warn("Background WebDriver creation failed, creating on current thread: {}", e.getMessage());
+            }
+        }
+        return createDriver(browserType);
+    }
+
+    /**
+     * Quit a pending driver that was never claimed
+     * @param pending Pending driver
+     */
+    private static void discardPending(PendingDriver pending) {
+        pending.future.whenComplete((driver, error) -> {
+            if (driver != null) {
+                try { driver.quit(); } catch (Exception ignored) { }
+                BrowserProcessTracker.unregister(driver);
+                logger.info("Unclaimed background WebDriver closed");
+            }
+        });
+    }
+
     /**
      * Initialize WebDriver for current thread
      */
     public static void initDriver() {
         if (driverThreadLocal.get() == null) {
-            DriverFactory factory = new DriverFactory();
-            WebDriver driver = factory.createDriver();
+            ConfigLoader config = ConfigLoader.getInstance();
+            WebDriver driver = acquireDriver(BrowserType.fromString(config.getBrowser(), config.isHeadless()));
             driverThreadLocal.set(driver);
             browserNameThreadLocal.set(driver.getClass().getSimpleName());
+            DriverWatchdog.getInstance().register(driver);
             logger.info("WebDriver initialized for thread: {}", Thread.currentThread().getName());
         } else {
             logger.warn("WebDriver already initialized for thread: {}", Thread.currentThread().getName());
@@ -39,10 +141,10 @@ public class DriverManager {
      */
     public static void initDriver(BrowserType browserType) {
         if (driverThreadLocal.get() == null) {
-            DriverFactory factory = new DriverFactory();
-            WebDriver driver = factory.createDriver(browserType);
+            WebDriver driver = acquireDriver(browserType);
             driverThreadLocal.set(driver);
             browserNameThreadLocal.set(browserType.toString());
+            DriverWatchdog.getInstance().register(driver);
             logger.info("WebDriver ({}) initialized for thread: {}", browserType, Thread.currentThread().getName());
         } else {
             logger.warn("WebDriver already initialized for thread: {}", Thread.currentThread().getName());
@@ -66,9 +168,19 @@ public class DriverManager {
     public static WebDriver getDriver() {
         WebDriver driver = driverThreadLocal.get();
         if (driver == null) {
-            logger.warn("WebDriver not initialized for thread: {}. Initializing now.", Thread.currentThread().getName());
+            if (hasPendingDriver()) {
+                logger.info("Claiming background WebDriver for thread: {}", Thread.currentThread().getName());
+            } else {
+                logger.warn("WebDriver not initialized for thread: {}. Initializing now.", Thread.currentThread().getName());
+            }
             initDriver();
             driver = driverThreadLocal.get();
+        } else if (DriverWatchdog.getInstance().isHung(driver)) {
+            logger.warn("WebDriver for thread {} was marked hung by watchdog. Recycling.", Thread.currentThread().getName());
+            ConfigLoader config = ConfigLoader.getInstance();
+            reinitializeDriver(config.getBrowser(), config.isHeadless());
+            DriverWatchdog.getInstance().recordRecycled();
+            driver = driverThreadLocal.get();
         }
         return driver;
     }
@@ -82,18 +194,14 @@ public class DriverManager {
     }
 
     /**
-     * Check if WebDriver is alive and responsive (window not closed/crashed).
+     * Check if WebDriver is alive and responsive (window not closed/crashed/hung).
+     * The heartbeat is bounded by driver.watchdog.timeout, so a wedged browser cannot block the caller.
      * @return true if driver is alive and can accept commands
      */
     public static boolean isDriverAlive() {
-        try {
-            WebDriver driver = driverThreadLocal.get();
-            if (driver == null) return false;
-            driver.getWindowHandle();
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        WebDriver driver = driverThreadLocal.get();
+        if (driver == null) return false;
+        return DriverWatchdog.getInstance().heartbeat(driver);
     }
 
     /**
@@ -102,10 +210,27 @@ public class DriverManager {
      */
     public static void reinitializeDriver(String browserName, boolean headless) {
         logger.warn("Reinitializing WebDriver...");
+        if (isTabWorker()) {
+            // Replace only this worker's tab; the shared browser stays up
+            TabHost.getInstance().closeTab(driverThreadLocal.get());
+            driverThreadLocal.set(TabHost.getInstance().openTab());
+            logger.info("Worker tab reopened");
+            return;
+        }
         try {
             WebDriver oldDriver = driverThreadLocal.get();
             if (oldDriver != null) {
-                try { oldDriver.quit(); } catch (Exception ignored) { }
+                if (DriverWatchdog.getInstance().hasPendingHeartbeat(oldDriver)) {
+                    // Unanswered beat: quit() would queue behind the same stuck command
+                    BrowserProcessTracker.killProcessTree(oldDriver);
+                }
+                DriverWatchdog.getInstance().unregister(oldDriver);
+                if (DriverPool.isEnabled()) {
+                    DriverPool.getInstance().discard(oldDriver);
+                } else {
+                    try { oldDriver.quit(); } catch (Exception ignored) { }
+                    BrowserProcessTracker.unregister(oldDriver);
+                }
                 driverThreadLocal.remove();
                 browserNameThreadLocal.remove();
             }
@@ -118,6 +243,67 @@ public class DriverManager {
         logger.info("WebDriver reinitialized successfully");
     }
 
+    // ==================== Multi-Tab Mode ====================
+
+    /**
+     * Bind the current thread to a new tab of the shared TabHost browser. The thread's own driver
+     * (if any) is parked and restored by closeTabWorker(). No-op unless multitab.enabled=true.
+     */
+    public static void openTabWorker() {
+        if (!ConfigLoader.getInstance().isMultiTabEnabled()) {
+            logger.debug("Multi-tab mode disabled (multitab.enabled=false) - using the thread's own browser");
+            return;
+        }
+        if (isTabWorker()) {
+            logger.warn("Thread {} is already a tab worker", Thread.currentThread().getName());
+            return;
+        }
+        WebDriver tabDriver = TabHost.getInstance().openTab();
+        suspendedDriverThreadLocal.set(driverThreadLocal.get());
+        suspendedBrowserNameThreadLocal.set(browserNameThreadLocal.get());
+        driverThreadLocal.set(tabDriver);
+        browserNameThreadLocal.set("tab");
+        logger.info("Thread {} running as tab worker", Thread.currentThread().getName());
+    }
+
+    /**
+     * Close the current thread's tab and restore its own driver
+     */
+    public static void closeTabWorker() {
+        WebDriver driver = driverThreadLocal.get();
+        if (!TabHost.isTabDriver(driver)) {
+            return;
+        }
+        try {
+            driver.quit(); // Closes only the tab
+        } catch (Exception e) {
+            logger.warn("Error closing worker tab: {}", e.getMessage());
+        } finally {
+            restoreSuspendedDriver();
+        }
+    }
+
+    /**
+     * Check if the current thread is bound to a shared-browser tab
+     * @return true if running as tab worker
+     */
+    public static boolean isTabWorker() {
+        return TabHost.isTabDriver(driverThreadLocal.get());
+    }
+
+    private static void restoreSuspendedDriver() {
+        WebDriver suspended = suspendedDriverThreadLocal.get();
+        if (suspended != null) {
+            driverThreadLocal.set(suspended);
+            browserNameThreadLocal.set(suspendedBrowserNameThreadLocal.get());
+        } else {
+            driverThreadLocal.remove();
+            browserNameThreadLocal.remove();
+        }
+        suspendedDriverThreadLocal.remove();
+        suspendedBrowserNameThreadLocal.remove();
+    }
+
     /**
      * Get browser name for current thread
      * @return Browser name
@@ -127,14 +313,26 @@ public class DriverManager {
     }
 
     /**
-     * Quit WebDriver and remove from ThreadLocal
+     * Quit WebDriver and remove from ThreadLocal.
+     * Pooled drivers are reset and returned to DriverPool instead of quitting.
      */
     public static void quitDriver() {
         WebDriver driver = driverThreadLocal.get();
+        if (TabHost.isTabDriver(driver)) {
+            closeTabWorker();
+            return;
+        }
         if (driver != null) {
+            DriverWatchdog.getInstance().unregister(driver);
             try {
-                driver.quit();
-                logger.info("WebDriver quit successfully for thread: {}", Thread.currentThread().getName());
+                if (DriverPool.isEnabled()) {
+                    DriverPool.getInstance().release(driver);
+                    logger.info("WebDriver returned to pool for thread: {}", Thread.currentThread().getName());
+                } else {
+                    driver.quit();
+                    BrowserProcessTracker.unregister(driver);
+                    logger.info("WebDriver quit successfully for thread: {}", Thread.currentThread().getName());
+                }
             } catch (Exception e) {
                 logger.error("Error quitting WebDriver: {}", e.getMessage());
             } finally {
@@ -146,6 +344,18 @@ public class DriverManager {
         }
     }
 
+    /**
+     * Quit all pooled sessions, the shared tab host and any unclaimed background driver (call once at suite teardown)
+     */
+    public static void shutdownPool() {
+        PendingDriver pending = pendingDriver.getAndSet(null);
+        if (pending != null) {
+            discardPending(pending);
+        }
+        DriverPool.shutdownIfStarted();
+        TabHost.shutdownIfStarted();
+    }
+
     /**
      * Close current window (not quit driver)
      */
@@ -0,0 +1,472 @@
+package org.example.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DriverPool - Pool of pre-spawned WebDriver sessions with lease/return semantics.
+ * Browsers are started in the background so test methods only pay the launch cost once.
+ *
+ * Lifecycle:
+ * - lease(): hands out an idle, healthy session. While all driver.pool.size sessions are leased it
+ *   waits up to driver.pool.lease.timeout for a release, then creates an overflow session
+ * - release(): resets cookies, storage and extra tabs, then returns the session to the pool.
+ *   Storage is cleared for every origin the session used (Chrome/Edge record navigations via CDP;
+ *   base.url and driver.pool.reset.origins are always included), not only the current page's origin.
+ *   A session that would grow the pool beyond driver.pool.size (overflow) is quit instead
+ * - A session is retired after driver.pool.max.uses leases or a failed health check,
+ *   and a replacement is spawned in the background
+ *
+ * Enabled with driver.pool.enabled=true. DriverManager uses the pool transparently.
+ */
+public class DriverPool {
+
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+    private static DriverPool instance;
+
+    private final int poolSize;
+    private final int maxUses;
+    private final int leaseTimeoutSeconds;
+
+    // Idle sessions per browser type
+    private final Map<BrowserType, BlockingQueue<PooledSession>> idleSessions;
+
+    // Sessions currently leased out: driver -> session
+    private final Map<WebDriver, PooledSession> leasedSessions;
+
+    // Sessions being spawned per browser type (counted towards pool size)
+    private final Map<BrowserType, AtomicInteger> pendingSpawns;
+
+    private final ExecutorService spawnExecutor;
+    private volatile boolean shutdown = false;
+
+    /**
+     * PooledSession - Inner class holding a pooled driver and its usage count
+     */
+    private static class PooledSession {
+        private final WebDriver driver;
+        private final BrowserType browserType;
+        // Origins navigated to since the last reset (Chromium only)
+        private final Set<String> origins = ConcurrentHashMap.newKeySet();
+        private int uses;
+
+        PooledSession(WebDriver driver, BrowserType browserType) {
+            this.driver = driver;
+            this.browserType = browserType;
+            trackOrigins(this);
+        }
+
+        boolean isChromium() {
+            return (browserType.isChrome() || browserType.isEdge()) && driver instanceof HasDevTools;
+        }
+    }
+
+    /**
+     * Private constructor - reads pool configuration
+     */
+    private DriverPool() {
+        ConfigLoader config = ConfigLoader.getInstance();
+        this.poolSize = Math.max(1, config.getDriverPoolSize());
+        this.maxUses = Math.max(1, config.getDriverPoolMaxUses());
+        this.leaseTimeoutSeconds = config.getDriverPoolLeaseTimeout();
+        this.idleSessions = new ConcurrentHashMap<>();
+        this.leasedSessions = new ConcurrentHashMap<>();
+        this.pendingSpawns = new ConcurrentHashMap<>();
+
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        this.spawnExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        logger.info("DriverPool created (size: {}, max uses: {}, lease timeout: {}s)",
+                poolSize, maxUses, leaseTimeoutSeconds);
+    }
+
+    /**
+     * Get singleton instance
+     * @return DriverPool instance
+     */
+    public static synchronized DriverPool getInstance() {
+        if (instance == null) {
+            instance = new DriverPool();
+        }
+        return instance;
+    }
+
+    /**
+     * Check if pooling is enabled in configuration
+     * @return true if driver.pool.enabled=true
+     */
+    public static boolean isEnabled() {
+        return ConfigLoader.getInstance().isDriverPoolEnabled();
+    }
+
+    // ==================== Lease / Return ====================
+
+    /**
+     * Pre-spawn sessions in the background until the pool is full for this browser type
+     * @param browserType Browser type
+     */
+    public synchronized void warmUp(BrowserType browserType) {
+        if (shutdown) {
+            return;
+        }
+        int missing = poolSize - getIdleCount(browserType) - pendingFor(browserType).get()
+                - getLeasedCount(browserType);
+        for (int i = 0; i < missing; i++) {
+            spawnAsync(browserType);
+        }
+        if (missing > 0) {
+            logger.info("Warming up {} {} session(s) in background", missing, browserType);
+        }
+    }
+
+    /**
+     * Lease a healthy session. Waits for a background spawn if one is in flight, or for a release
+     * while the pool is fully leased, otherwise creates a new session on the calling thread.
+     * @param browserType Browser type
+     * @return WebDriver instance owned by the caller until release()
+     */
+    public WebDriver lease(BrowserType browserType) {
+        if (shutdown) {
+            throw new IllegalStateException("DriverPool has been shut down");
+        }
+
+        warmUp(browserType);
+        BlockingQueue<PooledSession> queue = idleFor(browserType);
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(leaseTimeoutSeconds);
+
+        while (true) {
+            PooledSession session = null;
+            try {
+                // Wait in short slices so a failed background spawn does not block for the full timeout
+                while (session == null && System.currentTimeMillis() < deadline
+                        && (pendingFor(browserType).get() > 0 || !queue.isEmpty()
+                            || getLeasedCount(browserType) >= poolSize)) {
+                    session = queue.poll(1, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (session == null) {
+                logger.warn("No pooled {} session available - creating one on thread: {}",
+                        browserType, Thread.currentThread().getName());
+                session = new PooledSession(new DriverFactory().createDriver(browserType), browserType);
+                return checkOut(session);
+            }
+
+            if (isHealthy(session.driver)) {
+                return checkOut(session);
+            }
+
+            logger.warn("Pooled {} session failed health check - retiring", browserType);
+            retire(session);
+        }
+    }
+
+    /**
+     * Return a leased session. The session is reset and made available again,
+     * or retired if it reached max uses or could not be reset.
+     * @param driver Driver previously returned by lease()
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            logger.warn("Released driver is not managed by the pool - quitting it");
+            quitQuietly(driver);
+            return;
+        }
+
+        if (shutdown || session.uses >= maxUses) {
+            logger.info("Retiring {} session after {} use(s)", session.browserType, session.uses);
+            retire(session);
+            return;
+        }
+
+        if (getIdleCount(session.browserType) + getLeasedCount(session.browserType)
+                + pendingFor(session.browserType).get() >= poolSize) {
+            logger.info("Pool full for {} - quitting overflow session", session.browserType);
+            quitQuietly(session.driver);
+            return;
+        }
+
+        if (!resetSession(session)) {
+            logger.warn("Could not reset {} session - retiring", session.browserType);
+            retire(session);
+            return;
+        }
+
+        idleFor(session.browserType).offer(session);
+        logger.debug("{} session returned to pool ({} use(s))", session.browserType, session.uses);
+    }
+
+    /**
+     * Discard a leased session without returning it (e.g., crashed or closed browser).
+     * A replacement is spawned in the background.
+     * @param driver Driver previously returned by lease()
+     */
+    public void discard(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            quitQuietly(driver);
+            return;
+        }
+        retire(session);
+    }
+
+    /**
+     * Check if a driver was leased from this pool
+     * @param driver WebDriver instance
+     * @return true if leased from the pool
+     */
+    public boolean isLeased(WebDriver driver) {
+        return driver != null && leasedSessions.containsKey(driver);
+    }
+
+    /**
+     * Quit all idle and leased sessions and stop background spawning
+     */
+    public void shutdown() {
+        shutdown = true;
+        spawnExecutor.shutdownNow();
+
+        List<PooledSession> sessions = new ArrayList<>(leasedSessions.values());
+        leasedSessions.clear();
+        for (BlockingQueue<PooledSession> queue : idleSessions.values()) {
+            queue.drainTo(sessions);
+        }
+
+        for (PooledSession session : sessions) {
+            quitQuietly(session.driver);
+        }
+        logger.info("DriverPool shut down - {} session(s) closed", sessions.size());
+    }
+
+    /**
+     * Shut down the pool if it was ever created
+     */
+    public static synchronized void shutdownIfStarted() {
+        if (instance != null) {
+            instance.shutdown();
+            instance = null;
+        }
+    }
+
+    /**
+     * Get number of idle sessions for browser type
+     * @param browserType Browser type
+     * @return Idle session count
+     */
+    public int getIdleCount(BrowserType browserType) {
+        return idleFor(browserType).size();
+    }
+
+    /**
+     * Get number of sessions currently leased out
+     * @return Leased session count
+     */
+    public int getLeasedCount() {
+        return leasedSessions.size();
+    }
+
+    /**
+     * Get number of sessions of a browser type currently leased out
+     * @param browserType Browser type
+     * @return Leased session count
+     */
+    public int getLeasedCount(BrowserType browserType) {
+        return (int) leasedSessions.values().stream()
+                .filter(session -> session.browserType == browserType)
+                .count();
+    }
+
+    // ==================== Internal Helpers ====================
+
+    private WebDriver checkOut(PooledSession session) {
+        session.uses++;
+        leasedSessions.put(session.driver, session);
+        logger.info("Leased {} session (use {} of {}) to thread: {}",
+                session.browserType, session.uses, maxUses, Thread.currentThread().getName());
+        return session.driver;
+    }
+
+    private void retire(PooledSession session) {
+        quitQuietly(session.driver);
+        warmUp(session.browserType);
+    }
+
+    private void spawnAsync(BrowserType browserType) {
+        AtomicInteger pending = pendingFor(browserType);
+        pending.incrementAndGet();
+        try {
+            spawnExecutor.submit(() -> {
+                try {
+                    long start = System.currentTimeMillis();
+                    WebDriver driver = new DriverFactory().createDriver(browserType);
+                    if (shutdown) {
+                        quitQuietly(driver);
+                        return;
+                    }
+                    idleFor(browserType).offer(new PooledSession(driver, browserType));
+                    logger.info("Pooled {} session ready in {} ms", browserType, System.currentTimeMillis() - start);
+                } catch (Exception e) {
+                    logger.error("Failed to spawn pooled {} session: {}", browserType, e.getMessage());
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (Exception e) {
+            pending.decrementAndGet();
+            logger.debug("Pool spawn rejected: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reset a session to a clean state: cookies and web storage of every used origin, extra tabs, blank page
+     * @param session Pooled session
+     * @return true if reset succeeded
+     */
+    private boolean resetSession(PooledSession session) {
+        WebDriver driver = session.driver;
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            String mainHandle = handles.get(0);
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i)).close();
+            }
+            driver.switchTo().window(mainHandle);
+            driver.switchTo().defaultContent();
+
+            Set<String> origins = new LinkedHashSet<>();
+            addOrigin(origins, driver.getCurrentUrl());
+            origins.addAll(session.origins);
+            for (String url : ConfigLoader.getInstance().getDriverPoolResetOrigins()) {
+                addOrigin(origins, url);
+            }
+
+            if (session.isChromium()) {
+                clearOriginsViaCdp(driver, origins);
+            } else {
+                // No CDP: storage is per origin, so visit each one and clear it there
+                for (String origin : origins) {
+                    driver.get(origin);
+                    clearCurrentOrigin(driver);
+                }
+            }
+            driver.get("about:blank");
+            session.origins.clear();
+            return true;
+        } catch (Exception e) {
+            logger.debug("Session reset failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void clearOriginsViaCdp(WebDriver driver, Set<String> origins) {
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(new Command<>("Network.clearBrowserCookies", new HashMap<>()));
+        for (String origin : origins) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("origin", origin);
+            params.put("storageTypes", "all");
+            devTools.send(new Command<>("Storage.clearDataForOrigin", params));
+        }
+        logger.debug("Cleared storage for {} origin(s): {}", origins.size(), origins);
+    }
+
+    private void clearCurrentOrigin(WebDriver driver) {
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); } catch (e) {}" +
+                "try { window.sessionStorage.clear(); } catch (e) {}");
+    }
+
+    /**
+     * Record every origin the session navigates to, so release() can clear all of them (Chromium only)
+     * @param session Pooled session
+     */
+    private static void trackOrigins(PooledSession session) {
+        if (!session.isChromium()) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) session.driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(new Event<>("Page.frameNavigated", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                    params -> {
+                        Object frame = params.get("frame");
+                        if (frame instanceof Map) {
+                            addOrigin(session.origins, String.valueOf(((Map<?, ?>) frame).get("url")));
+                        }
+                    });
+            devTools.send(new Command<>("Page.enable", new HashMap<>()));
+        } catch (Exception e) {
+            logger.debug("Could not track origins for pooled session: {}", e.getMessage());
+        }
+    }
+
+    private static void addOrigin(Set<String> origins, String url) {
+        try {
+            URI uri = URI.create(url.trim());
+            if (("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) && uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() >= 0 ? ":" + uri.getPort() : ""));
+            }
+        } catch (RuntimeException e) {
+            // Not a URL (about:blank, data:, chrome://) - nothing to clear
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.debug("Error quitting pooled driver: {}", e.getMessage());
+        } finally {
+            BrowserProcessTracker.unregister(driver);
+        }
+    }
+
+    private BlockingQueue<PooledSession> idleFor(BrowserType browserType) {
+        return idleSessions.computeIfAbsent(browserType, type -> new LinkedBlockingQueue<>());
+    }
+
+    private AtomicInteger pendingFor(BrowserType browserType) {
+        return pendingSpawns.computeIfAbsent(browserType, type -> new AtomicInteger(0));
+    }
+}
@@ -0,0 +1,300 @@
+package org.example.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.config.FrameworkConstants;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DriverWatchdog - Detects wedged WebDriver sessions without blocking test threads.
+ *
+ * Every session handed out by DriverManager is registered here. A scheduler checks each session:
+ * - Off-session: the driver service must be running and answer GET /status within
+ *   driver.watchdog.timeout. /status does not queue behind the session's commands, so a long
+ *   page load or async script cannot make it miss.
+ * - On-session: a getWindowHandle beat does queue behind the running command, so it only counts
+ *   as hung after the longest configured command timeout (page load, script) plus
+ *   driver.watchdog.timeout. At most one beat per session is in flight; a stuck call is
+ *   never duplicated (the blocked HTTP call cannot be interrupted).
+ * A hung session's driver/browser process tree is force-killed, which also unblocks any test
+ * thread stuck in a WebDriver call. The owning thread then recovers through
+ * DriverManager.reinitializeDriver() on its next getDriver()/isDriverAlive() call.
+ *
+ * Off by default (driver.watchdog.enabled=false); isDriverAlive() still uses the bounded beat.
+ */
+public class DriverWatchdog {
+
+    private static final Logger logger = LogManager.getLogger(DriverWatchdog.class);
+    private static DriverWatchdog instance;
+
+    private final boolean enabled;
+    private final int intervalSeconds;
+    private final int timeoutSeconds;
+    private final int hangThresholdSeconds;
+
+    // Registered drivers -> owning thread name
+    private final Map<WebDriver, String> sessions;
+
+    // On-session beat currently in flight per driver
+    private final Map<WebDriver, Beat> inFlight;
+
+    // Drivers marked hung (kept until the owner recycles them)
+    private final Map<WebDriver, Boolean> hungSessions;
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService heartbeatExecutor;
+
+    // Metrics
+    private final AtomicInteger hungCount = new AtomicInteger(0);
+    private final AtomicInteger recycledCount = new AtomicInteger(0);
+
+    /**
+     * Beat - Inner class holding one in-flight on-session heartbeat
+     */
+    private static class Beat {
+        private final Future<String> future;
+        private final long startedAt;
+
+        Beat(Future<String> future) {
+            this.future = future;
+            this.startedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Private constructor - reads watchdog configuration and starts the scheduler
+     */
+    private DriverWatchdog() {
+        ConfigLoader config = ConfigLoader.getInstance();
+        this.enabled = config.isDriverWatchdogEnabled();
+        this.intervalSeconds = Math.max(1, config.getDriverWatchdogInterval());
+        this.timeoutSeconds = Math.max(1, config.getDriverWatchdogTimeout());
+        int longestCommand = Math.max(config.getPageLoadTimeout(), FrameworkConstants.DEFAULT_SCRIPT_TIMEOUT);
+        this.hangThresholdSeconds = longestCommand + timeoutSeconds;
+        this.sessions = new ConcurrentHashMap<>();
+        this.inFlight = new ConcurrentHashMap<>();
+        this.hungSessions = new ConcurrentHashMap<>();
+
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        this.heartbeatExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "driver-heartbeat-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::heartbeatAll, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+            logger.info("DriverWatchdog started (interval: {}s, status timeout: {}s, hang threshold: {}s)",
+                    intervalSeconds, timeoutSeconds, hangThresholdSeconds);
+        }
+    }
+
+    /**
+     * Get singleton instance
+     * @return DriverWatchdog instance
+     */
+    public static synchronized DriverWatchdog getInstance() {
+        if (instance == null) {
+            instance = new DriverWatchdog();
+        }
+        return instance;
+    }
+
+    /**
+     * Register a live session for heartbeating
+     * @param driver WebDriver instance
+     */
+    public void register(WebDriver driver) {
+        if (driver != null) {
+            sessions.put(driver, Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * Stop watching a session (quit, returned to pool or recycled)
+     * @param driver WebDriver instance
+     */
+    public void unregister(WebDriver driver) {
+        if (driver != null) {
+            sessions.remove(driver);
+            inFlight.remove(driver);
+            hungSessions.remove(driver);
+        }
+    }
+
+    /**
+     * Check if a session was marked hung
+     * @param driver WebDriver instance
+     * @return true if hung
+     */
+    public boolean isHung(WebDriver driver) {
+        return driver != null && hungSessions.containsKey(driver);
+    }
+
+    /**
+     * Liveness check for the owning thread: the service process must be running and the session
+     * must answer a beat within driver.watchdog.timeout. A missed deadline only reports "not alive";
+     * the session is marked hung (and killed) once the beat exceeds the hang threshold.
+     * @param driver WebDriver instance
+     * @return true if the session answered in time
+     */
+    public boolean heartbeat(WebDriver driver) {
+        if (driver == null || isHung(driver) || Boolean.FALSE.equals(BrowserProcessTracker.isServiceAlive(driver))) {
+            return false;
+        }
+        return awaitBeat(driver, timeoutSeconds);
+    }
+
+    /**
+     * Check if an on-session beat is still unanswered (the session is busy or wedged)
+     * @param driver WebDriver instance
+     * @return true if a beat is in flight
+     */
+    public boolean hasPendingHeartbeat(WebDriver driver) {
+        Beat beat = driver != null ? inFlight.get(driver) : null;
+        return beat != null && !beat.future.isDone();
+    }
+
+    /**
+     * Record that the owner replaced a hung session
+     */
+    public void recordRecycled() {
+        recycledCount.incrementAndGet();
+    }
+
+    /**
+     * Get number of sessions detected as hung
+     * @return Hung session count
+     */
+    public int getHungCount() {
+        return hungCount.get();
+    }
+
+    /**
+     * Get number of hung sessions replaced through reinitializeDriver
+     * @return Recycled session count
+     */
+    public int getRecycledCount() {
+        return recycledCount.get();
+    }
+
+    /**
+     * Log watchdog statistics
+     */
+    public void printStatistics() {
+        logger.info("DriverWatchdog: {} session(s) watched, {} hung, {} recycled",
+                sessions.size(), getHungCount(), getRecycledCount());
+    }
+
+    // ==================== Internal Helpers ====================
+
+    private void heartbeatAll() {
+        for (Map.Entry<WebDriver, String> entry : sessions.entrySet()) {
+            WebDriver driver = entry.getKey();
+            if (isHung(driver)) {
+                continue;
+            }
+            Boolean serviceAlive = BrowserProcessTracker.isServiceAlive(driver);
+            if (Boolean.FALSE.equals(serviceAlive)) {
+                continue; // Driver service exited - dead, not hung; the owner recycles it
+            }
+            if (!isStatusResponsive(driver)) {
+                markHung(driver, "driver service did not answer /status within " + timeoutSeconds + "s");
+            } else if (!awaitBeat(driver, 0) && isBeatOverdue(driver)) {
+                markHung(driver, "session did not answer for " + hangThresholdSeconds + "s");
+            }
+            if (isHung(driver)) {
+                logger.error("Session owned by thread '{}' is hung - marked for recycling", entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Wait for the session's beat, starting one only if none is in flight
+     * @param driver WebDriver instance
+     * @param waitSeconds Maximum wait (0 = just check)
+     * @return true if the beat was answered
+     */
+    private boolean awaitBeat(WebDriver driver, int waitSeconds) {
+        Beat beat = inFlight.compute(driver, (d, current) -> current != null && !current.future.isDone()
+                ? current : new Beat(heartbeatExecutor.submit(d::getWindowHandle)));
+        try {
+            beat.future.get(waitSeconds, TimeUnit.SECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            if (isBeatOverdue(driver)) {
+                markHung(driver, "session did not answer for " + hangThresholdSeconds + "s");
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            // Session is gone (closed window, crashed browser) - not hung, just dead
+            return false;
+        }
+    }
+
+    private boolean isBeatOverdue(WebDriver driver) {
+        Beat beat = inFlight.get(driver);
+        return beat != null && !beat.future.isDone()
+                && System.currentTimeMillis() - beat.startedAt > TimeUnit.SECONDS.toMillis(hangThresholdSeconds);
+    }
+
+    /**
+     * Off-session check against the driver service's /status endpoint
+     * @param driver WebDriver instance
+     * @return false only if a tracked service did not answer in time (true for remote/untracked sessions)
+     */
+    private boolean isStatusResponsive(WebDriver driver) {
+        URL serviceUrl = BrowserProcessTracker.getServiceUrl(driver);
+        if (serviceUrl == null) {
+            return true;
+        }
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(serviceUrl, "status").openConnection();
+            connection.setConnectTimeout((int) TimeUnit.SECONDS.toMillis(timeoutSeconds));
+            connection.setReadTimeout((int) TimeUnit.SECONDS.toMillis(timeoutSeconds));
+            connection.getResponseCode();
+            return true;
+        } catch (IOException e) {
+            logger.debug("Driver service /status failed: {}", e.getMessage());
+            return false;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    private void markHung(WebDriver driver, String reason) {
+        if (hungSessions.putIfAbsent(driver, Boolean.TRUE) != null) {
+            return;
+        }
+        hungCount.incrementAndGet();
+        logger.error("WebDriver hung ({}) - killing browser process tree", reason);
+        if (!BrowserProcessTracker.killProcessTree(driver)) {
+            logger.warn("No tracked process for hung driver (remote session?) - relying on owner recycle");
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package org.example.core.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * GridCapacityClient - Reads Selenium Grid /status and gates remote session creation on free slots.
+ *
+ * - Capacity: total and free slots per browser name (only nodes with availability UP count).
+ * - Thread count: recommended from free slots (not applied to the suite; scenarios share one login
+ *   and run in order).
+ * - Queueing: a session request waits with exponential backoff until a slot is free (or Grid rejects
+ *   with SessionNotCreatedException) instead of failing, up to grid.queue.timeout seconds.
+ *   While capacity is unknown (Grid 3, unreachable /status) thread.count slots are assumed.
+ * - Metrics: queue wait time per created session.
+ *
+ * The status URL is derived from gridUrl (a trailing /wd/hub is dropped), so a local stub
+ * serving /status can stand in for a real Grid.
+ */
+public class GridCapacityClient {
+
+    private static final Logger logger = LogManager.getLogger(GridCapacityClient.class);
+    private static GridCapacityClient instance;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final URI statusUri;
+    private final HttpClient httpClient;
+    private final int queueTimeoutSeconds;
+    private final int defaultSlots;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    // Session requests in flight from this JVM, per browser (not yet visible in /status)
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    // Session ID -> queue wait in ms (insertion order = creation order)
+    private final Map<String, Long> queueWaits = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    // Metrics
+    private final AtomicLong totalQueueWaitMillis = new AtomicLong(0);
+    private final AtomicInteger queuedSessions = new AtomicInteger(0);
+
+    /**
+     * Capacity - Inner class holding slot counts for one browser
+     */
+    public static class Capacity {
+        private final int totalSlots;
+        private final int freeSlots;
+
+        Capacity(int totalSlots, int freeSlots) {
+            this.totalSlots = totalSlots;
+            this.freeSlots = freeSlots;
+        }
+
+        public int getTotalSlots() {
+            return totalSlots;
+        }
+
+        public int getFreeSlots() {
+            return freeSlots;
+        }
+
+        @Override
+        public String toString() {
+            return freeSlots + "/" + totalSlots + " free";
+        }
+    }
+
+    /**
+     * Create client for a Grid hub URL with queue settings from configuration
+     * @param gridUrl Grid URL (e.g. http://localhost:4444 or http://localhost:4444/wd/hub)
+     */
+    public GridCapacityClient(String gridUrl) {
+        ConfigLoader config = ConfigLoader.getInstance();
+        this.statusUri = toStatusUri(gridUrl);
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        this.queueTimeoutSeconds = config.getGridQueueTimeout();
+        this.defaultSlots = Math.max(1, config.getThreadCount());
+        this.initialBackoffMillis = Math.max(100, config.getGridQueueBackoffInitial());
+        this.maxBackoffMillis = Math.max(initialBackoffMillis, config.getGridQueueBackoffMax());
+    }
+
+    /**
+     * Get singleton instance for the configured gridUrl
+     * @return GridCapacityClient instance
+     */
+    public static synchronized GridCapacityClient getInstance() {
+        if (instance == null) {
+            instance = new GridCapacityClient(ConfigLoader.getInstance().getGridUrl());
+        }
+        return instance;
+    }
+
+    /**
+     * Check if the singleton was created (i.e. remote sessions were requested)
+     * @return true if created
+     */
+    public static synchronized boolean isStarted() {
+        return instance != null;
+    }
+
+    // ==================== Capacity ====================
+
+    /**
+     * Read slot capacity per browser from Grid /status
+     * @return Map of lower-case browser name to capacity (empty if Grid is unreachable or reports no nodes)
+     */
+    public Map<String, Capacity> getCapacity() {
+        Map<String, int[]> counts = new HashMap<>();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(statusUri)
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                logger.debug("Grid status returned HTTP {}", response.statusCode());
+                return Collections.emptyMap();
+            }
+
+            JsonNode nodes = objectMapper.readTree(response.body()).path("value").path("nodes");
+            for (JsonNode node : nodes) {
+                boolean up = "UP".equalsIgnoreCase(node.path("availability").asText("UP"));
+                for (JsonNode slot : node.path("slots")) {
+                    String browser = slot.path("stereotype").path("browserName").asText("").toLowerCase();
+                    int[] count = counts.computeIfAbsent(browser, key -> new int[2]);
+                    count[0]++;
+                    if (up && (slot.path("session").isMissingNode() || slot.path("session").isNull())) {
+                        count[1]++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyMap();
+        } catch (Exception e) {
+            logger.debug("Could not read Grid status from {}: {}", statusUri, e.getMessage());
+            return Collections.emptyMap();
+        }
+
+        Map<String, Capacity> capacity = new HashMap<>();
+        counts.forEach((browser, count) -> capacity.put(browser, new Capacity(count[0], count[1])));
+        return capacity;
+    }
+
+    /**
+     * Get capacity for one browser
+     * @param browserName Browser name (chrome, MicrosoftEdge, firefox)
+     * @return Capacity, or null if Grid is unreachable or has no slots for the browser
+     */
+    public Capacity getCapacity(String browserName) {
+        return getCapacity().get(browserName.toLowerCase());
+    }
+
+    /**
+     * Derive suite thread count from free Grid slots for a browser
+     * @param browserName Browser name
+     * @param fallback Thread count to use if Grid capacity is unknown
+     * @return Thread count (at least 1)
+     */
+    public int getRecommendedThreadCount(String browserName, int fallback) {
+        Capacity capacity = getCapacity(browserName);
+        if (capacity == null) {
+            logger.warn("Grid capacity for {} unknown - using thread count {}", browserName, fallback);
+            return Math.max(1, fallback);
+        }
+        int threads = Math.max(1, capacity.getFreeSlots());
+        logger.info("Grid capacity for {}: {} - thread count {}", browserName, capacity, threads);
+        return threads;
+    }
+
+    /**
+     * Derive suite thread count from free Grid slots for a browser type
+     * @param browserType Browser type
+     * @param fallback Thread count to use if Grid capacity is unknown
+     * @return Thread count (at least 1)
+     */
+    public int getRecommendedThreadCount(BrowserType browserType, int fallback) {
+        return getRecommendedThreadCount(toGridBrowserName(browserType), fallback);
+    }
+
+    // ==================== Session Queue ====================
+
+    /**
+     * Create a remote session once the Grid has a free slot, backing off while it is full.
+     * @param browserName Browser name as reported in slot stereotypes
+     * @param sessionFactory Creates the RemoteWebDriver
+     * @return Created driver
+     */
+    public WebDriver acquireSession(String browserName, Supplier<WebDriver> sessionFactory) {
+        String browser = browserName.toLowerCase();
+        AtomicInteger pending = inFlight.computeIfAbsent(browser, key -> new AtomicInteger(0));
+        long start = System.currentTimeMillis();
+        long deadline = start + queueTimeoutSeconds * 1000L;
+        long backoff = initialBackoffMillis;
+        int attempts = 0;
+
+        while (true) {
+            Capacity capacity = getCapacity(browser);
+            // Unknown capacity (Grid 3, stub without nodes): assume the configured thread count
+            int freeSlots = capacity != null ? capacity.getFreeSlots() : defaultSlots;
+            boolean slotFree = claimSlot(pending, freeSlots);
+
+            if (slotFree) {
+                try {
+                    attempts++;
+                    WebDriver driver = sessionFactory.get();
+                    recordWait(driver, browser, System.currentTimeMillis() - start, attempts);
+                    return driver;
+                } catch (SessionNotCreatedException e) {
+                    logger.debug("Grid rejected {} session (attempt {}): {}", browser, attempts, e.getMessage());
+                } finally {
+                    pending.decrementAndGet();
+                }
+            }
+
+            if (System.currentTimeMillis() + backoff > deadline) {
+                throw new RuntimeException("No free Grid slot for " + browser + " within "
+                        + queueTimeoutSeconds + "s (" + statusUri + ")");
+            }
+            logger.info("Grid full for {} ({}), retrying in {} ms", browser,
+                    slotFree ? "session rejected" : capacity != null ? capacity : defaultSlots + " assumed slots in use", backoff);
+            sleep(backoff);
+            backoff = Math.min(backoff * 2, maxBackoffMillis);
+        }
+    }
+
+    /**
+     * Claim one of the free slots for this thread; the claim is released once the session request returns
+     * @param pending Session requests in flight for the browser
+     * @param freeSlots Free slots reported by the Grid (or assumed)
+     * @return true if a slot was claimed
+     */
+    private static boolean claimSlot(AtomicInteger pending, int freeSlots) {
+        while (true) {
+            int current = pending.get();
+            if (current >= freeSlots) {
+                return false;
+            }
+            if (pending.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Get queue wait per created session
+     * @return Map of session ID to wait in ms
+     */
+    public Map<String, Long> getQueueWaits() {
+        synchronized (queueWaits) {
+            return new LinkedHashMap<>(queueWaits);
+        }
+    }
+
+    /**
+     * Get total time sessions spent waiting for a slot
+     * @return Time in milliseconds
+     */
+    public long getTotalQueueWaitMillis() {
+        return totalQueueWaitMillis.get();
+    }
+
+    /**
+     * Get number of sessions that had to wait for a slot
+     * @return Queued session count
+     */
+    public int getQueuedSessionCount() {
+        return queuedSessions.get();
+    }
+
+    /**
+     * Log queue statistics
+     */
+    public void printStatistics() {
+        logger.info("Grid queue: {} session(s) created, {} queued, {} ms total wait",
+                queueWaits.size(), getQueuedSessionCount(), getTotalQueueWaitMillis());
+        getQueueWaits().forEach((sessionId, wait) -> logger.info("Session {} waited {} ms", sessionId, wait));
+    }
+
+    // ==================== Internal Helpers ====================
+
+    private void recordWait(WebDriver driver, String browser, long waitMillis, int attempts) {
+        String sessionId = driver instanceof RemoteWebDriver
+                ? String.valueOf(((RemoteWebDriver) driver).getSessionId())
+                : browser + "-" + System.identityHashCode(driver);
+        queueWaits.put(sessionId, waitMillis);
+        totalQueueWaitMillis.addAndGet(waitMillis);
+        if (attempts > 1 || waitMillis > initialBackoffMillis) {
+            queuedSessions.incrementAndGet();
+        }
+        logger.info("Grid session {} ({}) created after {} ms queue wait, {} attempt(s)",
+                sessionId, browser, waitMillis, attempts);
+    }
+
+    private static String toGridBrowserName(BrowserType browserType) {
+        if (browserType.isEdge()) {
+            return "MicrosoftEdge";
+        }
+        return browserType.getBrowserName();
+    }
+
+    private static URI toStatusUri(String gridUrl) {
+        String base = gridUrl.replaceAll("/+$", "");
+        if (base.endsWith("/wd/hub")) {
+            base = base.substring(0, base.length() - "/wd/hub".length());
+        }
+        return URI.create(base + "/status");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a Grid slot", e);
+        }
+    }
+}
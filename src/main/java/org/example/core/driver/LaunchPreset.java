@@ -0,0 +1,182 @@
+package org.example.core.driver;
+
+import org.example.config.FrameworkConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * LaunchPreset - Named browser launch-option sets for Chromium browsers (Chrome, Edge).
+ * Presets are composable: compose() merges their arguments and flags.
+ *
+ * - standard       previous DriverFactory defaults (maximized when headed)
+ * - lean-headless  headless, background throttling/backgrounding off, extensions, component
+ *                  updates and smooth scrolling off, fixed window size, isolated temp profile
+ * - ci             headless container-safe set (no sandbox, no /dev/shm), throttling off,
+ *                  fixed window size, isolated temp profile
+ * - debug          headed and maximized, no performance switches
+ */
+public enum LaunchPreset {
+
+    STANDARD("standard", false, false, true,
+            "--disable-extensions",
+            "--disable-gpu",
+            "--no-sandbox",
+            "--disable-dev-shm-usage"),
+
+    LEAN_HEADLESS("lean-headless", true, true, false,
+            "--disable-background-timer-throttling",
+            "--disable-renderer-backgrounding",
+            "--disable-backgrounding-occluded-windows",
+            "--disable-extensions",
+            "--disable-component-update",
+            "--disable-smooth-scrolling",
+            "--disable-gpu",
+            "--disable-dev-shm-usage",
+            "--disable-sync",
+            "--disable-default-apps",
+            "--no-first-run",
+            "--no-default-browser-check",
+            "--mute-audio"),
+
+    CI("ci", true, true, false,
+            "--no-sandbox",
+            "--disable-dev-shm-usage",
+            "--disable-gpu",
+            "--disable-background-timer-throttling",
+            "--disable-renderer-backgrounding",
+            "--disable-backgrounding-occluded-windows",
+            "--disable-extensions",
+            "--disable-component-update",
+            "--no-first-run",
+            "--no-default-browser-check"),
+
+    DEBUG("debug", false, false, true);
+
+    // Arguments every Chromium session gets, regardless of preset
+    private static final List<String> BASE_ARGUMENTS = Arrays.asList(
+            "--disable-popup-blocking",
+            "--disable-infobars",
+            "--disable-notifications",
+            "--remote-allow-origins=*");
+
+    private final String presetName;
+    private final boolean headless;
+    private final boolean isolatedProfile;
+    private final boolean maximized;
+    private final List<String> arguments;
+
+    LaunchPreset(String presetName, boolean headless, boolean isolatedProfile, boolean maximized, String... arguments) {
+        this.presetName = presetName;
+        this.headless = headless;
+        this.isolatedProfile = isolatedProfile;
+        this.maximized = maximized;
+        this.arguments = Collections.unmodifiableList(Arrays.asList(arguments));
+    }
+
+    public String getPresetName() {
+        return presetName;
+    }
+
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Get preset by name
+     * @param name Preset name (e.g. "lean-headless")
+     * @return Matching LaunchPreset
+     * @throws IllegalArgumentException if no preset has this name
+     */
+    public static LaunchPreset fromString(String name) {
+        for (LaunchPreset preset : values()) {
+            if (preset.presetName.equalsIgnoreCase(name.trim())) {
+                return preset;
+            }
+        }
+        throw new IllegalArgumentException("Unknown launch preset: " + name);
+    }
+
+    /**
+     * Merge presets into one launch configuration
+     * @param presets Presets to combine (empty = standard)
+     * @param forceHeadless Headless requested by BrowserType/config
+     * @return Combined settings
+     */
+    public static Settings compose(List<LaunchPreset> presets, boolean forceHeadless) {
+        List<LaunchPreset> effective = presets.isEmpty() ? Collections.singletonList(STANDARD) : presets;
+        boolean headless = forceHeadless;
+        boolean isolatedProfile = false;
+        boolean maximized = false;
+        Set<String> arguments = new LinkedHashSet<>(BASE_ARGUMENTS);
+        for (LaunchPreset preset : effective) {
+            headless |= preset.headless;
+            isolatedProfile |= preset.isolatedProfile;
+            maximized |= preset.maximized;
+            arguments.addAll(preset.arguments);
+        }
+        return new Settings(effective, headless, isolatedProfile, maximized && !headless, arguments);
+    }
+
+    /**
+     * Settings - Inner class holding the merged result of one or more presets
+     */
+    public static class Settings {
+        private final List<LaunchPreset> presets;
+        private final boolean headless;
+        private final boolean isolatedProfile;
+        private final boolean maximized;
+        private final List<String> arguments;
+
+        Settings(List<LaunchPreset> presets, boolean headless, boolean isolatedProfile,
+                 boolean maximized, Set<String> presetArguments) {
+            this.presets = presets;
+            this.headless = headless;
+            this.isolatedProfile = isolatedProfile;
+            this.maximized = maximized;
+
+            List<String> all = new ArrayList<>();
+            if (headless) {
+                all.add("--headless=new");
+            }
+            // --start-maximized has no effect headless; a fixed size keeps layouts deterministic
+            all.add(maximized ? "--start-maximized"
+                    : "--window-size=" + FrameworkConstants.DEFAULT_WINDOW_WIDTH + "," + FrameworkConstants.DEFAULT_WINDOW_HEIGHT);
+            all.addAll(presetArguments);
+            this.arguments = Collections.unmodifiableList(all);
+        }
+
+        public boolean isHeadless() {
+            return headless;
+        }
+
+        public boolean isIsolatedProfile() {
+            return isolatedProfile;
+        }
+
+        public boolean isMaximized() {
+            return maximized;
+        }
+
+        /**
+         * Get Chromium command-line arguments (headless, window and preset switches)
+         * @return Arguments
+         */
+        public List<String> getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder names = new StringBuilder();
+            for (LaunchPreset preset : presets) {
+                names.append(names.length() > 0 ? "+" : "").append(preset.presetName);
+            }
+            return names.toString();
+        }
+    }
+}
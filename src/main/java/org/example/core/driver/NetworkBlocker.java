@@ -0,0 +1,230 @@
+package org.example.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NetworkBlocker - Applies named request-blocking profiles to Chromium browsers via CDP
+ * Network.setBlockedURLs, and counts requests per scenario.
+ *
+ * Profiles are lists of URL patterns (CDP wildcard syntax) plus resource types that expand
+ * to file-extension patterns:
+ * - none          nothing blocked
+ * - no-analytics  analytics/tag managers and chat widgets
+ * - lean          no-analytics + images, web fonts and media
+ *
+ * Custom profiles (or overrides) come from config.properties:
+ *   network.blocking.profiles.&lt;name&gt;.urls=*tracker.example.com*,*.gif
+ *   network.blocking.profiles.&lt;name&gt;.types=image,font
+ * The active profile is network.blocking.browser.&lt;browser&gt; or network.blocking.profile.
+ *
+ * Blocked requests never reach the network, so their size is unknown; the per-scenario report
+ * shows blocked request count next to the bytes actually transferred.
+ */
+public class NetworkBlocker {
+
+    private static final Logger logger = LogManager.getLogger(NetworkBlocker.class);
+
+    public static final String PROFILE_NONE = "none";
+
+    private static final Map<String, List<String>> RESOURCE_TYPE_EXTENSIONS = new HashMap<>();
+    private static final Map<String, List<String>> BUILT_IN_URLS = new HashMap<>();
+    private static final Map<String, List<String>> BUILT_IN_TYPES = new HashMap<>();
+
+    static {
+        RESOURCE_TYPE_EXTENSIONS.put("image", Arrays.asList("png", "jpg", "jpeg", "gif", "webp", "svg", "ico", "bmp"));
+        RESOURCE_TYPE_EXTENSIONS.put("font", Arrays.asList("woff", "woff2", "ttf", "otf", "eot"));
+        RESOURCE_TYPE_EXTENSIONS.put("media", Arrays.asList("mp4", "webm", "mp3", "ogg", "wav"));
+
+        List<String> analyticsAndChat = Arrays.asList(
+                "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+                "*hotjar.com*", "*clarity.ms*", "*connect.facebook.net*", "*segment.io*",
+                "*tawk.to*", "*intercom.io*", "*zopim.com*", "*livechatinc.com*", "*freshchat.com*");
+
+        BUILT_IN_URLS.put(PROFILE_NONE, Collections.emptyList());
+        BUILT_IN_URLS.put("no-analytics", analyticsAndChat);
+        BUILT_IN_URLS.put("lean", analyticsAndChat);
+        BUILT_IN_TYPES.put("lean", Arrays.asList("image", "font", "media"));
+    }
+
+    // Driver -> request counters since the last scenario report (weak: quit drivers drop out)
+    private static final Map<WebDriver, NetworkStats> statsByDriver = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * NetworkStats - Inner class holding request counters for one driver
+     */
+    public static class NetworkStats {
+        private final String profile;
+        private final AtomicInteger blockedRequests = new AtomicInteger(0);
+        private final AtomicInteger finishedRequests = new AtomicInteger(0);
+        private final AtomicLong transferredBytes = new AtomicLong(0);
+
+        NetworkStats(String profile) {
+            this.profile = profile;
+        }
+
+        public String getProfile() {
+            return profile;
+        }
+
+        public int getBlockedRequests() {
+            return blockedRequests.get();
+        }
+
+        public int getFinishedRequests() {
+            return finishedRequests.get();
+        }
+
+        public long getTransferredBytes() {
+            return transferredBytes.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("profile '%s': %d requests blocked, %d loaded, %d KB transferred",
+                    profile, getBlockedRequests(), getFinishedRequests(), getTransferredBytes() / 1024);
+        }
+    }
+
+    private NetworkBlocker() {
+        // Private constructor - utility class
+    }
+
+    /**
+     * Apply the configured blocking profile for the browser type.
+     * No-op for non-Chromium browsers, drivers without DevTools and profile "none".
+     * @param driver WebDriver instance
+     * @param browserType Browser type
+     */
+    public static void apply(WebDriver driver, BrowserType browserType) {
+        String profile = browserType.getNetworkBlockingProfile();
+        if (PROFILE_NONE.equalsIgnoreCase(profile) || !(browserType.isChrome() || browserType.isEdge())
+                || !(driver instanceof HasDevTools)) {
+            return;
+        }
+
+        List<String> patterns = getPatterns(profile);
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+
+            NetworkStats stats = new NetworkStats(profile);
+            devTools.addListener(new Event<>("Network.loadingFailed", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                    params -> {
+                        Object errorText = params.get("errorText");
+                        if (params.get("blockedReason") != null
+                                || (errorText != null && errorText.toString().contains("BLOCKED_BY_CLIENT"))) {
+                            stats.blockedRequests.incrementAndGet();
+                        }
+                    });
+            devTools.addListener(new Event<>("Network.loadingFinished", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                    params -> {
+                        stats.finishedRequests.incrementAndGet();
+                        Object length = params.get("encodedDataLength");
+                        if (length instanceof Number) {
+                            stats.transferredBytes.addAndGet(((Number) length).longValue());
+                        }
+                    });
+
+            devTools.send(new Command<>("Network.enable", new HashMap<>()));
+            devTools.send(new Command<>("Network.setBlockedURLs", Collections.singletonMap("urls", patterns)));
+            statsByDriver.put(driver, stats);
+            logger.info("Network blocking profile '{}' applied ({} URL patterns)", profile, patterns.size());
+        } catch (Exception e) {
+            logger.warn("Could not apply network blocking profile '{}': {}", profile, e.getMessage());
+        }
+    }
+
+    /**
+     * Apply the blocking profile to another window of a driver that already went through apply()
+     * (e.g. a tab opened with switchTo().newWindow). CDP blocking is per target, so a new tab is
+     * unblocked until this runs. Events of the new tab reach the listeners registered by apply().
+     * @param driver WebDriver instance
+     * @param browserType Browser type
+     * @param windowHandle Window handle of the tab
+     */
+    public static void applyToWindow(WebDriver driver, BrowserType browserType, String windowHandle) {
+        String profile = browserType.getNetworkBlockingProfile();
+        if (PROFILE_NONE.equalsIgnoreCase(profile) || !(browserType.isChrome() || browserType.isEdge())
+                || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSession(windowHandle);
+            devTools.send(new Command<>("Network.enable", new HashMap<>()));
+            devTools.send(new Command<>("Network.setBlockedURLs", Collections.singletonMap("urls", getPatterns(profile))));
+            logger.debug("Network blocking profile '{}' applied to window {}", profile, windowHandle);
+        } catch (Exception e) {
+            logger.warn("Could not apply network blocking profile '{}' to window {}: {}", profile, windowHandle, e.getMessage());
+        }
+    }
+
+    /**
+     * Get URL patterns for a profile (built-in merged with config-defined urls/types)
+     * @param profile Profile name
+     * @return URL patterns in CDP wildcard syntax
+     */
+    public static List<String> getPatterns(String profile) {
+        ConfigLoader config = ConfigLoader.getInstance();
+        String name = profile.toLowerCase();
+
+        List<String> urls = new ArrayList<>(BUILT_IN_URLS.getOrDefault(name, Collections.emptyList()));
+        urls.addAll(config.getNetworkBlockingProfileUrls(name));
+
+        List<String> types = new ArrayList<>(BUILT_IN_TYPES.getOrDefault(name, Collections.emptyList()));
+        types.addAll(config.getNetworkBlockingProfileTypes(name));
+
+        if (!BUILT_IN_URLS.containsKey(name) && urls.isEmpty() && types.isEmpty()) {
+            logger.warn("Unknown network blocking profile '{}' - nothing will be blocked", profile);
+        }
+
+        for (String type : types) {
+            List<String> extensions = RESOURCE_TYPE_EXTENSIONS.get(type.trim().toLowerCase());
+            if (extensions == null) {
+                logger.warn("Unknown resource type '{}' in network blocking profile '{}'", type, profile);
+                continue;
+            }
+            for (String extension : extensions) {
+                urls.add("*." + extension);
+                urls.add("*." + extension + "?*");
+            }
+        }
+        return new ArrayList<>(new LinkedHashSet<>(urls));
+    }
+
+    /**
+     * Get counters since the last call and reset them (call at the end of each scenario)
+     * @param driver WebDriver instance
+     * @return Counters for the scenario, or null if no profile is active on the driver
+     */
+    public static NetworkStats drainStats(WebDriver driver) {
+        NetworkStats current = driver != null ? statsByDriver.get(driver) : null;
+        if (current == null) {
+            return null;
+        }
+        NetworkStats drained = new NetworkStats(current.profile);
+        drained.blockedRequests.set(current.blockedRequests.getAndSet(0));
+        drained.finishedRequests.set(current.finishedRequests.getAndSet(0));
+        drained.transferredBytes.set(current.transferredBytes.getAndSet(0));
+        return drained;
+    }
+}
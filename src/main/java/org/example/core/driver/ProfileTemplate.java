@@ -0,0 +1,264 @@
+package org.example.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.config.FrameworkConstants;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * ProfileTemplate - Primed Chromium user-data-dir that new sessions are cloned from.
+ *
+ * The first session per browser launches once against an empty directory, visits the warm-up
+ * URLs (default: base.url) so first-run setup, preferences and the HTTP cache for the app's
+ * static assets are written, then quits. Later sessions start from a copy of that directory
+ * instead of an empty profile; the copy is deleted on quit by BrowserProcessTracker.
+ *
+ * Templates are kept under browser.profile.template.dir between runs and rebuilt once older
+ * than browser.profile.template.max.age.hours. They are built in a staging directory and
+ * moved into place when complete, so parallel JVMs never clone a half-written template.
+ */
+public class ProfileTemplate {
+
+    private static final Logger logger = LogManager.getLogger(ProfileTemplate.class);
+    private static ProfileTemplate instance;
+
+    private static final String READY_MARKER = ".template-ready";
+
+    // Per-process lock/socket files - a clone must not inherit them or Chrome refuses to start
+    private static final Set<String> SKIPPED_FILES = new HashSet<>(Arrays.asList(
+            READY_MARKER, "SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile", "LOCK"));
+
+    private final ConfigLoader config;
+    private final Path rootDir;
+
+    // Browser name -> ready template directory
+    private final Map<String, Path> templates = new ConcurrentHashMap<>();
+
+    // Metrics
+    private final AtomicLong buildMillis = new AtomicLong(0);
+    private final AtomicInteger cloneCount = new AtomicInteger(0);
+    private final AtomicLong totalCloneMillis = new AtomicLong(0);
+
+    private ProfileTemplate() {
+        this.config = ConfigLoader.getInstance();
+        this.rootDir = Paths.get(config.getProfileTemplateDir());
+    }
+
+    /**
+     * Get singleton instance
+     * @return ProfileTemplate instance
+     */
+    public static synchronized ProfileTemplate getInstance() {
+        if (instance == null) {
+            instance = new ProfileTemplate();
+        }
+        return instance;
+    }
+
+    /**
+     * Check if sessions should start from a template (read on every call so it can be toggled at runtime)
+     * @return true if browser.profile.template.enabled is set
+     */
+    public static boolean isEnabled() {
+        return ConfigLoader.getInstance().isProfileTemplateEnabled();
+    }
+
+    // ==================== Cloning ====================
+
+    /**
+     * Clone the browser's template into a new temp directory, building the template first if needed
+     * @param browserType Browser type (Chrome or Edge)
+     * @param primer Launches a browser using the given directory as --user-data-dir
+     * @return Clone directory, or null if no template could be built
+     */
+    public Path cloneFor(BrowserType browserType, Function<Path, WebDriver> primer) {
+        Path template = getTemplate(browserType, primer);
+        if (template == null) {
+            return null;
+        }
+
+        long start = System.currentTimeMillis();
+        Path clone = null;
+        try {
+            clone = Files.createTempDirectory(FrameworkConstants.BROWSER_PROFILE_PREFIX);
+            copyProfile(template, clone);
+            long elapsed = System.currentTimeMillis() - start;
+            cloneCount.incrementAndGet();
+            totalCloneMillis.addAndGet(elapsed);
+            logger.debug("Cloned {} profile template to {} in {} ms", browserType.getBrowserName(), clone, elapsed);
+            return clone;
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Could not clone profile template {}: {}", template, e.getMessage());
+            BrowserProcessTracker.deleteProfileDir(clone);
+            return null;
+        }
+    }
+
+    /**
+     * Get the ready template directory for a browser, building it on first use
+     * @param browserType Browser type
+     * @param primer Launches a browser using the given directory as --user-data-dir
+     * @return Template directory, or null if building failed
+     */
+    private Path getTemplate(BrowserType browserType, Function<Path, WebDriver> primer) {
+        String browserName = browserType.getBrowserName();
+        Path ready = templates.get(browserName);
+        if (ready != null) {
+            return ready;
+        }
+
+        synchronized (this) {
+            ready = templates.get(browserName);
+            if (ready != null) {
+                return ready;
+            }
+            Path target = rootDir.resolve(browserName);
+            if (isFresh(target) || build(browserType, target, primer)) {
+                templates.put(browserName, target);
+                return target;
+            }
+            return null;
+        }
+    }
+
+    // ==================== Building ====================
+
+    /**
+     * Prime a staging directory and move it into place
+     * @return true if a ready template exists at target afterwards
+     */
+    private boolean build(BrowserType browserType, Path target, Function<Path, WebDriver> primer) {
+        long start = System.currentTimeMillis();
+        Path staging = null;
+        try {
+            Files.createDirectories(rootDir);
+            staging = Files.createTempDirectory(rootDir, browserType.getBrowserName() + "-building-");
+            prime(primer, staging);
+            Files.createFile(staging.resolve(READY_MARKER));
+
+            if (Files.exists(target)) {
+                BrowserProcessTracker.deleteProfileDir(target);
+            }
+            try {
+                Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+                // Another JVM finished first - use its template
+                BrowserProcessTracker.deleteProfileDir(staging);
+                return isFresh(target);
+            }
+
+            long elapsed = System.currentTimeMillis() - start;
+            buildMillis.addAndGet(elapsed);
+            logger.info("Built {} profile template at {} in {} ms", browserType.getBrowserName(), target, elapsed);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Could not build {} profile template - sessions start from an empty profile: {}",
+                    browserType.getBrowserName(), e.getMessage());
+            BrowserProcessTracker.deleteProfileDir(staging);
+            return false;
+        }
+    }
+
+    /**
+     * Launch a browser on the staging directory, load the warm-up URLs and quit
+     */
+    private void prime(Function<Path, WebDriver> primer, Path staging) {
+        WebDriver driver = primer.apply(staging);
+        try {
+            List<String> urls = config.getProfileTemplateWarmupUrls();
+            for (String url : urls) {
+                driver.get(url);
+                // get() returns at readyState complete; give late static assets a moment to land in the cache
+                ((JavascriptExecutor) driver).executeAsyncScript(
+                        "var done = arguments[arguments.length - 1]; setTimeout(done, 1000);");
+            }
+            logger.debug("Primed profile template with {} URL(s)", urls.size());
+        } finally {
+            // Quit flushes preferences and cache index to disk
+            driver.quit();
+            BrowserProcessTracker.unregister(driver);
+        }
+    }
+
+    private boolean isFresh(Path template) {
+        Path marker = template.resolve(READY_MARKER);
+        if (!Files.exists(marker)) {
+            return false;
+        }
+        try {
+            Instant built = Files.getLastModifiedTime(marker).toInstant();
+            Duration age = Duration.between(built, Instant.now());
+            return age.toHours() < config.getProfileTemplateMaxAgeHours();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void copyProfile(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            paths.forEach(path -> {
+                if (SKIPPED_FILES.contains(path.getFileName().toString())) {
+                    return;
+                }
+                Path destination = target.resolve(source.relativize(path).toString());
+                try {
+                    if (Files.isDirectory(path)) {
+                        Files.createDirectories(destination);
+                    } else {
+                        Files.copy(path, destination, StandardCopyOption.COPY_ATTRIBUTES);
+                    }
+                } catch (FileAlreadyExistsException e) {
+                    // Root directory created by createTempDirectory
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    // ==================== Statistics ====================
+
+    public long getBuildMillis() {
+        return buildMillis.get();
+    }
+
+    public int getCloneCount() {
+        return cloneCount.get();
+    }
+
+    public long getTotalCloneMillis() {
+        return totalCloneMillis.get();
+    }
+
+    /**
+     * Log template statistics
+     */
+    public void printStatistics() {
+        int clones = getCloneCount();
+        logger.info("Profile templates: {} built in {} ms, {} clone(s), {} ms average clone time",
+                templates.size(), getBuildMillis(), clones, clones > 0 ? getTotalCloneMillis() / clones : 0);
+    }
+}
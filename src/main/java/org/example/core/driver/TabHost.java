@@ -0,0 +1,430 @@
+package org.example.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.core.wait.Quiescence;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.WrapsElement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TabHost - Runs several lightweight workers as tabs of one shared browser process.
+ *
+ * EXPERIMENTAL, off by default (multitab.enabled=false). WebDriver has a single current window per
+ * session, so commands of all workers are serialised: the mode saves browser processes and
+ * memory, not wall-clock time.
+ *
+ * Each worker gets a WebDriver proxy bound to its own tab (switchTo().newWindow(TAB)). Every
+ * command - on the driver, its elements, navigation, options and alerts - takes the host lock,
+ * activates the worker's window handle if another worker used the browser last, and then runs.
+ * Elements returned by executeScript, also inside lists and maps, stay bound to the worker's tab.
+ * quit()/close() on a worker proxy close only its tab.
+ *
+ * Each new tab gets the same per-target CDP setup as a fresh local browser: the network blocking
+ * profile (NetworkBlocker) and the quiescence instrumentation.
+ *
+ * Intended for independent, read-only scenarios (click and verify). Frame context is not
+ * preserved when another worker activates its tab in between, so scenarios that work inside
+ * iframes should not run in this mode.
+ */
+public class TabHost {
+
+    private static final Logger logger = LogManager.getLogger(TabHost.class);
+    private static TabHost instance;
+
+    private final BrowserType browserType;
+    private final boolean localBrowser;
+    private final int maxTabs;
+    private final int leaseTimeoutSeconds;
+    private final Semaphore tabSlots;
+    private final ReentrantLock commandLock = new ReentrantLock(true);
+
+    private WebDriver hostDriver;
+    private String homeHandle;
+    private String activeHandle;
+
+    // Metrics
+    private final AtomicInteger openTabs = new AtomicInteger(0);
+    private final AtomicInteger totalTabs = new AtomicInteger(0);
+    private final AtomicInteger peakTabs = new AtomicInteger(0);
+
+    /**
+     * TabWorker - Inner class holding the window handle bound to one logical worker
+     */
+    private class TabWorker {
+        private volatile String handle;
+        private final Set<String> ownedHandles = new LinkedHashSet<>();
+        private WebDriver driverProxy;
+        private volatile boolean closed;
+    }
+
+    /**
+     * Private constructor - reads multi-tab configuration
+     */
+    private TabHost() {
+        ConfigLoader config = ConfigLoader.getInstance();
+        this.browserType = BrowserType.fromString(config.getBrowser(), config.isHeadless());
+        this.localBrowser = !config.isGridExecution();
+        this.maxTabs = Math.max(1, config.getMultiTabMaxTabs());
+        this.leaseTimeoutSeconds = config.getMultiTabLeaseTimeout();
+        this.tabSlots = new Semaphore(maxTabs, true);
+    }
+
+    /**
+     * Get singleton instance
+     * @return TabHost instance
+     */
+    public static synchronized TabHost getInstance() {
+        if (instance == null) {
+            instance = new TabHost();
+        }
+        return instance;
+    }
+
+    /**
+     * Quit the host browser if the host was ever created
+     */
+    public static synchronized void shutdownIfStarted() {
+        if (instance != null) {
+            instance.shutdown();
+            instance = null;
+        }
+    }
+
+    /**
+     * Open a new tab in the host browser and bind it to a worker.
+     * Blocks while multitab.max.tabs tabs are open.
+     * @return WebDriver proxy routed to the new tab
+     */
+    public WebDriver openTab() {
+        try {
+            if (!tabSlots.tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new RuntimeException("No free tab in shared browser within " + leaseTimeoutSeconds + "s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a free tab", e);
+        }
+
+        TabWorker worker = new TabWorker();
+        commandLock.lock();
+        try {
+            ensureHostDriver();
+            hostDriver.switchTo().newWindow(WindowType.TAB);
+            worker.handle = hostDriver.getWindowHandle();
+            worker.ownedHandles.add(worker.handle);
+            activeHandle = worker.handle;
+            instrumentTab(worker.handle);
+        } catch (RuntimeException e) {
+            tabSlots.release();
+            throw e;
+        } finally {
+            commandLock.unlock();
+        }
+
+        worker.driverProxy = (WebDriver) wrap(hostDriver, worker);
+        int open = openTabs.incrementAndGet();
+        totalTabs.incrementAndGet();
+        peakTabs.accumulateAndGet(open, Math::max);
+        logger.info("Tab {} opened for thread {} ({}/{} tabs in use)",
+                worker.handle, Thread.currentThread().getName(), open, maxTabs);
+        return worker.driverProxy;
+    }
+
+    /**
+     * Close the tab behind a worker proxy. No-op for drivers not created by this host.
+     * @param driver Worker proxy returned by openTab()
+     */
+    public void closeTab(WebDriver driver) {
+        TabWorker worker = workerOf(driver);
+        if (worker != null) {
+            closeWorker(worker);
+        }
+    }
+
+    /**
+     * Check if a driver is a worker proxy of a tab host
+     * @param driver WebDriver instance
+     * @return true if driver routes to a shared-browser tab
+     */
+    public static boolean isTabDriver(WebDriver driver) {
+        return driver != null && Proxy.isProxyClass(driver.getClass())
+                && Proxy.getInvocationHandler(driver) instanceof RoutingHandler;
+    }
+
+    /**
+     * Get number of tabs currently in use
+     * @return Open tab count
+     */
+    public int getOpenTabCount() {
+        return openTabs.get();
+    }
+
+    /**
+     * Get highest number of tabs in use at the same time
+     * @return Peak tab count
+     */
+    public int getPeakTabCount() {
+        return peakTabs.get();
+    }
+
+    /**
+     * Log tab statistics
+     */
+    public void printStatistics() {
+        logger.info("TabHost: {} tabs opened, peak {} concurrent of {} allowed, 1 browser process",
+                totalTabs.get(), getPeakTabCount(), maxTabs);
+    }
+
+    /**
+     * Quit the host browser (all tabs)
+     */
+    public void shutdown() {
+        commandLock.lock();
+        try {
+            if (hostDriver != null) {
+                printStatistics();
+                try { hostDriver.quit(); } catch (Exception ignored) { }
+                BrowserProcessTracker.unregister(hostDriver);
+                hostDriver = null;
+                logger.info("Shared tab host browser closed");
+            }
+        } finally {
+            commandLock.unlock();
+        }
+    }
+
+    // ==================== Internal Helpers ====================
+
+    /**
+     * Create the host browser on first use (caller holds commandLock)
+     */
+    private void ensureHostDriver() {
+        if (hostDriver == null) {
+            hostDriver = new DriverFactory().createDriver(browserType);
+            // The initial window stays open so closing the last worker tab does not end the session
+            homeHandle = hostDriver.getWindowHandle();
+            activeHandle = homeHandle;
+            logger.info("Shared tab host browser ({}) started, max {} tabs", browserType, maxTabs);
+        }
+    }
+
+    /**
+     * Apply the per-target CDP setup DriverFactory gives a local browser to a new tab (caller holds commandLock)
+     */
+    private void instrumentTab(String handle) {
+        if (localBrowser) {
+            NetworkBlocker.applyToWindow(hostDriver, browserType, handle);
+            Quiescence.install(hostDriver, browserType, handle);
+        }
+    }
+
+    private void closeWorker(TabWorker worker) {
+        if (worker.closed) {
+            return;
+        }
+        commandLock.lock();
+        try {
+            worker.closed = true;
+            if (hostDriver != null) {
+                // Close the worker's tab and any popups it opened
+                Set<String> open = hostDriver.getWindowHandles();
+                for (String handle : worker.ownedHandles) {
+                    if (open.contains(handle) && !handle.equals(homeHandle)) {
+                        try {
+                            hostDriver.switchTo().window(handle);
+                            hostDriver.close();
+                        } catch (Exception e) {
+                            logger.debug("Tab {} already closed: {}", handle, e.getMessage());
+                        }
+                    }
+                }
+                hostDriver.switchTo().window(homeHandle);
+                activeHandle = homeHandle;
+            }
+        } finally {
+            commandLock.unlock();
+            openTabs.decrementAndGet();
+            tabSlots.release();
+        }
+        logger.info("Tab {} closed for thread {}", worker.handle, Thread.currentThread().getName());
+    }
+
+    /**
+     * Switch the browser to the worker's tab if another worker used it last (caller holds commandLock)
+     */
+    private void activate(TabWorker worker) {
+        if (worker.closed) {
+            throw new IllegalStateException("Tab " + worker.handle + " was already closed");
+        }
+        if (!worker.handle.equals(activeHandle)) {
+            hostDriver.switchTo().window(worker.handle);
+            activeHandle = worker.handle;
+        }
+    }
+
+    private TabWorker workerOf(WebDriver driver) {
+        if (isTabDriver(driver)) {
+            RoutingHandler handler = (RoutingHandler) Proxy.getInvocationHandler(driver);
+            if (handler.host() == this) {
+                return handler.worker;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wrap a window-bound object (driver, element, navigation, options, target locator, alert) in a routing proxy
+     */
+    private Object wrap(Object target, TabWorker worker) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            for (Class<?> iface : type.getInterfaces()) {
+                if (Modifier.isPublic(iface.getModifiers())) {
+                    interfaces.add(iface);
+                }
+            }
+        }
+        if (target instanceof WebElement) {
+            interfaces.add(WrapsElement.class);
+        }
+        return Proxy.newProxyInstance(TabHost.class.getClassLoader(),
+                interfaces.toArray(new Class<?>[0]), new RoutingHandler(target, worker));
+    }
+
+    /**
+     * Wrap command results that are bound to the worker's window
+     */
+    private Object wrapResult(Object result, TabWorker worker) {
+        if (result == null) {
+            return null;
+        }
+        if (result == hostDriver) {
+            return worker.driverProxy;
+        }
+        if (result instanceof WebElement || result instanceof Alert
+                || result instanceof WebDriver.Options || result instanceof WebDriver.Navigation
+                || result instanceof WebDriver.TargetLocator || result instanceof WebDriver.Timeouts
+                || result instanceof WebDriver.Window) {
+            return wrap(result, worker);
+        }
+        if (result instanceof List) {
+            List<Object> wrapped = new ArrayList<>();
+            for (Object item : (List<?>) result) {
+                wrapped.add(wrapResult(item, worker));
+            }
+            return wrapped;
+        }
+        if (result instanceof Map) {
+            // executeScript returns JS objects as maps; their elements belong to the worker's tab too
+            Map<Object, Object> wrapped = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) result).entrySet()) {
+                wrapped.put(entry.getKey(), wrapResult(entry.getValue(), worker));
+            }
+            return wrapped;
+        }
+        return result;
+    }
+
+    private static Object unwrapArgument(Object arg) {
+        if (arg != null && Proxy.isProxyClass(arg.getClass()) && Proxy.getInvocationHandler(arg) instanceof RoutingHandler) {
+            return ((RoutingHandler) Proxy.getInvocationHandler(arg)).target;
+        }
+        if (arg instanceof Object[]) {
+            Object[] array = (Object[]) arg;
+            Object[] unwrapped = Arrays.copyOf(array, array.length);
+            for (int i = 0; i < unwrapped.length; i++) {
+                unwrapped[i] = unwrapArgument(unwrapped[i]);
+            }
+            return unwrapped;
+        }
+        return arg;
+    }
+
+    /**
+     * RoutingHandler - Inner class that serialises commands on the host browser
+     * and activates the worker's tab before each one
+     */
+    private class RoutingHandler implements InvocationHandler {
+        private final Object target;
+        private final TabWorker worker;
+
+        RoutingHandler(Object target, TabWorker worker) {
+            this.target = target;
+            this.worker = worker;
+        }
+
+        TabHost host() {
+            return TabHost.this;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                switch (name) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "Tab[" + worker.handle + "] " + target;
+                }
+            }
+            if (method.getDeclaringClass() == WrapsElement.class) {
+                return target;
+            }
+            if (target == hostDriver && ("quit".equals(name) || "close".equals(name))) {
+                closeWorker(worker);
+                return null;
+            }
+
+            Object[] actualArgs = args;
+            if (args != null) {
+                actualArgs = new Object[args.length];
+                for (int i = 0; i < args.length; i++) {
+                    actualArgs[i] = unwrapArgument(args[i]);
+                }
+            }
+
+            commandLock.lock();
+            try {
+                activate(worker);
+                Object result = method.invoke(target, actualArgs);
+                if (target instanceof WebDriver.TargetLocator && ("window".equals(name) || "newWindow".equals(name))) {
+                    // Worker moved to another window (e.g. a popup) - follow it
+                    worker.handle = hostDriver.getWindowHandle();
+                    if (worker.ownedHandles.add(worker.handle) && !worker.handle.equals(homeHandle)) {
+                        instrumentTab(worker.handle); // New tab or popup: its own CDP target
+                    }
+                    activeHandle = worker.handle;
+                }
+                return wrapResult(result, worker);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                commandLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package org.example.core.keywords;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.core.wait.WaitEngine;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Dropdown - Component driver for MUI Select/Autocomplete listboxes (and similar custom panels).
+ *
+ * Opens the dropdown once, then polls a single script that reads the visible options and, as
+ * soon as the wanted one is rendered, scrolls it into view and returns it. The option is then
+ * clicked like a user would (WebElement click, Actions click if intercepted, JS click as a last
+ * resort), so the app's pointer/mouse handlers run. The wait is bounded by dropdown.timeout.
+ * When no option matches, the error lists the options that were available; an option selector
+ * the browser rejects fails immediately with the browser's message.
+ *
+ * Options can be narrowed to those containing a descendant (withOptions(selector, containing)),
+ * which is filtered in the script instead of relying on CSS :has() support.
+ *
+ * Usage:
+ *   new Dropdown(driver, "TransferFromDropdown_Object", () -> click(key)).selectFirst();
+ *   new Dropdown(driver, "Beneficiary", null).withOptions(css).selectByText("John");
+ */
+public class Dropdown {
+
+    private static final Logger logger = LogManager.getLogger(Dropdown.class);
+
+    // MUI Select (Menu) and Autocomplete render options in a portal listbox
+    public static final String MUI_OPTIONS = "[role=listbox] [role=option], ul[role=listbox] > li";
+
+    // arguments: option selector, mode (none|index|text), index or text, required descendant selector (or null).
+    // Returns null while no option is rendered, {error: message} for a selector the browser rejects,
+    // else {options: [...], selected: text or null, element: the option to click or null}.
+    private static final String SELECT_SCRIPT =
+            "var sel = arguments[0], mode = arguments[1], arg = arguments[2], has = arguments[3];" +
+            "var all;" +
+            "try {" +
+            "  all = document.querySelectorAll(sel);" +
+            "  if (has) all = Array.prototype.filter.call(all, function (e) { return e.querySelector(has); });" +
+            "} catch (x) { return {error: String(x && x.message || x)}; }" +
+            "var opts = [], texts = [];" +
+            "for (var i = 0; i < all.length; i++) {" +
+            "  if (!all[i].getClientRects().length) continue;" +
+            "  opts.push(all[i]);" +
+            "  texts.push((all[i].innerText || all[i].textContent || '').trim());" +
+            "}" +
+            "if (!opts.length) return null;" +
+            "var pick = -1;" +
+            "if (mode === 'index') {" +
+            "  pick = arg < opts.length ? arg : -1;" +
+            "} else if (mode === 'text') {" +
+            "  var want = String(arg).trim().toLowerCase();" +
+            "  for (var j = 0; j < texts.length && pick < 0; j++) if (texts[j].toLowerCase() === want) pick = j;" +
+            "  for (var k = 0; k < texts.length && pick < 0; k++) if (texts[k].toLowerCase().indexOf(want) >= 0) pick = k;" +
+            "}" +
+            "if (pick >= 0 && opts[pick].getAttribute('aria-disabled') === 'true') pick = -1;" +
+            "if (pick >= 0) opts[pick].scrollIntoView({block: 'nearest'});" +
+            "return {options: texts, selected: pick >= 0 ? texts[pick] : null, element: pick >= 0 ? opts[pick] : null};";
+
+    private final WebDriver driver;
+    private final String name;
+    private final Runnable opener;
+    private String optionSelector = MUI_OPTIONS;
+    private String containingSelector;
+    private int timeoutSeconds;
+
+    /**
+     * @param driver WebDriver instance
+     * @param name Name used for wait statistics and messages (usually the trigger's OR key)
+     * @param opener Opens the dropdown (e.g. clicks the trigger), or null if it is already open
+     */
+    public Dropdown(WebDriver driver, String name, Runnable opener) {
+        this.driver = driver;
+        this.name = name;
+        this.opener = opener;
+        this.timeoutSeconds = ConfigLoader.getInstance().getDropdownTimeout();
+    }
+
+    /**
+     * Use a different option selector (custom panels that are not an MUI listbox)
+     * @param cssSelector CSS selector matching the option elements
+     * @return this
+     */
+    public Dropdown withOptions(String cssSelector) {
+        return withOptions(cssSelector, null);
+    }
+
+    /**
+     * Use a different option selector, keeping only options that contain a matching descendant
+     * (same as cssSelector:has(containingSelector), also in browsers without :has() support)
+     * @param cssSelector CSS selector matching the option elements
+     * @param containingSelector CSS selector an option must contain, or null
+     * @return this
+     */
+    public Dropdown withOptions(String cssSelector, String containingSelector) {
+        this.optionSelector = cssSelector;
+        this.containingSelector = containingSelector;
+        return this;
+    }
+
+    /**
+     * Override the bounded wait for options (e.g. options loaded by a search request)
+     * @param seconds Maximum wait in seconds
+     * @return this
+     */
+    public Dropdown withTimeout(int seconds) {
+        this.timeoutSeconds = seconds;
+        return this;
+    }
+
+    // ==================== Selection ====================
+
+    /**
+     * Select the option whose text equals (case-insensitive), or else contains, the given text
+     * @param text Option text
+     * @return Text of the selected option
+     */
+    public String selectByText(String text) {
+        return select("text", text, "matching '" + text + "'");
+    }
+
+    /**
+     * Select an option by position
+     * @param index 0-based index among the visible options
+     * @return Text of the selected option
+     */
+    public String selectByIndex(int index) {
+        return select("index", index, "at index " + index);
+    }
+
+    /**
+     * Select the first option
+     * @return Text of the selected option
+     */
+    public String selectFirst() {
+        return selectByIndex(0);
+    }
+
+    /**
+     * Select the first option whose text satisfies a predicate (options are read once, then the
+     * matching index is clicked)
+     * @param predicate Test on the option text
+     * @param description Description for the error message
+     * @return Text of the selected option
+     */
+    public String select(Predicate<String> predicate, String description) {
+        List<String> options = getOptions();
+        for (int i = 0; i < options.size(); i++) {
+            if (predicate.test(options.get(i))) {
+                return run("index", i, description);
+            }
+        }
+        throw new RuntimeException("No option " + description + " in dropdown '" + name + "'. Available options: " + options);
+    }
+
+    /**
+     * Open the dropdown and read the visible option texts
+     * @return Option texts (empty if none appeared within the timeout)
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getOptions() {
+        open();
+        Map<String, Object> result = WaitEngine.getInstance().probeUntil(driver, "dropdown:" + name,
+                d -> checkSelector(readOptions(d, "none", null)), timeoutSeconds);
+        return result == null ? Collections.emptyList() : new ArrayList<>((List<String>) result.get("options"));
+    }
+
+    // ==================== Internal Helpers ====================
+
+    private String select(String mode, Object argument, String description) {
+        open();
+        return run(mode, argument, description);
+    }
+
+    @SuppressWarnings("unchecked")
+    private String run(String mode, Object argument, String description) {
+        List<String> lastOptions = new ArrayList<>();
+        Map<String, Object> result;
+        try {
+            result = WaitEngine.getInstance().until(driver, "dropdown:" + name, d -> {
+                Map<String, Object> state = checkSelector(readOptions(d, mode, argument));
+                if (state == null) {
+                    return null;
+                }
+                lastOptions.clear();
+                lastOptions.addAll((List<String>) state.get("options"));
+                if (state.get("selected") == null) {
+                    return null;
+                }
+                // Re-rendered between the read and the click: StaleElementReferenceException re-polls
+                clickOption((WebElement) state.get("element"));
+                return state;
+            }, timeoutSeconds);
+        } catch (TimeoutException e) {
+            throw new RuntimeException(lastOptions.isEmpty()
+                    ? "No options appeared in dropdown '" + name + "' within " + timeoutSeconds + "s"
+                    : "No option " + description + " in dropdown '" + name + "'. Available options: " + lastOptions, e);
+        }
+        String selected = String.valueOf(result.get("selected"));
+        logger.info("Selected '{}' from dropdown: {}", selected, name);
+        return selected;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readOptions(WebDriver d, String mode, Object argument) {
+        return (Map<String, Object>) ((JavascriptExecutor) d)
+                .executeScript(SELECT_SCRIPT, optionSelector, mode, argument, containingSelector);
+    }
+
+    /**
+     * Fail fast on an option selector the browser rejects instead of reporting "no options"
+     */
+    private Map<String, Object> checkSelector(Map<String, Object> state) {
+        if (state != null && state.get("error") != null) {
+            throw new IllegalArgumentException("Option selector '" + optionSelector + "' of dropdown '" + name
+                    + "' is not supported by this browser: " + state.get("error"));
+        }
+        return state;
+    }
+
+    /**
+     * Click an option as a user would: WebElement click, Actions click if something is in the way,
+     * JS click as a last resort
+     */
+    private void clickOption(WebElement option) {
+        try {
+            option.click();
+            return;
+        } catch (StaleElementReferenceException | NoSuchSessionException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            logger.debug("Option click failed in dropdown '{}' - trying Actions: {}", name, e.getMessage());
+        }
+        try {
+            new Actions(driver).moveToElement(option).click().perform();
+        } catch (StaleElementReferenceException | NoSuchSessionException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            logger.debug("Actions click failed in dropdown '{}' - using JS click: {}", name, e.getMessage());
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", option);
+        }
+    }
+
+    private void open() {
+        if (opener != null) {
+            opener.run();
+        }
+    }
+}
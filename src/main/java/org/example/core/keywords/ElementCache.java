@@ -0,0 +1,233 @@
+package org.example.core.keywords;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.core.wait.WaitEngine;
+import org.example.core.wait.WaitEngine.Condition;
+import org.example.utils.json.ObjectRepositoryManager;
+import org.example.utils.json.ObjectRepositoryManager.LocatorInfo;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * ElementCache - Page-scoped cache of resolved elements, keyed by OR key.
+ *
+ * Consecutive actions on one field (scroll, click, clear, type) used to resolve the locator
+ * and wait for the element again each time. A cached element is reused after one script call
+ * that checks it is still attached to the current document, meets the requested condition
+ * (present / visible / clickable) and is still what the locator resolves to now - the first
+ * match meeting the condition, as in WaitEngine. Otherwise it is dropped and looked up again.
+ *
+ * The owner invalidates the cache on navigation and frame/window switches. Elements replaced
+ * by a re-render fail the attached check and are looked up again; apply() re-resolves and
+ * retries once when the element goes stale mid-action.
+ * Disabled with element.cache.enabled=false.
+ */
+public class ElementCache {
+
+    private static final Logger logger = LogManager.getLogger(ElementCache.class);
+
+    // Run-wide totals across all page caches
+    private static final AtomicLong totalHits = new AtomicLong(0);
+    private static final AtomicLong totalMisses = new AtomicLong(0);
+    private static final AtomicLong totalStale = new AtomicLong(0);
+
+    // arguments: element, condition name, strategy, value. meets() mirrors WaitEngine.Condition for one
+    // element; the element must also be the first match meeting it. null = locator not evaluable here.
+    private static final String VALIDATE_SCRIPT = ElementSnapshot.FIND_ALL_FUNCTION +
+            "var e = arguments[0], c = arguments[1], t = arguments[2], v = arguments[3];" +
+            "if (!e.isConnected || e.ownerDocument !== document) return false;" +
+            "function meets(x) {" +
+            "  if (c === 'PRESENT') return true;" +
+            "  if (!x.getClientRects().length) return false;" +
+            "  var s = getComputedStyle(x);" +
+            "  if (s.visibility === 'hidden' || s.opacity === '0') return false;" +
+            "  return c === 'VISIBLE' || !x.matches(':disabled');" +
+            "}" +
+            "if (!meets(e)) return false;" +
+            "var all;" +
+            "try { all = findAll(t, v); } catch (x) { return null; }" +
+            "for (var i = 0; i < all.length; i++) {" +
+            "  if (all[i] === e) return true;" +
+            "  if (meets(all[i])) return false;" +
+            "}" +
+            "return false;";
+
+    /**
+     * Entry - Inner class holding one resolved element and the locator it was resolved with
+     */
+    private static class Entry {
+        private final WebElement element;
+        private final By locator;
+        private final String strategy;
+        private final String value;
+
+        Entry(WebElement element, By locator, LocatorInfo locatorInfo) {
+            this.element = element;
+            this.locator = locator;
+            this.strategy = ElementSnapshot.toStrategy(locatorInfo.getLocatorType());
+            this.value = locatorInfo.getLocatorValue();
+        }
+    }
+
+    private final WebDriver driver;
+    private final WaitEngine waitEngine;
+    private final ObjectRepositoryManager orManager;
+    private final boolean enabled;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private long hits;
+    private long misses;
+
+    public ElementCache(WebDriver driver) {
+        this.driver = driver;
+        this.waitEngine = WaitEngine.getInstance();
+        this.orManager = ObjectRepositoryManager.getInstance();
+        this.enabled = ConfigLoader.getInstance().isElementCacheEnabled();
+    }
+
+    // ==================== Lookup ====================
+
+    /**
+     * Get an element by OR key, reusing the cached one if it is still valid
+     * @param elementKey OR element key
+     * @param condition Condition the element must meet (not INVISIBLE)
+     * @param timeoutSeconds Maximum wait on a miss
+     * @return WebElement
+     */
+    public WebElement find(String elementKey, Condition condition, int timeoutSeconds) {
+        By locator = orManager.getLocator(elementKey);
+        if (enabled) {
+            Entry entry = entries.get(elementKey);
+            if (entry != null && entry.locator.equals(locator)
+                    && isValid(entry, condition)) {
+                hits++;
+                totalHits.incrementAndGet();
+                return entry.element;
+            }
+            misses++;
+            totalMisses.incrementAndGet();
+        }
+
+        WebElement element = waitEngine.waitFor(driver, elementKey, locator, condition, timeoutSeconds);
+        LocatorInfo locatorInfo = enabled ? orManager.getLocatorInfo(elementKey) : null;
+        if (locatorInfo != null) {
+            entries.put(elementKey, new Entry(element, locator, locatorInfo));
+        }
+        return element;
+    }
+
+    /**
+     * Run an action on an element; if it went stale, look it up again and retry once
+     * @param elementKey OR element key
+     * @param condition Condition the element must meet
+     * @param timeoutSeconds Maximum wait on a miss
+     * @param action Action to run
+     * @return Action result
+     */
+    public <T> T apply(String elementKey, Condition condition, int timeoutSeconds, Function<WebElement, T> action) {
+        try {
+            return action.apply(find(elementKey, condition, timeoutSeconds));
+        } catch (StaleElementReferenceException e) {
+            logger.debug("Element '{}' went stale - looking it up again", elementKey);
+            totalStale.incrementAndGet();
+            entries.remove(elementKey);
+            return action.apply(find(elementKey, condition, timeoutSeconds));
+        }
+    }
+
+    /**
+     * Run an action on an element; if it went stale, look it up again and retry once
+     * @param elementKey OR element key
+     * @param condition Condition the element must meet
+     * @param timeoutSeconds Maximum wait on a miss
+     * @param action Action to run
+     */
+    public void run(String elementKey, Condition condition, int timeoutSeconds, Consumer<WebElement> action) {
+        apply(elementKey, condition, timeoutSeconds, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    private boolean isValid(Entry entry, Condition condition) {
+        try {
+            Object valid = ((JavascriptExecutor) driver).executeScript(VALIDATE_SCRIPT, entry.element, condition.name(),
+                    entry.strategy, entry.value);
+            if (valid == null && condition == Condition.PRESENT) {
+                // Locator the script cannot evaluate - compare with the first match from WebDriver
+                List<WebElement> matches = driver.findElements(entry.locator);
+                return !matches.isEmpty() && matches.get(0).equals(entry.element);
+            }
+            return Boolean.TRUE.equals(valid);
+        } catch (WebDriverException e) {
+            // Stale, other browsing context or document gone
+            return false;
+        }
+    }
+
+    // ==================== Invalidation ====================
+
+    /**
+     * Drop every cached element (navigation, frame or window switch, known re-render)
+     */
+    public void invalidate() {
+        entries.clear();
+    }
+
+    /**
+     * Drop one cached element
+     * @param elementKey OR element key
+     */
+    public void invalidate(String elementKey) {
+        entries.remove(elementKey);
+    }
+
+    // ==================== Statistics ====================
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public static long getTotalHits() {
+        return totalHits.get();
+    }
+
+    public static long getTotalMisses() {
+        return totalMisses.get();
+    }
+
+    /**
+     * Get how often a cached element went stale mid-action and was looked up again
+     * @return Re-lookups across all page caches
+     */
+    public static long getTotalStale() {
+        return totalStale.get();
+    }
+
+    /**
+     * Log run-wide hit/miss totals
+     */
+    public static void printStatistics() {
+        long hitCount = getTotalHits();
+        long lookups = hitCount + getTotalMisses();
+        logger.info("Element cache: {} hit(s) / {} lookup(s) ({}%), {} stale re-lookup(s)", hitCount, lookups,
+                lookups == 0 ? 0 : hitCount * 100 / lookups, getTotalStale());
+    }
+}
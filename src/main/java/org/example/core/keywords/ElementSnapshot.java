@@ -0,0 +1,288 @@
+package org.example.core.keywords;
+
+import org.example.utils.json.ObjectRepositoryManager;
+import org.example.utils.json.ObjectRepositoryManager.LocatorInfo;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ElementSnapshot - State of several OR elements read in a single executeScript round-trip.
+ *
+ * Each key is resolved from the Object Repository and looked up in the page by the script.
+ * An element counts as displayed under the same rule as BasePage.isDisplayed: any match that is
+ * visible or has a height; its state is read from that match (the first match otherwise).
+ * Per element it returns presence, visibility, enabled, selected, visible text and value -
+ * instead of one or more WebDriver calls per element and property. No waiting: the snapshot
+ * is the DOM at the moment of the call.
+ */
+public class ElementSnapshot {
+
+    // find(type, value): first element for an OR locator (strategy from toStrategy), or null
+    static final String FIND_FUNCTION =
+            "function find(t, v) {" +
+            "  switch (t) {" +
+            "    case 'id': return document.getElementById(v);" +
+            "    case 'name': return document.getElementsByName(v)[0] || null;" +
+            "    case 'css': return document.querySelector(v);" +
+            "    case 'tag': return document.getElementsByTagName(v)[0] || null;" +
+            "    case 'class': return document.getElementsByClassName(v)[0] || null;" +
+            "    case 'link': case 'partialLink':" +
+            "      var links = document.getElementsByTagName('a');" +
+            "      for (var i = 0; i < links.length; i++) {" +
+            "        var txt = (links[i].innerText || '').trim();" +
+            "        if (t === 'link' ? txt === v : txt.indexOf(v) >= 0) return links[i];" +
+            "      }" +
+            "      return null;" +
+            "    default: return document.evaluate(v, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "  }" +
+            "}";
+
+    // findAll(t, v): every element for an OR locator, in document order
+    static final String FIND_ALL_FUNCTION =
+            "function findAll(t, v) {" +
+            "  var list;" +
+            "  switch (t) {" +
+            "    case 'id': list = document.querySelectorAll('[id=\"' + CSS.escape(v) + '\"]'); break;" +
+            "    case 'name': list = document.getElementsByName(v); break;" +
+            "    case 'css': list = document.querySelectorAll(v); break;" +
+            "    case 'tag': list = document.getElementsByTagName(v); break;" +
+            "    case 'class': list = document.getElementsByClassName(v); break;" +
+            "    case 'link': case 'partialLink':" +
+            "      return Array.prototype.filter.call(document.getElementsByTagName('a'), function (a) {" +
+            "        var txt = (a.innerText || '').trim();" +
+            "        return t === 'link' ? txt === v : txt.indexOf(v) >= 0;" +
+            "      });" +
+            "    default:" +
+            "      var r = document.evaluate(v, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];" +
+            "      for (var i = 0; i < r.snapshotLength; i++) {" +
+            "        var n = r.snapshotItem(i);" +
+            "        out.push(n.nodeType === 1 ? n : n.parentElement);" +
+            "      }" +
+            "      return out.filter(function (n) { return n; });" +
+            "  }" +
+            "  return Array.prototype.slice.call(list);" +
+            "}";
+
+    // Displayed = same rule as BasePage.isDisplayed: any match that is visible, or that has a height
+    // (fixed-position elements may fail the strict visibility check). State is read from that match.
+    private static final String SNAPSHOT_SCRIPT = FIND_ALL_FUNCTION +
+            "var specs = arguments[0], out = [];" +
+            "function shown(e) {" +
+            "  if (!e.getClientRects().length) return false;" +
+            "  var s = getComputedStyle(e);" +
+            "  return s.visibility !== 'hidden' && s.visibility !== 'collapse' && s.opacity !== '0';" +
+            "}" +
+            "for (var i = 0; i < specs.length; i++) {" +
+            "  var all = [];" +
+            "  try { all = findAll(specs[i][0], specs[i][1]); } catch (x) { all = []; }" +
+            "  if (!all.length) { out.push(null); continue; }" +
+            "  var e = all[0], d = false;" +
+            "  for (var j = 0; j < all.length; j++) {" +
+            "    if (shown(all[j]) || all[j].getBoundingClientRect().height > 0) { e = all[j]; d = true; break; }" +
+            "  }" +
+            "  out.push({displayed: d, enabled: !e.matches(':disabled'), selected: !!(e.checked || e.selected)," +
+            "            text: d ? (e.innerText || '').trim() : '', value: e.value === undefined ? null : String(e.value)});" +
+            "}" +
+            "return out;";
+
+    private final Map<String, ElementState> states;
+
+    /**
+     * ElementState - Inner class holding the state of one element
+     */
+    public static class ElementState {
+        private final boolean present;
+        private final boolean displayed;
+        private final boolean enabled;
+        private final boolean selected;
+        private final String text;
+        private final String value;
+
+        ElementState(boolean present, boolean displayed, boolean enabled, boolean selected, String text, String value) {
+            this.present = present;
+            this.displayed = displayed;
+            this.enabled = enabled;
+            this.selected = selected;
+            this.text = text;
+            this.value = value;
+        }
+
+        public boolean isPresent() {
+            return present;
+        }
+
+        public boolean isDisplayed() {
+            return displayed;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public boolean isSelected() {
+            return selected;
+        }
+
+        /**
+         * Get visible text (empty if not displayed, like WebElement.getText)
+         * @return Trimmed text
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * Get value property (inputs, selects, textareas)
+         * @return Value, or null if the element has none
+         */
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            if (!present) {
+                return "absent";
+            }
+            return String.format("displayed=%s, enabled=%s, selected=%s, text='%s'", displayed, enabled, selected, text);
+        }
+    }
+
+    private ElementSnapshot(Map<String, ElementState> states) {
+        this.states = states;
+    }
+
+    /**
+     * Read the state of OR elements in one script call
+     * @param driver WebDriver instance
+     * @param elementKeys OR element keys
+     * @return Snapshot in key order
+     */
+    @SuppressWarnings("unchecked")
+    public static ElementSnapshot take(WebDriver driver, List<String> elementKeys) {
+        ObjectRepositoryManager orManager = ObjectRepositoryManager.getInstance();
+        List<List<String>> specs = new ArrayList<>(elementKeys.size());
+        for (String elementKey : elementKeys) {
+            LocatorInfo locatorInfo = orManager.getLocatorInfo(elementKey);
+            if (locatorInfo == null) {
+                throw new RuntimeException("Element not found in OR: " + elementKey);
+            }
+            specs.add(Arrays.asList(toStrategy(locatorInfo.getLocatorType()), locatorInfo.getLocatorValue()));
+        }
+
+        List<Object> results = (List<Object>) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, specs);
+
+        Map<String, ElementState> states = new LinkedHashMap<>();
+        for (int i = 0; i < elementKeys.size(); i++) {
+            Map<String, Object> result = (Map<String, Object>) results.get(i);
+            states.put(elementKeys.get(i), result == null
+                    ? new ElementState(false, false, false, false, "", null)
+                    : new ElementState(true,
+                            Boolean.TRUE.equals(result.get("displayed")),
+                            Boolean.TRUE.equals(result.get("enabled")),
+                            Boolean.TRUE.equals(result.get("selected")),
+                            String.valueOf(result.get("text")),
+                            result.get("value") != null ? String.valueOf(result.get("value")) : null));
+        }
+        return new ElementSnapshot(states);
+    }
+
+    /**
+     * Get state for a key
+     * @param elementKey OR element key
+     * @return State
+     * @throws IllegalArgumentException if the key was not part of the snapshot
+     */
+    public ElementState get(String elementKey) {
+        ElementState state = states.get(elementKey);
+        if (state == null) {
+            throw new IllegalArgumentException("Element not in snapshot: " + elementKey);
+        }
+        return state;
+    }
+
+    public boolean isDisplayed(String elementKey) {
+        return get(elementKey).isDisplayed();
+    }
+
+    public String getText(String elementKey) {
+        return get(elementKey).getText();
+    }
+
+    /**
+     * Check if every element is displayed
+     * @return true if all displayed
+     */
+    public boolean allDisplayed() {
+        return getNotDisplayed().isEmpty();
+    }
+
+    /**
+     * Check if at least one element is displayed
+     * @return true if any displayed
+     */
+    public boolean anyDisplayed() {
+        return states.values().stream().anyMatch(ElementState::isDisplayed);
+    }
+
+    /**
+     * Get keys of elements that are absent or hidden
+     * @return Keys in snapshot order
+     */
+    public List<String> getNotDisplayed() {
+        List<String> keys = new ArrayList<>();
+        states.forEach((key, state) -> {
+            if (!state.isDisplayed()) {
+                keys.add(key);
+            }
+        });
+        return keys;
+    }
+
+    /**
+     * Get all states
+     * @return Unmodifiable map of key to state, in snapshot order
+     */
+    public Map<String, ElementState> getStates() {
+        return Collections.unmodifiableMap(states);
+    }
+
+    @Override
+    public String toString() {
+        return states.toString();
+    }
+
+    /**
+     * Map an OR locator type to the script's lookup strategy (mirrors ObjectRepositoryManager)
+     */
+    static String toStrategy(String locatorType) {
+        switch (locatorType.toLowerCase().trim()) {
+            case "id":
+                return "id";
+            case "name":
+                return "name";
+            case "css":
+            case "cssselector":
+                return "css";
+            case "linktext":
+                return "link";
+            case "partiallinktext":
+                return "partialLink";
+            case "tagname":
+            case "tag":
+                return "tag";
+            case "classname":
+            case "class":
+                return "class";
+            default:
+                return "xpath";
+        }
+    }
+}
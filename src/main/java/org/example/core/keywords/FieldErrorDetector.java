@@ -0,0 +1,184 @@
+package org.example.core.keywords;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.utils.json.ObjectRepositoryManager;
+import org.example.utils.json.ObjectRepositoryManager.LocatorInfo;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * FieldErrorDetector - Finds a validation error next to a form field in one script call.
+ *
+ * Every configured strategy (MUI FormControl/InputBase/helper text, aria-invalid, Tailwind
+ * error text in the surrounding divs, red border classes, red computed text colour) is compiled
+ * into a single script that locates the field and evaluates them in order in the browser,
+ * returning the first that matched. A field without an error therefore costs one round-trip
+ * instead of a chain of findElement/getAttribute calls per strategy.
+ *
+ * Strategies and their order come from field.error.strategies.
+ */
+public class FieldErrorDetector {
+
+    private static final Logger logger = LogManager.getLogger(FieldErrorDetector.class);
+    private static FieldErrorDetector instance;
+
+    // outer(e, sel): outermost ancestor matching sel (XPath ancestor::x in document order)
+    // div(e, n): n-th nearest div ancestor (XPath ancestor::div[n]); cls(e): class attribute
+    private static final String HELPER_FUNCTIONS =
+            "function outer(e, sel) { var m = null; for (var a = e.parentElement; a; a = a.parentElement) if (a.matches(sel)) m = a; return m; }" +
+            "function div(e, n) { for (var a = e.parentElement; a; a = a.parentElement) if (a.tagName === 'DIV' && --n === 0) return a; return null; }" +
+            "function cls(e) { return (e && e.getAttribute('class')) || ''; }";
+
+    /**
+     * Strategy - Error indicators, each a script body that receives the field as f
+     */
+    public enum Strategy {
+        MUI_FORM_CONTROL("mui-form-control",
+                "var c = outer(f, 'div[class*=MuiFormControl-root]');" +
+                "return !!(c && c.querySelector('p[class*=error]'));"),
+        MUI_INPUT_BASE("mui-input-base",
+                "return cls(outer(f, 'div[class*=MuiInputBase-root]')).indexOf('Mui-error') >= 0;"),
+        ARIA_INVALID("aria-invalid",
+                "return f.getAttribute('aria-invalid') === 'true';"),
+        NEARBY_TEXT("nearby-text",
+                "var d = div(f, 1), sel = 'p[class*=text-red],p[class*=text-customRed],p[class*=error]';" +
+                "if (!d) return false;" +
+                "if (d.querySelector(sel)) return true;" +
+                "for (var s = d.nextElementSibling; s; s = s.nextElementSibling) if (s.matches(sel)) return true;" +
+                "return false;"),
+        WRAPPER_TEXT("wrapper-text",
+                "var d = div(f, 2);" +
+                "return !!(d && d.querySelector('p[class*=text-red],p[class*=text-customRed],p[class*=Mui-error]," +
+                "span[class*=text-red],span[class*=text-customRed],span[class*=error]'));"),
+        BORDER_CLASS("border-class",
+                "var c = cls(outer(f, 'div[class*=MuiInputBase-root],div[class*=border]'));" +
+                "return c.indexOf('border-red') >= 0 || c.indexOf('border-customRed') >= 0 || c.indexOf('Mui-error') >= 0;"),
+        HELPER_TEXT("helper-text",
+                "var c = outer(f, 'div[class*=MuiFormControl-root],div[class*=MuiTextField-root]');" +
+                "return !!(c && c.querySelector('p[class*=MuiFormHelperText-root],p[class*=MuiFormHelperText][class*=Mui-error]'));"),
+        OUTER_TEXT("outer-text",
+                "var d = div(f, 3);" +
+                "return !!(d && d.querySelector('p[class*=text-red],p[class*=text-customRed],p[class*=error]'));"),
+        // Custom red error text that doesn't use standard CSS classes
+        RED_TEXT("red-text",
+                "var p = f;" +
+                "for (var i = 0; i < 5 && p.parentElement; i++) p = p.parentElement;" +
+                "var es = p.querySelectorAll('p,span');" +
+                "for (var j = 0; j < es.length; j++) {" +
+                "  var e = es[j], t = e.textContent.trim();" +
+                "  if (!t || t.length < 3 || !e.offsetParent) continue;" +
+                "  var m = getComputedStyle(e).color.match(/rgb\\((\\d+),\\s*(\\d+),\\s*(\\d+)/);" +
+                "  if (m && +m[1] > 180 && +m[2] < 100 && +m[3] < 100) return true;" +
+                "}" +
+                "return false;");
+
+        private final String strategyName;
+        private final String script;
+
+        Strategy(String strategyName, String script) {
+            this.strategyName = strategyName;
+            this.script = script;
+        }
+
+        public String getStrategyName() {
+            return strategyName;
+        }
+
+        /**
+         * Get strategy by its config name
+         * @param name Strategy name (e.g. "aria-invalid")
+         * @return Strategy
+         */
+        public static Strategy fromString(String name) {
+            for (Strategy strategy : values()) {
+                if (strategy.strategyName.equalsIgnoreCase(name.trim())) {
+                    return strategy;
+                }
+            }
+            throw new IllegalArgumentException("Unknown field error strategy: " + name);
+        }
+
+        @Override
+        public String toString() {
+            return strategyName;
+        }
+    }
+
+    private final List<Strategy> strategies;
+    private final String detectScript;
+
+    private FieldErrorDetector() {
+        List<Strategy> configured = new ArrayList<>();
+        for (String name : ConfigLoader.getInstance().getFieldErrorStrategies()) {
+            configured.add(Strategy.fromString(name));
+        }
+        this.strategies = Collections.unmodifiableList(configured);
+        this.detectScript = compile(strategies);
+        logger.info("Field error strategies: {}", strategies);
+    }
+
+    /**
+     * Get singleton instance
+     * @return FieldErrorDetector instance
+     */
+    public static synchronized FieldErrorDetector getInstance() {
+        if (instance == null) {
+            instance = new FieldErrorDetector();
+        }
+        return instance;
+    }
+
+    /**
+     * Build one script that finds the field and returns the name of the first matching strategy,
+     * '' if none matched, or null if the field is not on the page
+     */
+    private static String compile(List<Strategy> strategies) {
+        StringBuilder script = new StringBuilder(ElementSnapshot.FIND_FUNCTION).append(HELPER_FUNCTIONS)
+                .append("var f = find(arguments[0], arguments[1]);")
+                .append("if (f && f.nodeType !== 1) f = f.parentElement;")
+                .append("if (!f) return null;");
+        for (Strategy strategy : strategies) {
+            script.append("try { if ((function (f) {").append(strategy.script).append("})(f)) return '")
+                    .append(strategy.strategyName).append("'; } catch (x) {}");
+        }
+        return script.append("return '';").toString();
+    }
+
+    // ==================== Detection ====================
+
+    /**
+     * Check the field for a validation error
+     * @param driver WebDriver instance
+     * @param elementKey OR key of the input field
+     * @return Strategy that found the error, or null if no error (or no such field on the page)
+     */
+    public Strategy detect(WebDriver driver, String elementKey) {
+        LocatorInfo locatorInfo = ObjectRepositoryManager.getInstance().getLocatorInfo(elementKey);
+        if (locatorInfo == null) {
+            throw new RuntimeException("Element not found in OR: " + elementKey);
+        }
+
+        Object result = ((JavascriptExecutor) driver).executeScript(detectScript,
+                ElementSnapshot.toStrategy(locatorInfo.getLocatorType()), locatorInfo.getLocatorValue());
+        if (result == null) {
+            logger.debug("Field not found for error check: {}", elementKey);
+            return null;
+        }
+        String matched = result.toString();
+        return matched.isEmpty() ? null : Strategy.fromString(matched);
+    }
+
+    /**
+     * Get the strategies evaluated, in order
+     * @return Configured strategies
+     */
+    public List<Strategy> getStrategies() {
+        return strategies;
+    }
+}
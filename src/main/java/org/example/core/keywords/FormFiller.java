@@ -0,0 +1,90 @@
+package org.example.core.keywords;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.utils.json.ObjectRepositoryManager;
+import org.example.utils.json.ObjectRepositoryManager.LocatorInfo;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FormFiller - Sets several OR text fields in a single executeScript round-trip.
+ *
+ * Each value is written with the native HTMLInputElement/HTMLTextAreaElement value setter
+ * (React tracks the last value it saw, so assigning .value directly would be ignored), then
+ * input, change and blur are dispatched so React/MUI form state, validation and dirty
+ * tracking update as if the user typed it.
+ *
+ * Fields the script should not set are reported back for real keystrokes: not found yet,
+ * not a text input/textarea, disabled or read-only, value longer than maxlength, or a value
+ * the app rewrote on input (masks, digit filters).
+ */
+public final class FormFiller {
+
+    private static final Logger logger = LogManager.getLogger(FormFiller.class);
+
+    // arguments[0]: [[strategy, value, text], ...]; returns indexes of fields left for keystrokes
+    private static final String FILL_SCRIPT = ElementSnapshot.FIND_FUNCTION +
+            "var fields = arguments[0], rest = [];" +
+            "for (var i = 0; i < fields.length; i++) {" +
+            "  var f = null, text = fields[i][2];" +
+            "  try { f = find(fields[i][0], fields[i][1]); } catch (x) { f = null; }" +
+            "  if (f && f.nodeType !== 1) f = f.parentElement;" +
+            "  var proto = !f ? null : f.tagName === 'INPUT' ? HTMLInputElement.prototype" +
+            "      : f.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype : null;" +
+            "  if (!proto || f.disabled || f.readOnly" +
+            "      || /^(checkbox|radio|file|button|submit|reset|image|range|color)$/.test(f.type)" +
+            "      || (f.maxLength >= 0 && text.length > f.maxLength)) { rest.push(i); continue; }" +
+            "  f.scrollIntoView({block: 'center'});" +
+            "  f.focus();" +
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(f, text);" +
+            "  f.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  f.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  if (document.activeElement === f) { f.blur(); }" +
+            "  else { f.dispatchEvent(new FocusEvent('focusout', {bubbles: true})); f.dispatchEvent(new FocusEvent('blur')); }" +
+            "  if (f.value !== text) rest.push(i);" +
+            "}" +
+            "return rest;";
+
+    private FormFiller() {
+        // Private constructor - utility class
+    }
+
+    /**
+     * Set text fields in one script call
+     * @param driver WebDriver instance
+     * @param elementKeyToValue OR element key -> value, in fill order
+     * @return Keys the script did not set (to be typed with real keystrokes), in fill order
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> fill(WebDriver driver, Map<String, String> elementKeyToValue) {
+        ObjectRepositoryManager orManager = ObjectRepositoryManager.getInstance();
+        List<String> keys = new ArrayList<>(elementKeyToValue.keySet());
+        List<List<String>> fields = new ArrayList<>(keys.size());
+        for (String elementKey : keys) {
+            LocatorInfo locatorInfo = orManager.getLocatorInfo(elementKey);
+            if (locatorInfo == null) {
+                throw new RuntimeException("Element not found in OR: " + elementKey);
+            }
+            fields.add(Arrays.asList(ElementSnapshot.toStrategy(locatorInfo.getLocatorType()),
+                    locatorInfo.getLocatorValue(), elementKeyToValue.get(elementKey)));
+        }
+        if (fields.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Object> rest = (List<Object>) ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, fields);
+        List<String> remaining = new ArrayList<>(rest.size());
+        for (Object index : rest) {
+            remaining.add(keys.get(((Number) index).intValue()));
+        }
+        logger.debug("Filled {} of {} field(s) by script, left for keystrokes: {}",
+                keys.size() - remaining.size(), keys.size(), remaining);
+        return remaining;
+    }
+}
@@ -4,16 +4,19 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.ConfigLoader;
 import org.example.core.driver.DriverManager;
+import org.example.core.wait.Pause;
+import org.example.core.wait.Quiescence;
+import org.example.core.wait.WaitEngine;
+import org.example.core.wait.WaitEngine.Condition;
 import org.example.utils.json.ObjectRepositoryManager;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -24,15 +27,18 @@ public class WebActions {
 
     private static final Logger logger = LogManager.getLogger(WebActions.class);
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final WaitEngine waitEngine;
+    private final int explicitWait;
     private final ObjectRepositoryManager orManager;
+    private final ElementCache elementCache;
     private final Actions actions;
 
     public WebActions() {
         this.driver = DriverManager.getDriver();
-        int explicitWait = ConfigLoader.getInstance().getExplicitWait();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(explicitWait));
+        this.explicitWait = ConfigLoader.getInstance().getExplicitWait();
+        this.waitEngine = WaitEngine.getInstance();
         this.orManager = ObjectRepositoryManager.getInstance();
+        this.elementCache = new ElementCache(driver);
         this.actions = new Actions(driver);
     }
 
@@ -44,6 +50,7 @@ public class WebActions {
      */
     public void navigateTo(String url) {
         driver.get(url);
+        elementCache.invalidate();
         logger.info("Navigated to: {}", url);
     }
 
@@ -60,6 +67,7 @@ public class WebActions {
      */
     public void refreshPage() {
         driver.navigate().refresh();
+        elementCache.invalidate();
         logger.info("Page refreshed");
     }
 
@@ -68,6 +76,7 @@ public class WebActions {
      */
     public void navigateBack() {
         driver.navigate().back();
+        elementCache.invalidate();
         logger.info("Navigated back");
     }
 
@@ -76,19 +85,19 @@ public class WebActions {
      */
     public void navigateForward() {
         driver.navigate().forward();
+        elementCache.invalidate();
         logger.info("Navigated forward");
     }
 
     // ==================== Element Finder Methods ====================
 
     /**
-     * Find element using Object Repository key
+     * Find element using Object Repository key (reused from the element cache while still attached)
      * @param elementKey OR element key
      * @return WebElement
      */
     public WebElement findElement(String elementKey) {
-        By locator = orManager.getLocator(elementKey);
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return elementCache.find(elementKey, Condition.PRESENT, explicitWait);
     }
 
     /**
@@ -97,7 +106,7 @@ public class WebActions {
      * @return WebElement
      */
     public WebElement findElement(By locator) {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return waitEngine.waitFor(driver, locator.toString(), locator, Condition.PRESENT, explicitWait);
     }
 
     /**
@@ -116,8 +125,7 @@ public class WebActions {
      * @return WebElement that is clickable
      */
     public WebElement findClickableElement(String elementKey) {
-        By locator = orManager.getLocator(elementKey);
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return elementCache.find(elementKey, Condition.CLICKABLE, explicitWait);
     }
 
     /**
@@ -126,8 +134,7 @@ public class WebActions {
      * @return WebElement that is visible
      */
     public WebElement findVisibleElement(String elementKey) {
-        By locator = orManager.getLocator(elementKey);
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return elementCache.find(elementKey, Condition.VISIBLE, explicitWait);
     }
 
     // ==================== Click Actions ====================
@@ -137,8 +144,7 @@ public class WebActions {
      * @param elementKey OR element key
      */
     public void click(String elementKey) {
-        WebElement element = findClickableElement(elementKey);
-        element.click();
+        elementCache.run(elementKey, Condition.CLICKABLE, explicitWait, WebElement::click);
         logger.info("Clicked on element: {}", elementKey);
     }
 
@@ -167,8 +173,8 @@ public class WebActions {
      * @param elementKey OR element key
      */
     public void jsClick(String elementKey) {
-        WebElement element = findElement(elementKey);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        elementCache.run(elementKey, Condition.PRESENT, explicitWait,
+                element -> ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element));
         logger.info("JS clicked on element: {}", elementKey);
     }
 
@@ -180,20 +186,32 @@ public class WebActions {
      * @param text Text to type
      */
     public void type(String elementKey, String text) {
-        WebElement element = findVisibleElement(elementKey);
-        element.clear();
-        element.sendKeys(text);
+        elementCache.run(elementKey, Condition.VISIBLE, explicitWait, element -> {
+            element.clear();
+            element.sendKeys(text);
+        });
         logger.info("Typed '{}' into element: {}", text, elementKey);
     }
 
+    /**
+     * Fill several text fields in one script call; fields the script cannot set are typed
+     * @param elementKeyToValue OR element key -> value, in fill order
+     */
+    public void fillForm(Map<String, String> elementKeyToValue) {
+        List<String> typed = FormFiller.fill(driver, elementKeyToValue);
+        for (String elementKey : typed) {
+            type(elementKey, elementKeyToValue.get(elementKey));
+        }
+        logger.info("Filled {} field(s), {} by keystrokes", elementKeyToValue.size(), typed.size());
+    }
+
     /**
      * Type text without clearing
      * @param elementKey OR element key
      * @param text Text to type
      */
     public void typeWithoutClear(String elementKey, String text) {
-        WebElement element = findVisibleElement(elementKey);
-        element.sendKeys(text);
+        elementCache.run(elementKey, Condition.VISIBLE, explicitWait, element -> element.sendKeys(text));
         logger.info("Typed '{}' into element (without clear): {}", text, elementKey);
     }
 
@@ -202,8 +220,7 @@ public class WebActions {
      * @param elementKey OR element key
      */
     public void clear(String elementKey) {
-        WebElement element = findVisibleElement(elementKey);
-        element.clear();
+        elementCache.run(elementKey, Condition.VISIBLE, explicitWait, WebElement::clear);
         logger.info("Cleared element: {}", elementKey);
     }
 
@@ -213,8 +230,7 @@ public class WebActions {
      * @param keys Keys to send
      */
     public void sendKeys(String elementKey, Keys keys) {
-        WebElement element = findVisibleElement(elementKey);
-        element.sendKeys(keys);
+        elementCache.run(elementKey, Condition.VISIBLE, explicitWait, element -> element.sendKeys(keys));
         logger.info("Sent keys {} to element: {}", keys.name(), elementKey);
     }
 
@@ -342,8 +358,7 @@ public class WebActions {
      * @return Element text
      */
     public String getText(String elementKey) {
-        WebElement element = findVisibleElement(elementKey);
-        String text = element.getText();
+        String text = elementCache.apply(elementKey, Condition.VISIBLE, explicitWait, WebElement::getText);
         logger.info("Got text '{}' from element: {}", text, elementKey);
         return text;
     }
@@ -355,8 +370,8 @@ public class WebActions {
      * @return Attribute value
      */
     public String getAttribute(String elementKey, String attributeName) {
-        WebElement element = findElement(elementKey);
-        return element.getAttribute(attributeName);
+        return elementCache.apply(elementKey, Condition.PRESENT, explicitWait,
+                element -> element.getAttribute(attributeName));
     }
 
     /**
@@ -395,8 +410,9 @@ public class WebActions {
      */
     public boolean isDisplayed(String elementKey) {
         try {
-            WebElement element = findElement(elementKey);
-            return element.isDisplayed();
+            By locator = orManager.getLocator(elementKey);
+            WebElement element = waitEngine.probe(driver, elementKey, locator, Condition.PRESENT, explicitWait);
+            return element != null && element.isDisplayed();
         } catch (Exception e) {
             return false;
         }
@@ -409,8 +425,9 @@ public class WebActions {
      */
     public boolean isEnabled(String elementKey) {
         try {
-            WebElement element = findElement(elementKey);
-            return element.isEnabled();
+            By locator = orManager.getLocator(elementKey);
+            WebElement element = waitEngine.probe(driver, elementKey, locator, Condition.PRESENT, explicitWait);
+            return element != null && element.isEnabled();
         } catch (Exception e) {
             return false;
         }
@@ -430,6 +447,55 @@ public class WebActions {
         }
     }
 
+    /**
+     * Verify element is not displayed: wait for the app to go idle (at most
+     * absence.settle.timeout), then check once
+     * @param elementKey OR element key
+     * @return true if no match is displayed
+     */
+    public boolean isAbsent(String elementKey) {
+        By locator = orManager.getLocator(elementKey);
+        try {
+            waitForQuiescence(ConfigLoader.getInstance().getAbsenceSettleTimeout());
+        } catch (WebDriverException e) {
+            logger.debug("Quiescence check failed before absence check: {}", e.getMessage());
+        }
+        try {
+            for (WebElement element : driver.findElements(locator)) {
+                if (element.isDisplayed()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (StaleElementReferenceException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Read presence, visibility, enabled, selected, text and value of several elements in one script call
+     * @param elementKeys OR element keys
+     * @return Snapshot of the current DOM
+     */
+    public ElementSnapshot snapshot(List<String> elementKeys) {
+        return ElementSnapshot.take(driver, elementKeys);
+    }
+
+    /**
+     * Snapshot repeatedly until all elements are displayed (waits up to timeoutSeconds)
+     * @param elementKeys OR element keys
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return Snapshot in which all are displayed, or the last one taken
+     */
+    public ElementSnapshot snapshot(List<String> elementKeys, int timeoutSeconds) {
+        ElementSnapshot[] last = new ElementSnapshot[1];
+        ElementSnapshot matched = waitEngine.probeUntil(driver, "snapshot:" + String.join(",", elementKeys), d -> {
+            last[0] = ElementSnapshot.take(d, elementKeys);
+            return last[0].allDisplayed() ? last[0] : null;
+        }, timeoutSeconds);
+        return matched != null ? matched : (last[0] != null ? last[0] : snapshot(elementKeys));
+    }
+
     /**
      * Verify text is present in element
      * @param elementKey OR element key
@@ -489,8 +555,7 @@ public class WebActions {
      */
     public void waitForElementVisible(String elementKey, int timeoutSeconds) {
         By locator = orManager.getLocator(elementKey);
-        new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                .until(ExpectedConditions.visibilityOfElementLocated(locator));
+        waitEngine.waitFor(driver, elementKey, locator, Condition.VISIBLE, timeoutSeconds);
         logger.info("Waited for element to be visible: {}", elementKey);
     }
 
@@ -501,8 +566,7 @@ public class WebActions {
      */
     public void waitForElementClickable(String elementKey, int timeoutSeconds) {
         By locator = orManager.getLocator(elementKey);
-        new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                .until(ExpectedConditions.elementToBeClickable(locator));
+        waitEngine.waitFor(driver, elementKey, locator, Condition.CLICKABLE, timeoutSeconds);
         logger.info("Waited for element to be clickable: {}", elementKey);
     }
 
@@ -513,8 +577,7 @@ public class WebActions {
      */
     public void waitForElementInvisible(String elementKey, int timeoutSeconds) {
         By locator = orManager.getLocator(elementKey);
-        new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                .until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        waitEngine.waitForInvisible(driver, elementKey, locator, timeoutSeconds);
         logger.info("Waited for element to be invisible: {}", elementKey);
     }
 
@@ -522,21 +585,28 @@ public class WebActions {
      * Wait for page load complete
      */
     public void waitForPageLoad() {
-        wait.until(webDriver -> ((JavascriptExecutor) webDriver)
-                .executeScript("return document.readyState").equals("complete"));
+        waitEngine.until(driver, "document.readyState", webDriver -> ((JavascriptExecutor) webDriver)
+                .executeScript("return document.readyState").equals("complete"), explicitWait);
+        // readyState is complete long before the SPA has fetched and rendered its data
+        waitForQuiescence(ConfigLoader.getInstance().getQuiescenceTimeout());
         logger.info("Page load complete");
     }
 
+    /**
+     * Wait until the app is idle: no fetch/XHR in flight, no loading backdrop/spinner, no running transition
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return true if the app went idle in time (false is not an error)
+     */
+    public boolean waitForQuiescence(int timeoutSeconds) {
+        return Quiescence.waitFor(driver, timeoutSeconds);
+    }
+
     /**
      * Static wait (not recommended, use with caution)
      * @param seconds Seconds to wait
      */
     public void staticWait(int seconds) {
-        try {
-            Thread.sleep(seconds * 1000L);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        Pause.sleep(seconds * 1000L);
     }
 
     // ==================== Scroll Actions ====================
@@ -546,8 +616,8 @@ public class WebActions {
      * @param elementKey OR element key
      */
     public void scrollToElement(String elementKey) {
-        WebElement element = findElement(elementKey);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
+        elementCache.run(elementKey, Condition.PRESENT, explicitWait,
+                element -> ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element));
         logger.info("Scrolled to element: {}", elementKey);
     }
 
@@ -612,6 +682,7 @@ public class WebActions {
         String[] handleArray = handles.toArray(new String[0]);
         if (index < handleArray.length) {
             driver.switchTo().window(handleArray[index]);
+            elementCache.invalidate();
             logger.info("Switched to window index: {}", index);
         }
     }
@@ -624,6 +695,7 @@ public class WebActions {
         for (String handle : driver.getWindowHandles()) {
             if (!handle.equals(currentHandle)) {
                 driver.switchTo().window(handle);
+                elementCache.invalidate();
                 logger.info("Switched to new window");
                 break;
             }
@@ -642,6 +714,7 @@ public class WebActions {
                 break;
             }
         }
+        elementCache.invalidate();
         logger.info("Closed current window and switched back");
     }
 
@@ -652,6 +725,7 @@ public class WebActions {
     public void switchToFrame(String elementKey) {
         WebElement frame = findElement(elementKey);
         driver.switchTo().frame(frame);
+        elementCache.invalidate();
         logger.info("Switched to frame: {}", elementKey);
     }
 
@@ -661,6 +735,7 @@ public class WebActions {
      */
     public void switchToFrameByIndex(int index) {
         driver.switchTo().frame(index);
+        elementCache.invalidate();
         logger.info("Switched to frame index: {}", index);
     }
 
@@ -669,6 +744,7 @@ public class WebActions {
      */
     public void switchToDefaultContent() {
         driver.switchTo().defaultContent();
+        elementCache.invalidate();
         logger.info("Switched to default content");
     }
 
@@ -677,6 +753,7 @@ public class WebActions {
      */
     public void switchToParentFrame() {
         driver.switchTo().parentFrame();
+        elementCache.invalidate();
         logger.info("Switched to parent frame");
     }
 
@@ -686,7 +763,7 @@ public class WebActions {
      * Accept alert
      */
     public void acceptAlert() {
-        wait.until(ExpectedConditions.alertIsPresent());
+        waitEngine.until(driver, "alert", ExpectedConditions.alertIsPresent(), explicitWait);
         driver.switchTo().alert().accept();
         logger.info("Alert accepted");
     }
@@ -695,7 +772,7 @@ public class WebActions {
      * Dismiss alert
      */
     public void dismissAlert() {
-        wait.until(ExpectedConditions.alertIsPresent());
+        waitEngine.until(driver, "alert", ExpectedConditions.alertIsPresent(), explicitWait);
         driver.switchTo().alert().dismiss();
         logger.info("Alert dismissed");
     }
@@ -705,7 +782,7 @@ public class WebActions {
      * @return Alert text
      */
     public String getAlertText() {
-        wait.until(ExpectedConditions.alertIsPresent());
+        waitEngine.until(driver, "alert", ExpectedConditions.alertIsPresent(), explicitWait);
         return driver.switchTo().alert().getText();
     }
 
@@ -714,7 +791,7 @@ public class WebActions {
      * @param text Text to type
      */
     public void typeInAlert(String text) {
-        wait.until(ExpectedConditions.alertIsPresent());
+        waitEngine.until(driver, "alert", ExpectedConditions.alertIsPresent(), explicitWait);
         driver.switchTo().alert().sendKeys(text);
         logger.info("Typed '{}' into alert", text);
     }
@@ -3,6 +3,8 @@ package org.example.core.listeners;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.FrameworkConstants;
+import org.example.core.driver.DriverManager;
+import org.example.core.driver.GridCapacityClient;
 import org.example.reporting.ReportManager;
 import org.testng.*;
 
@@ -38,6 +40,13 @@ public class TestNGListener implements ITestListener, ISuiteListener, IInvokedMe
         logger.info("Test Suite Finished: {}", suite.getName());
         logger.info("========================================");
 
+        // Close any pooled browser sessions
+        DriverManager.shutdownPool();
+
+        if (GridCapacityClient.isStarted()) {
+            GridCapacityClient.getInstance().printStatistics();
+        }
+
         // Flush reports
         ReportManager.flushReports();
 
@@ -0,0 +1,235 @@
+package org.example.core.wait;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Pause - The one place fixed sleeps go through, plus condition-based settle waits to replace them.
+ *
+ * Pause.sleep scales the requested time by pause.scale (0 skips fixed sleeps entirely, which
+ * shows which ones a flow really needs) and records the time actually slept per call site
+ * (Class.method:line) and per scenario, so fixed-sleep time is visible in the report.
+ *
+ * The settle waits return as soon as the page is quiet instead of after a guessed delay:
+ * - untilDomStable: no change in element count/text length for quietMillis
+ * - untilNoPendingRequests: no XHR/fetch in flight (see Quiescence for the full idle barrier)
+ * - untilElementStable: element's position and size unchanged for stableMillis (animations)
+ * They are best-effort: they return false at the timeout rather than throwing.
+ */
+public final class Pause {
+
+    private static final Logger logger = LogManager.getLogger(Pause.class);
+
+    // Call site -> fixed-sleep totals for the run
+    private static final Map<String, SiteStats> statsBySite = new ConcurrentHashMap<>();
+
+    // Fixed-sleep time in the current scenario (per thread for parallel runs)
+    private static final ThreadLocal<AtomicLong> scenarioMillis = ThreadLocal.withInitial(AtomicLong::new);
+
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+
+    private static final String DOM_SIGNATURE_SCRIPT =
+            "return document.getElementsByTagName('*').length + ':' + (document.body ? document.body.textContent.length : 0);";
+
+    /**
+     * SiteStats - Inner class holding fixed-sleep totals for one call site
+     */
+    public static class SiteStats {
+        private final String site;
+        private final AtomicInteger count = new AtomicInteger(0);
+        private final AtomicLong totalMillis = new AtomicLong(0);
+
+        SiteStats(String site) {
+            this.site = site;
+        }
+
+        public String getSite() {
+            return site;
+        }
+
+        public int getCount() {
+            return count.get();
+        }
+
+        public long getTotalMillis() {
+            return totalMillis.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d ms in %d sleep(s)", site, getTotalMillis(), getCount());
+        }
+    }
+
+    private Pause() {
+        // Private constructor - utility class
+    }
+
+    // ==================== Fixed Sleeps ====================
+
+    /**
+     * Sleep for a fixed time (scaled by pause.scale) and record it against the caller
+     * @param millis Requested time in ms
+     */
+    public static void sleep(long millis) {
+        long scaled = Math.round(millis * ConfigLoader.getInstance().getPauseScale());
+        String site = callSite();
+        if (scaled > 0) {
+            try {
+                Thread.sleep(scaled);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        SiteStats stats = statsBySite.computeIfAbsent(site, SiteStats::new);
+        stats.count.incrementAndGet();
+        stats.totalMillis.addAndGet(scaled);
+        scenarioMillis.get().addAndGet(scaled);
+        logger.trace("Fixed sleep {} ms at {}", scaled, site);
+    }
+
+    /**
+     * Caller of Pause.sleep as SimpleClassName.method:line
+     */
+    private static String callSite() {
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> !frame.getClassName().equals(Pause.class.getName()))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    return className.substring(className.lastIndexOf('.') + 1) + "."
+                            + frame.getMethodName() + ":" + frame.getLineNumber();
+                })
+                .orElse("unknown"));
+    }
+
+    // ==================== Settle Waits ====================
+
+    /**
+     * Wait until the DOM stops changing (element count and text length unchanged for quietMillis)
+     * @param driver WebDriver instance
+     * @param quietMillis How long the DOM must stay unchanged
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return true if the DOM settled in time
+     */
+    public static boolean untilDomStable(WebDriver driver, long quietMillis, int timeoutSeconds) {
+        String[] last = new String[1];
+        long[] since = new long[1];
+        return settle(driver, "settle:dom", timeoutSeconds, d -> {
+            String signature = String.valueOf(((JavascriptExecutor) d).executeScript(DOM_SIGNATURE_SCRIPT));
+            return isUnchangedFor(signature, last, since, quietMillis);
+        });
+    }
+
+    /**
+     * Wait until no XHR/fetch request is in flight (counted by the Quiescence instrumentation)
+     * @param driver WebDriver instance
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return true if the network went idle in time
+     */
+    public static boolean untilNoPendingRequests(WebDriver driver, int timeoutSeconds) {
+        return settle(driver, "settle:requests", timeoutSeconds, d -> Quiescence.getState(d).getRequests() <= 0);
+    }
+
+    /**
+     * Wait until an element exists and its position and size stop changing (e.g. slide/fade-in finished)
+     * @param driver WebDriver instance
+     * @param elementKey Key latencies are recorded under
+     * @param locator Element locator
+     * @param stableMillis How long the rectangle must stay unchanged
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return true if the element settled in time
+     */
+    public static boolean untilElementStable(WebDriver driver, String elementKey, By locator,
+                                             long stableMillis, int timeoutSeconds) {
+        String[] last = new String[1];
+        long[] since = new long[1];
+        return settle(driver, "settle:" + elementKey, timeoutSeconds, d -> {
+            List<WebElement> elements = d.findElements(locator);
+            if (elements.isEmpty()) {
+                last[0] = null;
+                return false;
+            }
+            Rectangle rect = elements.get(0).getRect();
+            String signature = rect.getX() + "," + rect.getY() + "," + rect.getWidth() + "," + rect.getHeight();
+            return isUnchangedFor(signature, last, since, stableMillis);
+        });
+    }
+
+    private static boolean settle(WebDriver driver, String waitKey, int timeoutSeconds,
+                                  Function<WebDriver, Boolean> condition) {
+        boolean settled = WaitEngine.getInstance().probeUntil(driver, waitKey, condition, timeoutSeconds) != null;
+        if (!settled) {
+            logger.debug("{} did not settle within {}s", waitKey, timeoutSeconds);
+        }
+        return settled;
+    }
+
+    /**
+     * Track a polled signature; true once it has stayed the same for quietMillis
+     */
+    private static boolean isUnchangedFor(String signature, String[] last, long[] since, long quietMillis) {
+        long now = System.currentTimeMillis();
+        if (!signature.equals(last[0])) {
+            last[0] = signature;
+            since[0] = now;
+            return false;
+        }
+        return now - since[0] >= quietMillis;
+    }
+
+    // ==================== Statistics ====================
+
+    /**
+     * Get and reset the fixed-sleep time of the current thread's scenario
+     * @return Milliseconds slept since the last call
+     */
+    public static long drainScenarioMillis() {
+        return scenarioMillis.get().getAndSet(0);
+    }
+
+    /**
+     * Get fixed-sleep totals per call site, largest first
+     * @return Site statistics
+     */
+    public static List<SiteStats> getSiteStats() {
+        List<SiteStats> sites = new ArrayList<>(statsBySite.values());
+        sites.sort((a, b) -> Long.compare(b.getTotalMillis(), a.getTotalMillis()));
+        return sites;
+    }
+
+    /**
+     * Get total fixed-sleep time in the run
+     * @return Milliseconds
+     */
+    public static long getTotalMillis() {
+        return statsBySite.values().stream().mapToLong(SiteStats::getTotalMillis).sum();
+    }
+
+    /**
+     * Log fixed-sleep totals, largest call sites first
+     */
+    public static void printStatistics() {
+        List<SiteStats> sites = getSiteStats();
+        logger.info("Fixed sleeps: {} ms across {} call site(s) (pause.scale={})",
+                getTotalMillis(), sites.size(), ConfigLoader.getInstance().getPauseScale());
+        for (SiteStats stats : sites) {
+            logger.info("  {}", stats);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package org.example.core.wait;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.core.driver.BrowserType;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Quiescence - Barrier that resolves as soon as the application is idle.
+ *
+ * An instrumentation script records fetch/XHR requests in flight with their URL and start time.
+ * Requests whose URL contains a quiescence.ignore.urls entry, or that have been open longer than
+ * quiescence.request.max.age.ms (long-polling), do not count. Each check also counts visible
+ * loading backdrops (MUI backdrops other than the backdrop behind an open dialog, drawer or menu),
+ * visible spinners (quiescence.busy.selectors) and running finite CSS transitions/animations
+ * (infinite ones such as spinners and marquees are ignored). The app is idle when all four are
+ * zero for quiescence.quiet.ms.
+ *
+ * Latencies are learned per call site (quiescence:Class.method:line), and every wait runs up to
+ * the caller's timeout.
+ *
+ * On Chromium the script is registered via CDP Page.addScriptToEvaluateOnNewDocument, so it
+ * sees requests from the first moment of every page load. Elsewhere it is injected by the first
+ * check on a page, and requests already in flight at that moment are not counted.
+ */
+public final class Quiescence {
+
+    private static final Logger logger = LogManager.getLogger(Quiescence.class);
+
+    private static final String WAIT_KEY_PREFIX = "quiescence:";
+
+    // Idempotent: wraps XHR.open/send and fetch once per document; pending = id -> {url, start}
+    private static final String INSTRUMENTATION_SCRIPT =
+            "(function () {" +
+            "  if (window.__quiescence) return;" +
+            "  var q = window.__quiescence = {pending: {}, next: 0};" +
+            "  function begin(url) { var id = ++q.next; q.pending[id] = {url: String(url || ''), start: Date.now()}; return id; }" +
+            "  function end(id) { delete q.pending[id]; }" +
+            "  var open = XMLHttpRequest.prototype.open, send = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.open = function (method, url) {" +
+            "    this.__quiescenceUrl = url;" +
+            "    return open.apply(this, arguments);" +
+            "  };" +
+            "  XMLHttpRequest.prototype.send = function () {" +
+            "    var id = begin(this.__quiescenceUrl);" +
+            "    this.addEventListener('loadend', function () { end(id); });" +
+            "    try { return send.apply(this, arguments); } catch (e) { end(id); throw e; }" +
+            "  };" +
+            "  if (window.fetch) {" +
+            "    var fetch = window.fetch;" +
+            "    window.fetch = function (input) {" +
+            "      var id = begin(input && input.url ? input.url : input);" +
+            "      var p;" +
+            "      try { p = fetch.apply(this, arguments); } catch (e) { end(id); throw e; }" +
+            "      return p.finally(function () { end(id); });" +
+            "    };" +
+            "  }" +
+            "})();";
+
+    private static final String STATE_SCRIPT = INSTRUMENTATION_SCRIPT +
+            "function shown(e) {" +
+            "  if (!e.getClientRects().length) return false;" +
+            "  var s = getComputedStyle(e);" +
+            "  return s.visibility !== 'hidden' && s.opacity !== '0';" +
+            "}" +
+            "var ignore = arguments[1] || [], maxAge = arguments[2], now = Date.now();" +
+            "var requests = 0, backdrops = 0, spinners = 0, animations = 0;" +
+            "Object.keys(window.__quiescence.pending).forEach(function (id) {" +
+            "  var r = window.__quiescence.pending[id];" +
+            "  if (maxAge > 0 && now - r.start > maxAge) return;" +
+            "  if (ignore.some(function (u) { return r.url.indexOf(u) >= 0; })) return;" +
+            "  requests++;" +
+            "});" +
+            // Skip only the backdrop behind an open dialog/drawer/menu: it sits next to the dialog's Paper.
+            // A Paper inside the backdrop (loading card) or a backdrop inside a dialog does not exempt it.
+            "document.querySelectorAll('.MuiBackdrop-root:not(.MuiBackdrop-invisible)').forEach(function (b) {" +
+            "  if (b.closest('[role=dialog]')) { if (shown(b)) backdrops++; return; }" +
+            "  var modal = b.parentElement, surface = modal ? modal.querySelector('[role=dialog], .MuiPaper-root') : null;" +
+            "  if (surface && !b.contains(surface)) return;" +
+            "  if (shown(b)) backdrops++;" +
+            "});" +
+            "if (arguments[0]) document.querySelectorAll(arguments[0]).forEach(function (e) { if (shown(e)) spinners++; });" +
+            "if (document.getAnimations) document.getAnimations().forEach(function (a) {" +
+            "  if (a.playState !== 'running') return;" +
+            "  var t = a.effect && a.effect.getComputedTiming ? a.effect.getComputedTiming() : null;" +
+            "  if (t && t.iterations === Infinity) return;" +
+            "  animations++;" +
+            "});" +
+            "return {requests: requests, backdrops: backdrops, spinners: spinners, animations: animations};";
+
+    /**
+     * State - Inner class holding what kept the app busy at one check
+     */
+    public static class State {
+        private final int requests;
+        private final int backdrops;
+        private final int spinners;
+        private final int animations;
+
+        State(int requests, int backdrops, int spinners, int animations) {
+            this.requests = requests;
+            this.backdrops = backdrops;
+            this.spinners = spinners;
+            this.animations = animations;
+        }
+
+        public int getRequests() {
+            return requests;
+        }
+
+        public int getBackdrops() {
+            return backdrops;
+        }
+
+        public int getSpinners() {
+            return spinners;
+        }
+
+        public int getAnimations() {
+            return animations;
+        }
+
+        public boolean isIdle() {
+            return requests <= 0 && backdrops == 0 && spinners == 0 && animations == 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d request(s), %d backdrop(s), %d spinner(s), %d animation(s)",
+                    requests, backdrops, spinners, animations);
+        }
+    }
+
+    private Quiescence() {
+        // Private constructor - utility class
+    }
+
+    /**
+     * Register the instrumentation for every new document (Chromium with DevTools only; no-op otherwise)
+     * @param driver WebDriver instance
+     * @param browserType Browser type
+     */
+    public static void install(WebDriver driver, BrowserType browserType) {
+        install(driver, browserType, null);
+    }
+
+    /**
+     * Register the instrumentation for every new document of one window (e.g. a tab opened with
+     * switchTo().newWindow; CDP registrations are per target)
+     * @param driver WebDriver instance
+     * @param browserType Browser type
+     * @param windowHandle Window handle, or null for the driver's DevTools session
+     */
+    public static void install(WebDriver driver, BrowserType browserType, String windowHandle) {
+        if (!(browserType.isChrome() || browserType.isEdge()) || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            if (windowHandle != null) {
+                devTools.createSession(windowHandle);
+            } else {
+                devTools.createSessionIfThereIsNotOne();
+            }
+            devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("source", INSTRUMENTATION_SCRIPT)));
+            logger.debug("Quiescence instrumentation registered for new documents");
+        } catch (Exception e) {
+            logger.warn("Could not register quiescence instrumentation - injecting on first check instead: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Read the current busy state of the page
+     * @param driver WebDriver instance
+     * @return State
+     */
+    @SuppressWarnings("unchecked")
+    public static State getState(WebDriver driver) {
+        ConfigLoader config = ConfigLoader.getInstance();
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(STATE_SCRIPT, config.getQuiescenceBusySelectors(), config.getQuiescenceIgnoreUrls(),
+                        config.getQuiescenceRequestMaxAge());
+        return new State(intValue(result.get("requests")), intValue(result.get("backdrops")),
+                intValue(result.get("spinners")), intValue(result.get("animations")));
+    }
+
+    /**
+     * Wait until the app has been idle for quiescence.quiet.ms (best-effort: returns false at the timeout).
+     * Latencies are recorded under the calling site.
+     * @param driver WebDriver instance
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return true if the app went idle in time
+     */
+    public static boolean waitFor(WebDriver driver, int timeoutSeconds) {
+        return waitFor(driver, callSiteKey(), timeoutSeconds);
+    }
+
+    /**
+     * Wait until the app has been idle for quiescence.quiet.ms (best-effort: returns false at the timeout)
+     * @param driver WebDriver instance
+     * @param waitKey Key latencies are recorded under
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return true if the app went idle in time
+     */
+    public static boolean waitFor(WebDriver driver, String waitKey, int timeoutSeconds) {
+        long quietMillis = ConfigLoader.getInstance().getQuiescenceQuietMillis();
+        long[] idleSince = {0};
+        State[] last = new State[1];
+
+        boolean idle = WaitEngine.getInstance().probeUntil(driver, waitKey, d -> {
+            last[0] = getState(d);
+            long now = System.currentTimeMillis();
+            if (!last[0].isIdle()) {
+                idleSince[0] = 0;
+                return false;
+            }
+            if (idleSince[0] == 0) {
+                idleSince[0] = now;
+            }
+            return now - idleSince[0] >= quietMillis;
+        }, timeoutSeconds) != null;
+
+        if (!idle) {
+            logger.debug("App not idle after {}s ({}): {}", timeoutSeconds, waitKey,
+                    last[0] != null ? last[0] : "no state read");
+        }
+        return idle;
+    }
+
+    /**
+     * Key for the first caller outside the quiescence wrappers (Quiescence, waitForQuiescence)
+     */
+    private static String callSiteKey() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(Quiescence.class.getName())
+                        && !f.getMethodName().equals("waitForQuiescence"))
+                .findFirst()
+                .map(f -> WAIT_KEY_PREFIX + f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1)
+                        + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse(WAIT_KEY_PREFIX + "unknown"));
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+}
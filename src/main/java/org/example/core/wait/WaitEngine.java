@@ -0,0 +1,555 @@
+package org.example.core.wait;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * WaitEngine - Single place where the framework waits for elements and page state.
+ *
+ * - Implicit wait is forced to 0 by DriverFactory, so waits never multiply
+ *   (implicit wait inside every poll of an explicit wait).
+ * - Polling backs off from wait.poll.initial.ms to wait.poll.max.ms instead of a fixed 500 ms.
+ * - Every successful wait records the observed latency under its element key. Once a key has
+ *   wait.adaptive.min.samples observations, its learned timeout is p95 x wait.adaptive.factor
+ *   (at least wait.adaptive.min.ms, at most the caller's ceiling).
+ * - Observations are saved to wait.latency.file at JVM exit and loaded on the next run.
+ * - With wait.backend=observer, waitFor/probe run one async script that checks the locator on
+ *   every DOM mutation and returns the element the moment it is present/visible/clickable,
+ *   instead of polling. Locators the script cannot evaluate, INVISIBLE waits and pages where the
+ *   script cannot run (cross-origin frames, navigation mid-wait) fall back to polling.
+ *
+ * Three kinds of waits:
+ * - waitFor/until (required): throw TimeoutException at the ceiling. Waits that pass the learned
+ *   timeout are logged as slow; learning never shortens a required wait.
+ * - probe (element checks such as "is displayed"): return null at the learned timeout, so a
+ *   negative check on a key that normally shows up quickly does not sit out the whole ceiling.
+ * - probeUntil (settle, snapshot and other generic checks): return null at the ceiling.
+ */
+public class WaitEngine {
+
+    private static final Logger logger = LogManager.getLogger(WaitEngine.class);
+    private static WaitEngine instance;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Latency samples kept (and persisted) per key
+    private static final int MAX_SAMPLES = 50;
+
+    // One async script call waits at most this long (stays under the driver's script timeout)
+    private static final long OBSERVER_CHUNK_MILLIS = 10_000;
+
+    // By.toString() prefix -> strategy understood by OBSERVER_SCRIPT
+    private static final String[][] OBSERVER_STRATEGIES = {
+            {"By.id: ", "id"}, {"By.name: ", "name"}, {"By.cssSelector: ", "css"},
+            {"By.className: ", "class"}, {"By.tagName: ", "tag"}, {"By.xpath: ", "xpath"},
+            {"By.linkText: ", "link"}, {"By.partialLinkText: ", "partialLink"}
+    };
+
+    // arguments: strategy, value, condition name, timeout ms, callback.
+    // Mirrors Condition.evaluate: first match that is present / shown / shown and enabled.
+    // The interval re-check catches changes that are not DOM mutations (CSS transitions ending).
+    private static final String OBSERVER_SCRIPT =
+            "var t = arguments[0], v = arguments[1], cond = arguments[2], timeout = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function findAll() {" +
+            "  switch (t) {" +
+            "    case 'id': return document.querySelectorAll('#' + CSS.escape(v));" +
+            "    case 'name': return document.getElementsByName(v);" +
+            "    case 'css': return document.querySelectorAll(v);" +
+            "    case 'class': return document.getElementsByClassName(v);" +
+            "    case 'tag': return document.getElementsByTagName(v);" +
+            "    case 'link': case 'partialLink':" +
+            "      return Array.prototype.filter.call(document.getElementsByTagName('a'), function (a) {" +
+            "        var x = (a.innerText || a.textContent).trim();" +
+            "        return t === 'link' ? x === v : x.indexOf(v) >= 0;" +
+            "      });" +
+            "    default:" +
+            "      var r = document.evaluate(v, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];" +
+            "      for (var i = 0; i < r.snapshotLength; i++) out.push(r.snapshotItem(i));" +
+            "      return out;" +
+            "  }" +
+            "}" +
+            "function shown(e) {" +
+            "  if (!e.getClientRects().length) return false;" +
+            "  var s = getComputedStyle(e);" +
+            "  return s.visibility !== 'hidden' && s.opacity !== '0';" +
+            "}" +
+            "function check() {" +
+            "  var es = findAll();" +
+            "  for (var i = 0; i < es.length; i++) {" +
+            "    var e = es[i];" +
+            "    if (e.nodeType !== 1) continue;" +
+            "    if (cond === 'PRESENT') return e;" +
+            "    if (shown(e) && (cond === 'VISIBLE' || !e.matches(':disabled'))) return e;" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            "var found = check();" +
+            "if (found || timeout <= 0) { done(found); return; }" +
+            "var finished = false;" +
+            "function finish(e) {" +
+            "  if (finished) return;" +
+            "  finished = true; observer.disconnect(); clearInterval(interval); clearTimeout(timer); done(e);" +
+            "}" +
+            "function recheck() { var e = check(); if (e) finish(e); }" +
+            "var observer = new MutationObserver(recheck);" +
+            "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "var interval = setInterval(recheck, 250);" +
+            "var timer = setTimeout(function () { finish(null); }, timeout);";
+
+    private final ConfigLoader config;
+    private final boolean adaptive;
+    private final long initialPollMillis;
+    private final long maxPollMillis;
+    private final double adaptiveFactor;
+    private final long adaptiveMinMillis;
+    private final int adaptiveMinSamples;
+    private final File latencyFile;
+
+    // Element key -> observed latencies
+    private final Map<String, LatencyStats> statsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Condition - What a wait on a locator is waiting for
+     */
+    public enum Condition {
+        PRESENT, VISIBLE, CLICKABLE, INVISIBLE;
+
+        /**
+         * Evaluate once
+         * @return Matching element (INVISIBLE: Boolean.TRUE), or null if not satisfied yet
+         */
+        Object evaluate(WebDriver driver, By locator) {
+            List<WebElement> elements = driver.findElements(locator);
+            if (this == INVISIBLE) {
+                for (WebElement element : elements) {
+                    if (element.isDisplayed()) {
+                        return null;
+                    }
+                }
+                return Boolean.TRUE;
+            }
+            for (WebElement element : elements) {
+                if (this == PRESENT) {
+                    return element;
+                }
+                if (element.isDisplayed() && (this == VISIBLE || element.isEnabled())) {
+                    return element;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * LatencyStats - Inner class holding recent latencies for one key
+     */
+    public static class LatencyStats {
+        private final long[] samples = new long[MAX_SAMPLES];
+        private int size;
+        private int next;
+        private int timeouts;
+
+        synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % MAX_SAMPLES;
+            size = Math.min(size + 1, MAX_SAMPLES);
+        }
+
+        synchronized void recordTimeout() {
+            timeouts++;
+        }
+
+        public synchronized int getSampleCount() {
+            return size;
+        }
+
+        public synchronized int getTimeouts() {
+            return timeouts;
+        }
+
+        /**
+         * Get 95th percentile latency
+         * @return Latency in ms (0 if no samples)
+         */
+        public synchronized long getP95() {
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(size * 0.95) - 1];
+        }
+
+        synchronized List<Long> toList() {
+            List<Long> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(samples[(next - size + i + MAX_SAMPLES) % MAX_SAMPLES]);
+            }
+            return list;
+        }
+    }
+
+    private WaitEngine() {
+        this.config = ConfigLoader.getInstance();
+        this.adaptive = config.isWaitAdaptiveEnabled();
+        this.initialPollMillis = Math.max(10, config.getWaitPollInitial());
+        this.maxPollMillis = Math.max(initialPollMillis, config.getWaitPollMax());
+        this.adaptiveFactor = config.getWaitAdaptiveFactor();
+        this.adaptiveMinMillis = config.getWaitAdaptiveMin();
+        this.adaptiveMinSamples = config.getWaitAdaptiveMinSamples();
+        this.latencyFile = new File(config.getWaitLatencyFile());
+
+        load();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::save, "wait-latency-save"));
+    }
+
+    /**
+     * Get singleton instance
+     * @return WaitEngine instance
+     */
+    public static synchronized WaitEngine getInstance() {
+        if (instance == null) {
+            instance = new WaitEngine();
+        }
+        return instance;
+    }
+
+    // ==================== Element Waits ====================
+
+    /**
+     * Wait for an element with the configured explicit wait as ceiling
+     * @param driver WebDriver instance
+     * @param elementKey Key latencies are recorded under (OR key)
+     * @param locator Element locator
+     * @param condition Condition to wait for (not INVISIBLE)
+     * @return Matching element
+     * @throws TimeoutException if the condition is not met within the ceiling
+     */
+    public WebElement waitFor(WebDriver driver, String elementKey, By locator, Condition condition) {
+        return waitFor(driver, elementKey, locator, condition, config.getExplicitWait());
+    }
+
+    /**
+     * Wait for an element
+     * @param driver WebDriver instance
+     * @param elementKey Key latencies are recorded under (OR key)
+     * @param locator Element locator
+     * @param condition Condition to wait for (not INVISIBLE)
+     * @param ceilingSeconds Maximum wait in seconds
+     * @return Matching element
+     * @throws TimeoutException if the condition is not met within the ceiling
+     */
+    public WebElement waitFor(WebDriver driver, String elementKey, By locator, Condition condition, int ceilingSeconds) {
+        return until(driver, elementKey, elementPhase(locator, condition), ceilingSeconds);
+    }
+
+    /**
+     * Check for an element, waiting up to the learned timeout for the key (the ceiling until learned)
+     * @param driver WebDriver instance
+     * @param elementKey Key latencies are recorded under (OR key)
+     * @param locator Element locator
+     * @param condition Condition to wait for (not INVISIBLE)
+     * @param ceilingSeconds Maximum wait in seconds
+     * @return Matching element, or null if not found in time
+     */
+    public WebElement probe(WebDriver driver, String elementKey, By locator, Condition condition, int ceilingSeconds) {
+        Outcome<WebElement> outcome = await(driver, elementKey, elementPhase(locator, condition), ceilingSeconds, true);
+        return outcome.satisfied ? outcome.value : null;
+    }
+
+    /**
+     * Wait for all elements matching a locator to disappear (latency recorded under "key#gone")
+     * @param driver WebDriver instance
+     * @param elementKey Element key
+     * @param locator Element locator
+     * @param ceilingSeconds Maximum wait in seconds
+     * @throws TimeoutException if still visible at the ceiling
+     */
+    public void waitForInvisible(WebDriver driver, String elementKey, By locator, int ceilingSeconds) {
+        until(driver, elementKey + "#gone", d -> Condition.INVISIBLE.evaluate(d, locator), ceilingSeconds);
+    }
+
+    // ==================== Generic Waits ====================
+
+    /**
+     * Wait for an arbitrary condition (required)
+     * @param driver WebDriver instance
+     * @param waitKey Key latencies are recorded under
+     * @param condition Returns null/false until satisfied
+     * @param ceilingSeconds Maximum wait in seconds
+     * @return Condition result
+     * @throws TimeoutException if the condition is not met within the ceiling
+     */
+    public <T> T until(WebDriver driver, String waitKey, Function<WebDriver, T> condition, int ceilingSeconds) {
+        return until(driver, waitKey, pollPhase(condition), ceilingSeconds);
+    }
+
+    private <T> T until(WebDriver driver, String waitKey, Phase<T> phase, int ceilingSeconds) {
+        long start = System.currentTimeMillis();
+        Outcome<T> outcome = await(driver, waitKey, phase, ceilingSeconds, false);
+        if (!outcome.satisfied) {
+            throw new TimeoutException("Timed out after " + (System.currentTimeMillis() - start) + " ms waiting for '"
+                    + waitKey + "'", outcome.lastError);
+        }
+        return outcome.value;
+    }
+
+    /**
+     * Check an arbitrary condition, waiting up to the ceiling
+     * @param driver WebDriver instance
+     * @param waitKey Key latencies are recorded under
+     * @param condition Returns null/false until satisfied
+     * @param ceilingSeconds Maximum wait in seconds
+     * @return Condition result, or null if not met in time
+     */
+    public <T> T probeUntil(WebDriver driver, String waitKey, Function<WebDriver, T> condition, int ceilingSeconds) {
+        return probeUntil(driver, waitKey, pollPhase(condition), ceilingSeconds);
+    }
+
+    private <T> T probeUntil(WebDriver driver, String waitKey, Phase<T> phase, int ceilingSeconds) {
+        Outcome<T> outcome = await(driver, waitKey, phase, ceilingSeconds, false);
+        return outcome.satisfied ? outcome.value : null;
+    }
+
+    /**
+     * Run a wait and record its latency
+     * @param learnedDeadline true to stop at the learned timeout (probe), false to wait up to the ceiling
+     */
+    private <T> Outcome<T> await(WebDriver driver, String waitKey, Phase<T> phase, int ceilingSeconds,
+                                 boolean learnedDeadline) {
+        long ceilingMillis = ceilingSeconds * 1000L;
+        long learnedMillis = getTimeoutMillis(waitKey, ceilingMillis);
+        long start = System.currentTimeMillis();
+
+        Outcome<T> outcome = phase.run(driver, start + (learnedDeadline ? learnedMillis : ceilingMillis));
+        long elapsed = System.currentTimeMillis() - start;
+
+        if (outcome.satisfied) {
+            stats(waitKey).record(elapsed);
+            if (elapsed > learnedMillis) {
+                logger.debug("'{}' took {} ms, slower than learned timeout {} ms", waitKey, elapsed, learnedMillis);
+            }
+        } else {
+            stats(waitKey).recordTimeout();
+            if (learnedDeadline && learnedMillis < ceilingMillis) {
+                logger.debug("'{}' not found within learned timeout {} ms (ceiling {} ms)", waitKey, learnedMillis, ceilingMillis);
+            }
+        }
+        return outcome;
+    }
+
+    // ==================== Adaptive Timeouts ====================
+
+    /**
+     * Get the timeout a wait on a key would use now
+     * @param waitKey Element or wait key
+     * @param ceilingMillis Caller's maximum
+     * @return Timeout in ms
+     */
+    public long getTimeoutMillis(String waitKey, long ceilingMillis) {
+        LatencyStats stats = statsByKey.get(waitKey);
+        if (!adaptive || stats == null || stats.getSampleCount() < adaptiveMinSamples) {
+            return ceilingMillis;
+        }
+        long learned = Math.max(adaptiveMinMillis, (long) (stats.getP95() * adaptiveFactor));
+        return Math.min(learned, ceilingMillis);
+    }
+
+    /**
+     * Get observed latencies for a key
+     * @param waitKey Element or wait key
+     * @return Stats, or null if never waited on
+     */
+    public LatencyStats getStats(String waitKey) {
+        return statsByKey.get(waitKey);
+    }
+
+    /**
+     * Log the slowest keys and keys that timed out
+     */
+    public void printStatistics() {
+        List<Map.Entry<String, LatencyStats>> entries = new ArrayList<>(statsByKey.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, LatencyStats> e) -> e.getValue().getP95()).reversed());
+        logger.info("Wait engine: {} key(s) observed (adaptive: {})", entries.size(), adaptive);
+        entries.stream().limit(10).forEach(e -> logger.info("  {}: p95 {} ms over {} sample(s), {} timeout(s)",
+                e.getKey(), e.getValue().getP95(), e.getValue().getSampleCount(), e.getValue().getTimeouts()));
+    }
+
+    // ==================== Internal Helpers ====================
+
+    /**
+     * Outcome - Inner class holding the result of one polling phase
+     */
+    private static class Outcome<T> {
+        private boolean satisfied;
+        private T value;
+        private RuntimeException lastError;
+    }
+
+    /**
+     * Phase - One attempt to satisfy a wait before a deadline
+     */
+    @FunctionalInterface
+    private interface Phase<T> {
+        Outcome<T> run(WebDriver driver, long deadline);
+    }
+
+    private <T> Phase<T> pollPhase(Function<WebDriver, T> condition) {
+        return (driver, deadline) -> poll(driver, condition, deadline);
+    }
+
+    /**
+     * Observer phase when configured and the locator can be evaluated in the page, polling otherwise
+     */
+    private Phase<WebElement> elementPhase(By locator, Condition condition) {
+        String[] strategy = condition != Condition.INVISIBLE && "observer".equals(config.getWaitBackend())
+                ? toObserverStrategy(locator) : null;
+        if (strategy == null) {
+            return pollPhase(d -> (WebElement) condition.evaluate(d, locator));
+        }
+        return (driver, deadline) -> observe(driver, strategy, locator, condition, deadline);
+    }
+
+    /**
+     * Map a By to {strategy, value} for OBSERVER_SCRIPT
+     * @return Strategy and value, or null if the script cannot evaluate this locator
+     */
+    private static String[] toObserverStrategy(By locator) {
+        String description = locator.toString();
+        for (String[] mapping : OBSERVER_STRATEGIES) {
+            if (description.startsWith(mapping[0])) {
+                return new String[]{mapping[1], description.substring(mapping[0].length())};
+            }
+        }
+        return null;
+    }
+
+    private Outcome<WebElement> observe(WebDriver driver, String[] strategy, By locator, Condition condition,
+                                        long deadline) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return poll(driver, d -> (WebElement) condition.evaluate(d, locator), deadline);
+        }
+        Outcome<WebElement> outcome = new Outcome<>();
+        while (true) {
+            long chunk = Math.max(0, Math.min(deadline - System.currentTimeMillis(), OBSERVER_CHUNK_MILLIS));
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(OBSERVER_SCRIPT,
+                        strategy[0], strategy[1], condition.name(), chunk);
+                if (result instanceof WebElement) {
+                    outcome.satisfied = true;
+                    outcome.value = (WebElement) result;
+                    return outcome;
+                }
+            } catch (NoSuchSessionException e) {
+                throw e;
+            } catch (WebDriverException e) {
+                // Document replaced mid-wait, cross-origin frame, invalid selector - poll the rest
+                logger.debug("Observer wait unavailable for {} - polling: {}", locator, e.getMessage());
+                return poll(driver, d -> (WebElement) condition.evaluate(d, locator), deadline);
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return outcome;
+            }
+        }
+    }
+
+    private <T> Outcome<T> poll(WebDriver driver, Function<WebDriver, T> condition, long deadline) {
+        Outcome<T> outcome = new Outcome<>();
+        long pollMillis = initialPollMillis;
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    outcome.satisfied = true;
+                    outcome.value = value;
+                    return outcome;
+                }
+            } catch (NoSuchSessionException e) {
+                // Browser is gone - waiting longer cannot help
+                throw e;
+            } catch (WebDriverException e) {
+                // Not found, stale or not interactable while the page settles
+                outcome.lastError = e;
+            }
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return outcome;
+            }
+            sleep(Math.min(pollMillis, remaining));
+            pollMillis = Math.min((long) (pollMillis * 1.5), maxPollMillis);
+        }
+    }
+
+    private LatencyStats stats(String waitKey) {
+        return statsByKey.computeIfAbsent(waitKey, key -> new LatencyStats());
+    }
+
+    private void load() {
+        if (!adaptive || !latencyFile.exists()) {
+            return;
+        }
+        try {
+            Map<String, List<Long>> saved = objectMapper.readValue(latencyFile, new TypeReference<Map<String, List<Long>>>() {});
+            saved.forEach((key, samples) -> samples.forEach(stats(key)::record));
+            logger.info("Loaded wait latencies for {} key(s) from {}", saved.size(), latencyFile);
+        } catch (IOException e) {
+            logger.warn("Could not read wait latencies from {}: {}", latencyFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Save observed latencies for the next run
+     */
+    public void save() {
+        if (!adaptive || statsByKey.isEmpty()) {
+            return;
+        }
+        Map<String, List<Long>> snapshot = new HashMap<>();
+        statsByKey.forEach((key, stats) -> {
+            if (stats.getSampleCount() > 0) {
+                snapshot.put(key, stats.toList());
+            }
+        });
+        try {
+            File parent = latencyFile.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            objectMapper.writeValue(latencyFile, snapshot);
+        } catch (IOException e) {
+            logger.warn("Could not save wait latencies to {}: {}", latencyFile, e.getMessage());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting", e);
+        }
+    }
+}
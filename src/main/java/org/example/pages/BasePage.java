@@ -4,14 +4,25 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.ConfigLoader;
 import org.example.core.driver.DriverManager;
+import org.example.core.keywords.Dropdown;
+import org.example.core.keywords.ElementCache;
+import org.example.core.keywords.ElementSnapshot;
+import org.example.core.keywords.FieldErrorDetector;
+import org.example.core.keywords.FormFiller;
+import org.example.core.wait.Quiescence;
+import org.example.core.wait.WaitEngine;
+import org.example.core.wait.WaitEngine.Condition;
 import org.example.utils.json.ObjectRepositoryManager;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * BasePage - Base class for all Page Object Model classes.
@@ -19,32 +30,37 @@ import java.util.List;
  */
 public abstract class BasePage {
 
+    // Timeout for display/enabled/selected checks
+    private static final int STATE_CHECK_TIMEOUT = 7;
+
     protected final Logger logger;
     protected final WebDriver driver;
-    protected final WebDriverWait wait;
+    protected final WaitEngine waitEngine;
     protected final ObjectRepositoryManager orManager;
+    protected final ElementCache elementCache;
+    private final int explicitWait;
 
     /**
-     * Constructor - initializes driver and wait
+     * Constructor - initializes driver and wait engine
      */
     public BasePage() {
         this.logger = LogManager.getLogger(this.getClass());
         this.driver = DriverManager.getDriver();
-        int explicitWait = ConfigLoader.getInstance().getExplicitWait();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(explicitWait));
+        this.explicitWait = ConfigLoader.getInstance().getExplicitWait();
+        this.waitEngine = WaitEngine.getInstance();
         this.orManager = ObjectRepositoryManager.getInstance();
+        this.elementCache = new ElementCache(driver);
     }
 
     // ==================== Element Finder Methods ====================
 
     /**
-     * Find element using OR key
+     * Find element using OR key (reused from the page's element cache while still attached)
      * @param elementKey OR element key
      * @return WebElement
      */
     protected WebElement findElement(String elementKey) {
-        By locator = orManager.getLocator(elementKey);
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return elementCache.find(elementKey, Condition.PRESENT, explicitWait);
     }
 
     /**
@@ -53,7 +69,7 @@ public abstract class BasePage {
      * @return WebElement
      */
     protected WebElement findElement(By locator) {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return waitEngine.waitFor(driver, locator.toString(), locator, Condition.PRESENT, explicitWait);
     }
 
     /**
@@ -62,8 +78,7 @@ public abstract class BasePage {
      * @return WebElement
      */
     protected WebElement findClickableElement(String elementKey) {
-        By locator = orManager.getLocator(elementKey);
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return elementCache.find(elementKey, Condition.CLICKABLE, explicitWait);
     }
 
     /**
@@ -72,8 +87,7 @@ public abstract class BasePage {
      * @return WebElement
      */
     protected WebElement findVisibleElement(String elementKey) {
-        By locator = orManager.getLocator(elementKey);
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return elementCache.find(elementKey, Condition.VISIBLE, explicitWait);
     }
 
     /**
@@ -93,7 +107,7 @@ public abstract class BasePage {
      * @param elementKey OR element key
      */
     protected void click(String elementKey) {
-        findClickableElement(elementKey).click();
+        elementCache.run(elementKey, Condition.CLICKABLE, explicitWait, WebElement::click);
         logger.debug("Clicked on element: {}", elementKey);
     }
 
@@ -102,8 +116,8 @@ public abstract class BasePage {
      * @param elementKey OR element key
      */
     protected void jsClick(String elementKey) {
-        WebElement element = findElement(elementKey);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        elementCache.run(elementKey, Condition.PRESENT, explicitWait,
+                element -> ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element));
         logger.debug("JS clicked on element: {}", elementKey);
     }
 
@@ -115,11 +129,12 @@ public abstract class BasePage {
      * @param text Text to type
      */
     protected void type(String elementKey, String text) {
-        WebElement element = findVisibleElement(elementKey);
-        element.clear();
-        element.sendKeys(text);
-        // Press TAB to blur field and trigger change event for React form dirty detection
-        element.sendKeys(org.openqa.selenium.Keys.TAB);
+        elementCache.run(elementKey, Condition.VISIBLE, explicitWait, element -> {
+            element.clear();
+            element.sendKeys(text);
+            // Press TAB to blur field and trigger change event for React form dirty detection
+            element.sendKeys(org.openqa.selenium.Keys.TAB);
+        });
         logger.debug("Typed '{}' into element: {}", text, elementKey);
     }
 
@@ -128,7 +143,7 @@ public abstract class BasePage {
      * @param elementKey OR element key
      */
     protected void clear(String elementKey) {
-        findVisibleElement(elementKey).clear();
+        elementCache.run(elementKey, Condition.VISIBLE, explicitWait, WebElement::clear);
         logger.debug("Cleared element: {}", elementKey);
     }
 
@@ -138,11 +153,20 @@ public abstract class BasePage {
      * @param keys Keys to send
      */
     protected void sendKeys(String elementKey, Keys keys) {
-        findVisibleElement(elementKey).sendKeys(keys);
+        elementCache.run(elementKey, Condition.VISIBLE, explicitWait, element -> element.sendKeys(keys));
     }
 
     // ==================== Dropdown Methods ====================
 
+    /**
+     * Get a driver for an MUI Select/Autocomplete opened by clicking the given trigger
+     * @param triggerKey OR key of the element that opens the listbox
+     * @return Dropdown (options wait bounded by dropdown.timeout)
+     */
+    protected Dropdown dropdown(String triggerKey) {
+        return new Dropdown(driver, triggerKey, () -> click(triggerKey));
+    }
+
     /**
      * Select dropdown by visible text
      * @param elementKey OR element key
@@ -182,7 +206,7 @@ public abstract class BasePage {
      * @return Element text
      */
     protected String getText(String elementKey) {
-        return findVisibleElement(elementKey).getText();
+        return elementCache.apply(elementKey, Condition.VISIBLE, explicitWait, WebElement::getText);
     }
 
     /**
@@ -192,7 +216,8 @@ public abstract class BasePage {
      * @return Attribute value
      */
     protected String getAttribute(String elementKey, String attributeName) {
-        return findElement(elementKey).getAttribute(attributeName);
+        return elementCache.apply(elementKey, Condition.PRESENT, explicitWait,
+                element -> element.getAttribute(attributeName));
     }
 
     /**
@@ -214,27 +239,26 @@ public abstract class BasePage {
     // ==================== Verification Methods ====================
 
     /**
-     * Check if element is displayed (uses short 5s timeout to avoid slow checks)
+     * Check if element is displayed (waits up to 7s)
      * @param elementKey OR element key
      * @return true if displayed
      */
     protected boolean isDisplayed(String elementKey) {
         try {
             By locator = orManager.getLocator(elementKey);
-            WebElement element = new WebDriverWait(driver, Duration.ofSeconds(7))
-                    .until(ExpectedConditions.visibilityOfElementLocated(locator));
-            return element.isDisplayed();
+            // Present with a height also counts: fixed-position elements may not pass
+            // Selenium's strict visibility check
+            WebElement element = waitEngine.probeUntil(driver, elementKey, d -> {
+                for (WebElement candidate : d.findElements(locator)) {
+                    if (candidate.isDisplayed() || candidate.getSize().getHeight() > 0) {
+                        return candidate;
+                    }
+                }
+                return null;
+            }, STATE_CHECK_TIMEOUT);
+            return element != null;
         } catch (Exception e) {
-            // Fallback: check presence in DOM (handles fixed-position elements that
-            // may not pass Selenium's strict visibility check)
-            try {
-                By loc = orManager.getLocator(elementKey);
-                WebElement el = new WebDriverWait(driver, Duration.ofSeconds(3))
-                        .until(ExpectedConditions.presenceOfElementLocated(loc));
-                return el != null && el.getSize().getHeight() > 0;
-            } catch (Exception ex) {
-                return false;
-            }
+            return false;
         }
     }
 
@@ -248,41 +272,37 @@ public abstract class BasePage {
     protected boolean isDisplayedWithin(String elementKey, int timeoutSeconds) {
         try {
             By locator = orManager.getLocator(elementKey);
-            WebElement element = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                    .until(ExpectedConditions.visibilityOfElementLocated(locator));
-            return element.isDisplayed();
+            return waitEngine.probe(driver, elementKey, locator, Condition.VISIBLE, timeoutSeconds) != null;
         } catch (Exception e) {
             return false;
         }
     }
 
     /**
-     * Check if element is enabled (uses short 5s timeout)
+     * Check if element is enabled (waits up to 7s)
      * @param elementKey OR element key
      * @return true if enabled
      */
     protected boolean isEnabled(String elementKey) {
         try {
             By locator = orManager.getLocator(elementKey);
-            WebElement element = new WebDriverWait(driver, Duration.ofSeconds(7))
-                    .until(ExpectedConditions.presenceOfElementLocated(locator));
-            return element.isEnabled();
+            WebElement element = waitEngine.probe(driver, elementKey, locator, Condition.PRESENT, STATE_CHECK_TIMEOUT);
+            return element != null && element.isEnabled();
         } catch (Exception e) {
             return false;
         }
     }
 
     /**
-     * Check if element is selected (uses short 5s timeout)
+     * Check if element is selected (waits up to 7s)
      * @param elementKey OR element key
      * @return true if selected
      */
     protected boolean isSelected(String elementKey) {
         try {
             By locator = orManager.getLocator(elementKey);
-            WebElement element = new WebDriverWait(driver, Duration.ofSeconds(7))
-                    .until(ExpectedConditions.presenceOfElementLocated(locator));
-            return element.isSelected();
+            WebElement element = waitEngine.probe(driver, elementKey, locator, Condition.PRESENT, STATE_CHECK_TIMEOUT);
+            return element != null && element.isSelected();
         } catch (Exception e) {
             return false;
         }
@@ -302,6 +322,70 @@ public abstract class BasePage {
         }
     }
 
+    /**
+     * Check that an element is not displayed: wait for the app to go idle (at most
+     * absence.settle.timeout), then check once. Passes without waiting out a display timeout.
+     * @param elementKey OR element key
+     * @return true if no match is displayed (same test as isDisplayed)
+     */
+    protected boolean isAbsent(String elementKey) {
+        By locator = orManager.getLocator(elementKey);
+        settleForAbsenceCheck();
+        try {
+            for (WebElement candidate : driver.findElements(locator)) {
+                if (candidate.isDisplayed() || candidate.getSize().getHeight() > 0) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (StaleElementReferenceException e) {
+            // Removed while being checked
+            return true;
+        }
+    }
+
+    /**
+     * Let pending renders finish before a one-shot negative check
+     */
+    protected void settleForAbsenceCheck() {
+        waitForQuiescence(ConfigLoader.getInstance().getAbsenceSettleTimeout());
+    }
+
+    /**
+     * Read presence, visibility, enabled, selected, text and value of several elements in one script call
+     * @param elementKeys OR element keys
+     * @return Snapshot of the current DOM
+     */
+    public ElementSnapshot snapshot(List<String> elementKeys) {
+        return ElementSnapshot.take(driver, elementKeys);
+    }
+
+    /**
+     * Snapshot repeatedly until all elements are displayed (waits up to timeoutSeconds)
+     * @param elementKeys OR element keys
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return Snapshot in which all are displayed, or the last one taken
+     */
+    public ElementSnapshot snapshot(List<String> elementKeys, int timeoutSeconds) {
+        return snapshotUntil(elementKeys, ElementSnapshot::allDisplayed, timeoutSeconds);
+    }
+
+    /**
+     * Snapshot repeatedly until the condition holds (waits up to timeoutSeconds)
+     * @param elementKeys OR element keys
+     * @param condition Condition on the snapshot
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return Snapshot satisfying the condition, or the last one taken
+     */
+    public ElementSnapshot snapshotUntil(List<String> elementKeys, Predicate<ElementSnapshot> condition, int timeoutSeconds) {
+        ElementSnapshot[] last = new ElementSnapshot[1];
+        ElementSnapshot matched = waitEngine.probeUntil(driver, "snapshot:" + String.join(",", elementKeys), d -> {
+            last[0] = ElementSnapshot.take(d, elementKeys);
+            return condition.test(last[0]) ? last[0] : null;
+        }, timeoutSeconds);
+        return matched != null ? matched : (last[0] != null ? last[0] : snapshot(elementKeys));
+    }
+
     // ==================== Wait Methods ====================
 
     /**
@@ -311,8 +395,7 @@ public abstract class BasePage {
      */
     protected void waitForElementVisible(String elementKey, int timeoutSeconds) {
         By locator = orManager.getLocator(elementKey);
-        new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                .until(ExpectedConditions.visibilityOfElementLocated(locator));
+        waitEngine.waitFor(driver, elementKey, locator, Condition.VISIBLE, timeoutSeconds);
     }
 
     /**
@@ -322,8 +405,7 @@ public abstract class BasePage {
      */
     protected void waitForElementClickable(String elementKey, int timeoutSeconds) {
         By locator = orManager.getLocator(elementKey);
-        new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                .until(ExpectedConditions.elementToBeClickable(locator));
+        waitEngine.waitFor(driver, elementKey, locator, Condition.CLICKABLE, timeoutSeconds);
     }
 
     /**
@@ -333,8 +415,7 @@ public abstract class BasePage {
      */
     protected void waitForElementInvisible(String elementKey, int timeoutSeconds) {
         By locator = orManager.getLocator(elementKey);
-        new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                .until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        waitEngine.waitForInvisible(driver, elementKey, locator, timeoutSeconds);
     }
 
     /**
@@ -342,19 +423,43 @@ public abstract class BasePage {
      */
     public void waitForPageLoad() {
         try {
-            WebDriverWait pageLoadWait = new WebDriverWait(driver, Duration.ofSeconds(30));
-            pageLoadWait.until(webDriver -> {
+            waitEngine.until(driver, "document.readyState", webDriver -> {
                 try {
                     return ((JavascriptExecutor) webDriver)
                             .executeScript("return document.readyState").equals("complete");
                 } catch (Exception e) {
                     return true; // Continue if script execution fails
                 }
-            });
+            }, 30);
         } catch (Exception e) {
             // Log and continue - page may already be loaded or partially loaded
             logger.warn("Page load wait timed out, continuing...");
         }
+        // readyState is complete long before the SPA has fetched and rendered its data
+        waitForQuiescence();
+    }
+
+    /**
+     * Wait until the app is idle: no fetch/XHR in flight, no loading backdrop/spinner, no running transition
+     * (best-effort, at most quiescence.timeout seconds)
+     * @return true if the app went idle in time
+     */
+    public boolean waitForQuiescence() {
+        return waitForQuiescence(ConfigLoader.getInstance().getQuiescenceTimeout());
+    }
+
+    /**
+     * Wait until the app is idle (best-effort)
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return true if the app went idle in time
+     */
+    public boolean waitForQuiescence(int timeoutSeconds) {
+        try {
+            return Quiescence.waitFor(driver, timeoutSeconds);
+        } catch (Exception e) {
+            logger.debug("Quiescence check failed: {}", e.getMessage());
+            return false;
+        }
     }
 
     // ==================== Scroll Methods ====================
@@ -364,8 +469,8 @@ public abstract class BasePage {
      * @param elementKey OR element key
      */
     protected void scrollToElement(String elementKey) {
-        WebElement element = findElement(elementKey);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", element);
+        elementCache.run(elementKey, Condition.PRESENT, explicitWait, element ->
+                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", element));
     }
 
     /**
@@ -410,7 +515,7 @@ public abstract class BasePage {
      * Accept alert
      */
     protected void acceptAlert() {
-        wait.until(ExpectedConditions.alertIsPresent());
+        waitEngine.until(driver, "alert", ExpectedConditions.alertIsPresent(), explicitWait);
         driver.switchTo().alert().accept();
     }
 
@@ -418,7 +523,7 @@ public abstract class BasePage {
      * Dismiss alert
      */
     protected void dismissAlert() {
-        wait.until(ExpectedConditions.alertIsPresent());
+        waitEngine.until(driver, "alert", ExpectedConditions.alertIsPresent(), explicitWait);
         driver.switchTo().alert().dismiss();
     }
 
@@ -427,7 +532,7 @@ public abstract class BasePage {
      * @return Alert text
      */
     protected String getAlertText() {
-        wait.until(ExpectedConditions.alertIsPresent());
+        waitEngine.until(driver, "alert", ExpectedConditions.alertIsPresent(), explicitWait);
         return driver.switchTo().alert().getText();
     }
 
@@ -440,6 +545,7 @@ public abstract class BasePage {
     protected void switchToFrame(String elementKey) {
         WebElement frame = findElement(elementKey);
         driver.switchTo().frame(frame);
+        elementCache.invalidate();
     }
 
     /**
@@ -448,6 +554,7 @@ public abstract class BasePage {
      */
     protected void switchToFrameByIndex(int index) {
         driver.switchTo().frame(index);
+        elementCache.invalidate();
     }
 
     /**
@@ -455,6 +562,7 @@ public abstract class BasePage {
      */
     protected void switchToDefaultContent() {
         driver.switchTo().defaultContent();
+        elementCache.invalidate();
     }
 
     // ==================== Window Methods ====================
@@ -470,6 +578,7 @@ public abstract class BasePage {
                 break;
             }
         }
+        elementCache.invalidate();
     }
 
     /**
@@ -484,6 +593,7 @@ public abstract class BasePage {
                 break;
             }
         }
+        elementCache.invalidate();
     }
 
     // ==================== Highlight Method (for debugging) ====================
@@ -532,13 +642,13 @@ public abstract class BasePage {
         try {
             WebElement el = findVisibleElement(objectKey);
             el.click();
-            try { Thread.sleep(200); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+            waitForQuiescence(2);
         } catch (Exception e) {
             logger.debug("Could not click field {} to focus, trying JS click", objectKey);
             try {
                 WebElement el = findElement(objectKey);
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click(); arguments[0].focus();", el);
-                try { Thread.sleep(200); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+                waitForQuiescence(2);
             } catch (Exception ex) {
                 logger.debug("JS click/focus also failed for {}", objectKey);
             }
@@ -564,6 +674,73 @@ public abstract class BasePage {
         logger.info("Typed '{}' in field: {}", text, objectKey);
     }
 
+    /**
+     * Fill several text fields in one script call (native value setter + input/change/blur, so
+     * React/MUI state updates). Fields the script cannot set (not rendered yet, not a text input,
+     * maxlength exceeded, value rewritten by a mask/filter) are typed with typeInField.
+     * Null or empty values are skipped.
+     * @param elementKeyToValue OR element key -> value, in fill order (use a LinkedHashMap)
+     */
+    public void fillForm(Map<String, String> elementKeyToValue) {
+        fillForm(elementKeyToValue, Collections.emptySet());
+    }
+
+    /**
+     * Fill several text fields in one script call, typing the given fields with real keystrokes
+     * @param elementKeyToValue OR element key -> value, in fill order (use a LinkedHashMap)
+     * @param keystrokeKeys Fields that must receive real key events (e.g. key-press filters)
+     */
+    public void fillForm(Map<String, String> elementKeyToValue, Set<String> keystrokeKeys) {
+        // Fields are filled in map order: each run of scriptable fields in one script call, keystroke fields in between
+        Map<String, String> run = new LinkedHashMap<>();
+        int filled = 0;
+        int typed = 0;
+        for (Map.Entry<String, String> field : elementKeyToValue.entrySet()) {
+            String value = field.getValue();
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+            filled++;
+            if (!keystrokeKeys.contains(field.getKey())) {
+                run.put(field.getKey(), value);
+                continue;
+            }
+            typed += fillRun(run);
+            run.clear();
+            typeInField(field.getKey(), value);
+            typed++;
+        }
+        typed += fillRun(run);
+        logger.info("Filled {} field(s): {} by script, {} by keystrokes", filled, filled - typed, typed);
+    }
+
+    /**
+     * Fill a run of fields by script. The first field the script could not set is typed, and the
+     * fields after it are filled again so they still follow it (masks/listeners may rewrite them).
+     * @param run OR element key -> value, in fill order
+     * @return Number of fields typed with typeInField
+     */
+    private int fillRun(Map<String, String> run) {
+        if (run.isEmpty()) {
+            return 0;
+        }
+        List<String> rejected = FormFiller.fill(driver, run);
+        if (rejected.isEmpty()) {
+            return 0;
+        }
+        Map<String, String> rest = new LinkedHashMap<>();
+        String fallback = null;
+        for (Map.Entry<String, String> field : run.entrySet()) {
+            if (fallback != null) {
+                rest.put(field.getKey(), field.getValue());
+            } else if (rejected.contains(field.getKey())) {
+                fallback = field.getKey();
+                typeInField(fallback, field.getValue());
+            }
+        }
+        return 1 + fillRun(rest);
+    }
+
     /**
      * Clear a field by object key.
      */
@@ -592,9 +769,9 @@ public abstract class BasePage {
         } catch (Exception e) {
             // Fall through to retry
         }
-        // Approach 3: Retry after short wait (for React re-renders)
+        // Approach 3: Retry once the app is idle (for React re-renders)
         try {
-            Thread.sleep(500);
+            waitForQuiescence(2);
             String value = getAttribute(objectKey, "value");
             if (value != null && !value.isEmpty()) return value;
             // Final JS retry
@@ -613,6 +790,13 @@ public abstract class BasePage {
         return isDisplayed(objectKey);
     }
 
+    /**
+     * Check that element is not displayed on page by object key (settle, then one check).
+     */
+    public boolean isElementAbsentOnPage(String objectKey) {
+        return isAbsent(objectKey);
+    }
+
     /**
      * Check if element is selected by object key.
      */
@@ -633,114 +817,82 @@ public abstract class BasePage {
         }
     }
 
+    /**
+     * Check that text is not displayed anywhere on the page (settle, then one check).
+     */
+    public boolean isTextAbsentOnPage(String text) {
+        settleForAbsenceCheck();
+        return !isTextDisplayedOnPage(text);
+    }
+
     /**
      * Check if field error is displayed for a given element (MUI + Tailwind form validation).
+     * All configured strategies run in one script call, so "no error" returns immediately.
      */
     public boolean isFieldErrorDisplayed(String objectKey) {
-        try {
-            By fieldLocator = orManager.getLocator(objectKey);
-            WebElement field = driver.findElement(fieldLocator);
-
-            // Approach 1: MUI FormControl error
-            try {
-                WebElement formControl = field.findElement(
-                        By.xpath("./ancestor::div[contains(@class,'MuiFormControl-root')]"));
-                List<WebElement> errors = formControl.findElements(
-                        By.xpath(".//p[contains(@class,'Mui-error')] | .//p[contains(@class,'error')]"));
-                if (!errors.isEmpty()) return true;
-            } catch (Exception ignored) {}
-
-            // Approach 2: MUI InputBase error class
-            try {
-                WebElement inputBase = field.findElement(
-                        By.xpath("./ancestor::div[contains(@class,'MuiInputBase-root')]"));
-                String classes = inputBase.getAttribute("class");
-                if (classes != null && classes.contains("Mui-error")) return true;
-            } catch (Exception ignored) {}
-
-            // Approach 3: aria-invalid attribute on input
-            String ariaInvalid = field.getAttribute("aria-invalid");
-            if ("true".equals(ariaInvalid)) return true;
-
-            // Approach 4: Tailwind/custom - find error text near the input (sibling or parent's sibling)
-            try {
-                WebElement parent = field.findElement(By.xpath("./ancestor::div[1]"));
-                List<WebElement> errorTexts = parent.findElements(
-                        By.xpath(".//p[contains(@class,'text-red') or contains(@class,'text-customRed') or contains(@class,'error') or contains(@class,'Mui-error')] | ./following-sibling::p[contains(@class,'text-red') or contains(@class,'text-customRed') or contains(@class,'error')]"));
-                if (!errorTexts.isEmpty()) return true;
-            } catch (Exception ignored) {}
-
-            // Approach 5: Check parent wrapper (2 levels up) for error text
-            try {
-                WebElement wrapper = field.findElement(By.xpath("./ancestor::div[2]"));
-                List<WebElement> errorTexts = wrapper.findElements(
-                        By.xpath(".//p[contains(@class,'text-red') or contains(@class,'text-customRed') or contains(@class,'Mui-error')] | .//span[contains(@class,'text-red') or contains(@class,'text-customRed') or contains(@class,'error')]"));
-                if (!errorTexts.isEmpty()) return true;
-            } catch (Exception ignored) {}
-
-            // Approach 6: Check input border color change (red border = error)
-            try {
-                WebElement inputWrapper = field.findElement(By.xpath("./ancestor::div[contains(@class,'MuiInputBase-root') or contains(@class,'border')]"));
-                String wrapperClasses = inputWrapper.getAttribute("class");
-                if (wrapperClasses != null && (wrapperClasses.contains("border-red") || wrapperClasses.contains("border-customRed") || wrapperClasses.contains("Mui-error")))
-                    return true;
-            } catch (Exception ignored) {}
-
-            // Approach 7: MUI FormHelperText error (e.g. validation messages below input)
-            try {
-                WebElement formControl = field.findElement(By.xpath("./ancestor::div[contains(@class,'MuiFormControl-root') or contains(@class,'MuiTextField-root')]"));
-                List<WebElement> helperTexts = formControl.findElements(
-                        By.xpath(".//p[contains(@class,'MuiFormHelperText') and contains(@class,'Mui-error')] | .//p[contains(@class,'MuiFormHelperText-root')]"));
-                if (!helperTexts.isEmpty()) return true;
-            } catch (Exception ignored) {}
+        return detectFieldError(objectKey) != null;
+    }
 
-            // Approach 8: Sibling or nearby error text (3 levels up)
-            try {
-                WebElement wrapper = field.findElement(By.xpath("./ancestor::div[3]"));
-                List<WebElement> errorTexts = wrapper.findElements(
-                        By.xpath(".//p[contains(@class,'text-red') or contains(@class,'text-customRed') or contains(@class,'Mui-error') or contains(@class,'error')]"));
-                if (!errorTexts.isEmpty()) return true;
-            } catch (Exception ignored) {}
-
-            // Approach 9: JavaScript - check computed color of text elements near the field
-            // Detects custom red error text that doesn't use standard CSS classes
-            try {
-                Boolean hasRedText = (Boolean) ((JavascriptExecutor) driver).executeScript(
-                    "var field = arguments[0];" +
-                    "var parent = field;" +
-                    "for(var i=0; i<5 && parent.parentElement; i++) parent = parent.parentElement;" +
-                    "var elems = parent.querySelectorAll('p,span');" +
-                    "for(var e of elems) {" +
-                    "  var t = e.textContent.trim();" +
-                    "  if(!t || t.length<3 || !e.offsetParent) continue;" +
-                    "  var c = getComputedStyle(e).color;" +
-                    "  var m = c.match(/rgb\\((\\d+),\\s*(\\d+),\\s*(\\d+)/);" +
-                    "  if(m && parseInt(m[1])>180 && parseInt(m[2])<100 && parseInt(m[3])<100) return true;" +
-                    "}" +
-                    "return false;", field);
-                if (Boolean.TRUE.equals(hasRedText)) return true;
-            } catch (Exception ignored) {}
+    /**
+     * Check that no field error is displayed for a given element (settle, then one check).
+     */
+    public boolean isFieldErrorAbsent(String objectKey) {
+        settleForAbsenceCheck();
+        return detectFieldError(objectKey) == null;
+    }
 
-            return false;
+    /**
+     * Get the strategy that detects a field error for a given element.
+     * @return Matching strategy, or null if no error is shown
+     */
+    public FieldErrorDetector.Strategy detectFieldError(String objectKey) {
+        try {
+            FieldErrorDetector.Strategy matched = FieldErrorDetector.getInstance().detect(driver, objectKey);
+            if (matched != null) {
+                logger.debug("Field error for {} detected by {}", objectKey, matched);
+            }
+            return matched;
         } catch (Exception e) {
-            return false;
+            return null;
+        }
+    }
+
+    /**
+     * Wait for a field error to appear (e.g. after blur or slow server-side validation).
+     * Always polls for the full timeoutSeconds; learned latencies only mark slow fields in the log.
+     * @param objectKey OR element key of the field
+     * @param timeoutSeconds Maximum wait in seconds
+     * @return true if an error appeared in time
+     */
+    public boolean waitForFieldError(String objectKey, int timeoutSeconds) {
+        FieldErrorDetector.Strategy matched = waitEngine.probeUntil(driver, objectKey + "#error",
+                d -> detectFieldError(objectKey), timeoutSeconds);
+        if (matched == null) {
+            logger.debug("No field error for {} within {}s", objectKey, timeoutSeconds);
         }
+        return matched != null;
     }
 
     /**
      * Select first option from a MUI dropdown/listbox.
      */
     public void selectFirstDropdownOption(String objectKey) {
-        click(objectKey);
+        Dropdown dropdown = dropdown(objectKey);
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(3))
-                    .until(ExpectedConditions.presenceOfElementLocated(By.xpath("//ul[@role='listbox']//li")));
-            List<WebElement> items = driver.findElements(By.xpath("//ul[@role='listbox']//li"));
-            if (!items.isEmpty()) {
-                items.get(0).click();
-            }
-        } catch (Exception e) {
-            logger.warn("Could not select first option from dropdown: {}", objectKey);
+            dropdown.selectFirst();
+        } catch (TimeoutException e) {
+            // Trigger itself not found
+            throw e;
+        } catch (RuntimeException e) {
+            logger.warn("Could not select first option from dropdown {}: {}", objectKey, e.getMessage());
         }
     }
+
+    /**
+     * Select an option by text (exact, else contains; case-insensitive) from a MUI dropdown/listbox.
+     * Fails with the list of available options if none matches.
+     */
+    public void selectDropdownOption(String objectKey, String optionText) {
+        dropdown(objectKey).selectByText(optionText);
+    }
 }
@@ -1,11 +1,11 @@
 package org.example.pages;
 
+import org.example.core.keywords.ElementSnapshot;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * DashboardPage - Page Object for RIB Dashboard Page
@@ -13,6 +13,12 @@ import java.time.Duration;
  */
 public class DashboardPage extends BasePage {
 
+    // Any one of these identifies the dashboard
+    private static final List<String> DASHBOARD_MARKERS = Arrays.asList(
+            "Db_QuickServicesTitle_Object", "AccountsTitle_Object", "ShivalikLogo_Object");
+
+    private static final int SECTION_CHECK_TIMEOUT = 7;
+
     public DashboardPage() {
         super();
     }  
@@ -558,6 +564,22 @@ public class DashboardPage extends BasePage {
         }
     }
 
+    /**
+     * Check the beneficiary section's empty state and populated state in one snapshot
+     * @return true if the no-beneficiary image or the favourite beneficiary section is displayed
+     */
+    public boolean isNoBeneficiaryImageOrCardsDisplayed() {
+        return isAnyDisplayed(Arrays.asList(key("NoBeneficiaryImage_Object"), key("FavouriteBeneficiaryTitle_Object")));
+    }
+
+    /**
+     * Check the bills section's empty state and populated state in one snapshot
+     * @return true if the no-bills image or the bill list is displayed
+     */
+    public boolean isNoBillsImageOrBillListDisplayed() {
+        return isAnyDisplayed(Arrays.asList(key("NoBillsImage_Object"), key("BillList_Object")));
+    }
+
     // getText methods
     public String getAccountNumber() {
         return getText(key("AccountNumber_Object"));
@@ -626,8 +648,12 @@ public class DashboardPage extends BasePage {
     }
 
     public boolean isDashboardDisplayed() {
+        return isAnyDisplayed(DASHBOARD_MARKERS);
+    }
+
+    private boolean isAnyDisplayed(List<String> elementKeys) {
         try {
-            return isQuickServicesDisplayed() || isAccountsDisplayed() || isLogoDisplayed();
+            return snapshotUntil(elementKeys, ElementSnapshot::anyDisplayed, SECTION_CHECK_TIMEOUT).anyDisplayed();
         } catch (Exception e) {
             return false;
         }
@@ -638,9 +664,8 @@ public class DashboardPage extends BasePage {
      */
     private void waitForLoadingOverlay() {
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(30))
-                    .until(ExpectedConditions.invisibilityOfElementLocated(
-                            By.cssSelector("div.MuiBox-root[style*='height: 100vh']")));
+            waitEngine.waitForInvisible(driver, "LoadingOverlay",
+                    By.cssSelector("div.MuiBox-root[style*='height: 100vh']"), 30);
         } catch (Exception e) {
             logger.debug("Loading overlay check completed");
         }
@@ -1,12 +1,15 @@
 package org.example.pages;
 
+import org.example.core.keywords.Dropdown;
+import org.example.core.wait.WaitEngine.Condition;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * FundTransferPage - Page Object for Fund Transfer Page
@@ -19,6 +22,11 @@ import java.util.List;
  */
 public class FundTransferPage extends BasePage {
 
+    // Beneficiary picker is a custom panel, not an MUI listbox: items are the rows with an avatar
+    // (avatar filtered by Dropdown instead of :has(), which older browsers reject)
+    private static final String BENEFICIARY_OPTIONS = "div[class*=z-20] li[class*=cursor-pointer]";
+    private static final String BENEFICIARY_AVATAR = "div[class*=beneficiaryAvtar]";
+
     public FundTransferPage() {
         super();
     }
@@ -34,8 +42,7 @@ public class FundTransferPage extends BasePage {
             // Use presence check (not visibility) because the fixed-position header
             // may not pass Selenium's visibility check due to CSS rendering
             By locator = orManager.getLocator(key("FT_PageTitle_Object"));
-            new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(60))
-                    .until(org.openqa.selenium.support.ui.ExpectedConditions.presenceOfElementLocated(locator));
+            waitEngine.waitFor(driver, key("FT_PageTitle_Object"), locator, Condition.PRESENT, 60);
             logger.info("Fund Transfer page loaded successfully");
         } catch (Exception e) {
             logger.warn("Fund Transfer page load wait timed out after 60s");
@@ -122,6 +129,7 @@ public class FundTransferPage extends BasePage {
 
     public void navigateBack() {
         driver.navigate().back();
+        elementCache.invalidate();
     }
 
     // ========== Main Menu Actions ==========
@@ -193,15 +201,13 @@ public class FundTransferPage extends BasePage {
     public void enterBeneficiarySearch(String text) {
         // Step 1: Click the main beneficiary input to open the dropdown panel
         click(key("SelectBeneficiaryInput_Object"));
-        try { Thread.sleep(1500); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+        waitForQuiescence(5);
 
         // Step 2: Wait for the dropdown panel to appear
         String dropdownPanel = "//div[contains(@class,'absolute') and contains(@class,'z-20') and contains(@class,'bg-white')]";
-        try {
-            new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(5))
-                    .until(ExpectedConditions.presenceOfElementLocated(By.xpath(dropdownPanel)));
+        if (waitEngine.probe(driver, "BeneficiaryDropdownPanel", By.xpath(dropdownPanel), Condition.PRESENT, 5) != null) {
             logger.info("Beneficiary dropdown panel opened");
-        } catch (Exception e) {
+        } else {
             logger.warn("Dropdown panel did not appear, trying to type in main input instead");
             type(key("SelectBeneficiaryInput_Object"), text);
             return;
@@ -210,11 +216,12 @@ public class FundTransferPage extends BasePage {
         // Step 3: Find and type in the dropdown's internal Search input
         String searchInput = "//div[contains(@class,'absolute') and contains(@class,'z-20')]//input[@placeholder='Search']";
         try {
-            WebElement searchField = driver.findElement(By.xpath(searchInput));
+            WebElement searchField = findElement(By.xpath(searchInput));
             searchField.clear();
             searchField.sendKeys(text);
             logger.info("Typed '{}' in dropdown search input", text);
-            try { Thread.sleep(2000); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+            // Search results come from the API
+            waitForQuiescence(5);
         } catch (Exception e) {
             logger.warn("Could not find dropdown search input, falling back to main input");
             type(key("SelectBeneficiaryInput_Object"), text);
@@ -222,44 +229,32 @@ public class FundTransferPage extends BasePage {
     }
 
     public void selectBeneficiaryFromDropdown() {
-        // The beneficiary dropdown panel structure:
+        // The beneficiary dropdown panel structure (opened by enterBeneficiarySearch):
         // <div class="absolute z-20 w-full bg-white ...">
         //   <input placeholder="Search">
         //   <ul><li class="cursor-pointer"><div class="beneficiaryAvtar">...</div>...</li></ul>
         // </div>
-        String selector = "//li[contains(@class,'cursor-pointer') and .//div[contains(@class,'beneficiaryAvtar')]]";
-
         try {
-            new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(10))
-                    .until(ExpectedConditions.presenceOfElementLocated(By.xpath(selector)));
-            try { Thread.sleep(500); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
-
-            List<WebElement> items = driver.findElements(By.xpath(selector));
-            if (!items.isEmpty()) {
-                WebElement item = items.get(0);
-                String itemText = item.getText();
-                logger.info("Found beneficiary item: {}", itemText);
-
-                try {
-                    new org.openqa.selenium.interactions.Actions(driver)
-                            .moveToElement(item).pause(java.time.Duration.ofMillis(200)).click().perform();
-                } catch (Exception actionsEx) {
-                    try {
-                        ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", item);
-                    } catch (Exception jsEx) {
-                        item.click();
-                    }
-                }
-
-                try { Thread.sleep(1000); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
-                logger.info("Beneficiary selected successfully");
-                return;
-            }
-        } catch (Exception e) {
-            logger.warn("Could not find beneficiary items: {}", e.getMessage());
+            new Dropdown(driver, "BeneficiaryDropdownItem", null)
+                    .withOptions(BENEFICIARY_OPTIONS, BENEFICIARY_AVATAR)
+                    .withTimeout(10)
+                    .selectFirst();
+            waitForQuiescence(5);
+        } catch (RuntimeException e) {
+            logger.warn("Could not select beneficiary from dropdown: {}", e.getMessage());
         }
+    }
 
-        logger.warn("Could not select beneficiary from dropdown - no items found");
+    /**
+     * Select a beneficiary by name from the open beneficiary panel
+     * @param beneficiaryName Name (exact, else contains; case-insensitive)
+     */
+    public void selectBeneficiaryByName(String beneficiaryName) {
+        new Dropdown(driver, "BeneficiaryDropdownItem", null)
+                .withOptions(BENEFICIARY_OPTIONS, BENEFICIARY_AVATAR)
+                .withTimeout(10)
+                .selectByText(beneficiaryName);
+        waitForQuiescence(5);
     }
 
     public void enterAmount(String amount) {
@@ -275,17 +270,11 @@ public class FundTransferPage extends BasePage {
     }
 
     public void selectFirstTransferFromAccount() {
-        click(key("TransferFromDropdown_Object"));
-        try {
-            new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(3))
-                    .until(ExpectedConditions.presenceOfElementLocated(By.xpath("//ul[@role='listbox']//li")));
-            List<WebElement> items = driver.findElements(By.xpath("//ul[@role='listbox']//li"));
-            if (!items.isEmpty()) {
-                items.get(0).click();
-            }
-        } catch (Exception e) {
-            logger.warn("Could not select transfer from account");
-        }
+        selectFirstDropdownOption(key("TransferFromDropdown_Object"));
+    }
+
+    public void selectTransferFromAccount(String accountText) {
+        selectDropdownOption(key("TransferFromDropdown_Object"), accountText);
     }
 
     public void clickPaymentDateField() {
@@ -643,9 +632,7 @@ public class FundTransferPage extends BasePage {
     public boolean isPageTitleDisplayed() {
         try {
             By locator = orManager.getLocator(key("FT_PageTitle_Object"));
-            org.openqa.selenium.WebElement el = new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(5))
-                    .until(org.openqa.selenium.support.ui.ExpectedConditions.presenceOfElementLocated(locator));
-            return el != null;
+            return waitEngine.probe(driver, key("FT_PageTitle_Object"), locator, Condition.PRESENT, 5) != null;
         } catch (Exception e) {
             return false;
         }
@@ -1049,23 +1036,45 @@ public class FundTransferPage extends BasePage {
 
     public void fillQuickTransferShivalikForm(String recipientName, String accountNo, String reAccountNo, String amount) {
         selectShivalikBank();
-        enterRecipientName(recipientName);
-        enterAccountNumber(accountNo);
-        enterReEnterAccountNumber(reAccountNo);
-        enterAmount(amount);
+        fillForm(quickTransferValues(recipientName, accountNo, reAccountNo, null, amount));
         selectFirstTransferFromAccount();
     }
 
     public void fillQuickTransferOtherBankForm(String recipientName, String accountNo, String reAccountNo, String ifsc, String amount) {
         selectOtherBank();
-        enterRecipientName(recipientName);
-        enterAccountNumber(accountNo);
-        enterReEnterAccountNumber(reAccountNo);
-        enterIFSCCode(ifsc);
-        enterAmount(amount);
+        fillForm(quickTransferValues(recipientName, accountNo, reAccountNo, ifsc, amount));
         selectFirstTransferFromAccount();
     }
 
+    /**
+     * Fill the quick-transfer text fields in one script call (empty values are skipped).
+     * Order: account number, re-enter account, IFSC, recipient name, amount.
+     */
+    public void fillQuickTransferFields(String accountNo, String reAccountNo, String ifsc, String recipientName, String amount) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put(key("QT_AccountNumberInput_Object"), accountNo);
+        values.put(key("QT_ReEnterAccountInput_Object"), reAccountNo);
+        values.put(key("QT_IFSCCodeInput_Object"), ifsc);
+        values.put(key("QT_RecipientNameInput_Object"), recipientName);
+        values.put(key("EnterAmountInput_Object"), amount);
+        fillForm(values);
+    }
+
+    /**
+     * Quick-transfer form values in the form's entry order: recipient name first, then account
+     * number, re-enter account, IFSC and amount (blur validation of one field can depend on another)
+     */
+    private Map<String, String> quickTransferValues(String recipientName, String accountNo, String reAccountNo,
+                                                    String ifsc, String amount) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put(key("QT_RecipientNameInput_Object"), recipientName);
+        values.put(key("QT_AccountNumberInput_Object"), accountNo);
+        values.put(key("QT_ReEnterAccountInput_Object"), reAccountNo);
+        values.put(key("QT_IFSCCodeInput_Object"), ifsc);
+        values.put(key("EnterAmountInput_Object"), amount);
+        return values;
+    }
+
     public void fillSelfAccountTransferForm(String amount, String remarks) {
         enterSelfTransferAmount(amount);
         selectFirstTransferFromAccount();
@@ -1114,14 +1123,13 @@ public class FundTransferPage extends BasePage {
         try {
             // Wait for popup container to disappear from DOM
             By popupLocator = orManager.getLocator(key("CancelPopupContainer_Object"));
-            new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(5))
-                    .until(org.openqa.selenium.support.ui.ExpectedConditions.invisibilityOfElementLocated(popupLocator));
+            waitEngine.waitForInvisible(driver, key("CancelPopupContainer_Object"), popupLocator, 5);
             logger.info("Popup dismissed successfully");
         } catch (Exception e) {
-            logger.debug("Popup dismiss wait timed out, using fallback sleep");
+            logger.debug("Popup dismiss wait timed out, waiting for the app to settle");
         }
-        // Extra sleep to let animation complete
-        try { Thread.sleep(1000); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+        // Let the close animation complete
+        waitForQuiescence(3);
     }
 
     public void dismissMuiBackdrop() {
@@ -1130,7 +1138,7 @@ public class FundTransferPage extends BasePage {
             if (!backdrops.isEmpty()) {
                 // Try pressing Escape to close any modal
                 driver.findElement(By.tagName("body")).sendKeys(org.openqa.selenium.Keys.ESCAPE);
-                try { Thread.sleep(500); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+                waitForQuiescence(2);
                 logger.info("Pressed Escape to dismiss MuiBackdrop");
                 // If backdrop still exists, remove it via JS
                 backdrops = driver.findElements(By.cssSelector(".MuiBackdrop-root"));
@@ -1138,7 +1146,6 @@ public class FundTransferPage extends BasePage {
                     ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
                             "document.querySelectorAll('.MuiBackdrop-root').forEach(el => el.parentElement.remove());"
                     );
-                    try { Thread.sleep(300); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
                     logger.info("Removed MuiBackdrop via JavaScript");
                 }
             }
@@ -1,9 +1,12 @@
 package org.example.pages;
 
+import org.example.core.wait.WaitEngine.Condition;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ManageBeneficiariesPage - Page Object for Manage Beneficiaries Module
@@ -24,8 +27,7 @@ public class ManageBeneficiariesPage extends BasePage {
     public void waitForManageBeneficiaryPageLoad() {
         try {
             By locator = orManager.getLocator(key("PageTitle_Object"));
-            new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(15))
-                    .until(org.openqa.selenium.support.ui.ExpectedConditions.presenceOfElementLocated(locator));
+            waitEngine.waitFor(driver, key("PageTitle_Object"), locator, Condition.PRESENT, 15);
             logger.info("Manage Beneficiary page loaded successfully");
         } catch (Exception e) {
             logger.warn("Manage Beneficiary page load wait timed out");
@@ -124,6 +126,7 @@ public class ManageBeneficiariesPage extends BasePage {
 
     public void navigateBack() {
         driver.navigate().back();
+        elementCache.invalidate();
     }
 
     // ========== Tab Actions ==========
@@ -435,9 +438,7 @@ public class ManageBeneficiariesPage extends BasePage {
     public boolean isPageTitleDisplayed() {
         try {
             By locator = orManager.getLocator(key("PageTitle_Object"));
-            org.openqa.selenium.WebElement el = new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(5))
-                    .until(org.openqa.selenium.support.ui.ExpectedConditions.presenceOfElementLocated(locator));
-            return el != null;
+            return waitEngine.probe(driver, key("PageTitle_Object"), locator, Condition.PRESENT, 5) != null;
         } catch (Exception e) {
             return false;
         }
@@ -804,23 +805,25 @@ public class ManageBeneficiariesPage extends BasePage {
 
     public void fillShivalikBeneficiaryForm(String accountNo, String reAccountNo, String beneficiaryName, String nickname) {
         // Shivalik Bank is selected by default - no radio click needed
-        enterAccountNumber(accountNo);
-        enterReEnterAccountNumber(reAccountNo);
-        enterBeneficiaryName(beneficiaryName);
-        if (nickname != null && !nickname.isEmpty()) {
-            enterNickname(nickname);
-        }
+        fillBeneficiaryFields(accountNo, reAccountNo, null, beneficiaryName, nickname);
     }
 
     public void fillOtherBankBeneficiaryForm(String accountNo, String reAccountNo, String ifsc, String beneficiaryName, String nickname) {
         clickOtherBankRadio();
-        enterAccountNumber(accountNo);
-        enterReEnterAccountNumber(reAccountNo);
-        enterIFSCCode(ifsc);
-        enterBeneficiaryName(beneficiaryName);
-        if (nickname != null && !nickname.isEmpty()) {
-            enterNickname(nickname);
-        }
+        fillBeneficiaryFields(accountNo, reAccountNo, ifsc, beneficiaryName, nickname);
+    }
+
+    /**
+     * Fill the add-beneficiary text fields in one script call (empty values are skipped)
+     */
+    public void fillBeneficiaryFields(String accountNo, String reAccountNo, String ifsc, String beneficiaryName, String nickname) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put(key("MB_AccountNumberInput_Object"), accountNo);
+        values.put(key("MB_ReEnterAccountInput_Object"), reAccountNo);
+        values.put(key("MB_IFSCCodeInput_Object"), ifsc);
+        values.put(key("MB_BeneficiaryNameInput_Object"), beneficiaryName);
+        values.put(key("MB_NicknameInput_Object"), nickname);
+        fillForm(values);
     }
 
     public void clearAllFormFields() {
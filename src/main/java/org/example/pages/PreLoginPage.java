@@ -4,9 +4,6 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import java.time.Duration;
 
 /**
  * PreLoginPage - Page Object for Shivalik Bank Pre-Login Page
@@ -24,9 +21,7 @@ public class PreLoginPage extends BasePage {
      */
     private void waitForBackdropToDisappear() {
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(5))
-                    .until(ExpectedConditions.invisibilityOfElementLocated(
-                            By.cssSelector("div.MuiBackdrop-root")));
+            waitEngine.waitForInvisible(driver, "MuiBackdrop", By.cssSelector("div.MuiBackdrop-root"), 5);
         } catch (Exception e) {
             // No backdrop present or already gone - continue
         }
@@ -114,11 +109,11 @@ public class PreLoginPage extends BasePage {
         try { scrollToElement("UserIdInput_Object"); } catch (Exception e) { }
         WebElement el = findVisibleElement("UserIdInput_Object");
         el.click();
-        try { Thread.sleep(300); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+        waitForQuiescence(2);
         el.sendKeys(Keys.chord(Keys.CONTROL, "a"));
         el.sendKeys(userId);
         // Verify value was set, if not use React-compatible JavaScript fallback
-        try { Thread.sleep(200); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+        waitForQuiescence(2);
         String currentValue = el.getAttribute("value");
         if (currentValue == null || currentValue.isEmpty()) {
             logger.warn("sendKeys did not set User ID value, using JavaScript fallback");
@@ -154,11 +149,11 @@ public class PreLoginPage extends BasePage {
         try { scrollToElement("PasswordInput_Object"); } catch (Exception e) { }
         WebElement el = findVisibleElement("PasswordInput_Object");
         el.click();
-        try { Thread.sleep(300); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+        waitForQuiescence(2);
         el.sendKeys(Keys.chord(Keys.CONTROL, "a"));
         el.sendKeys(password);
         // Verify value was set, if not use React-compatible JavaScript fallback
-        try { Thread.sleep(200); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
+        waitForQuiescence(2);
         String currentValue = el.getAttribute("value");
         if (currentValue == null || currentValue.isEmpty()) {
             logger.warn("sendKeys did not set Password value, using JavaScript fallback");
@@ -355,7 +350,7 @@ public class PreLoginPage extends BasePage {
     }
 
     public boolean isProceedButtonEnabled() {
-        return isEnabled("ProceedButton_Object") && !isDisplayed("ProceedButtonDisabled_Object");
+        return isEnabled("ProceedButton_Object") && isAbsent("ProceedButtonDisabled_Object");
     }
 
     public boolean isRememberUserIdDisplayed() {
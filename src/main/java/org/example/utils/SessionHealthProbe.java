@@ -0,0 +1,193 @@
+package org.example.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.core.driver.DriverManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SessionHealthProbe - Constant-time check whether the logged-in session is still valid.
+ *
+ * The session counts as valid only when all of these hold:
+ * - the driver is alive (bounded heartbeat)
+ * - the page finished loading (document.readyState, waited for briefly)
+ * - the URL is on the application origin and does not match session.probe.login.url.pattern
+ * - the login form is not showing
+ * - the auth cookie (session.probe.auth.cookie, or any app cookie if unset) is present
+ * A blank, half-rendered or error page is therefore "expired", never a false "still logged in".
+ *
+ * The DOM checks run in one executeScript (never exposed to an implicit wait). The result is
+ * cached per driver for session.probe.ttl.ms, so parallel sessions and tab workers never
+ * share a verdict.
+ */
+public class SessionHealthProbe {
+
+    private static final Logger logger = LogManager.getLogger(SessionHealthProbe.class);
+
+    // Time given to a page that is still loading before it counts as not logged in
+    private static final long READY_WAIT_MILLIS = 3000;
+
+    // Returns {url, ready, loginForm}; login form marker: user ID field of the pre-login page
+    private static final String PROBE_SCRIPT =
+            "return { url: location.href, ready: document.readyState === 'complete'," +
+            " loginForm: document.querySelector(\"input[placeholder='Enter your user ID']\") !== null };";
+
+    /**
+     * ProbeResult - Inner class holding a cached verdict for one driver
+     */
+    private static class ProbeResult {
+        private final long time;
+        private final boolean expired;
+
+        ProbeResult(long time, boolean expired) {
+            this.time = time;
+            this.expired = expired;
+        }
+    }
+
+    private static final Map<WebDriver, ProbeResult> lastResults = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Metrics
+    private static final AtomicLong totalProbeNanos = new AtomicLong(0);
+    private static final AtomicInteger probeCount = new AtomicInteger(0);
+    private static final AtomicInteger cacheHits = new AtomicInteger(0);
+
+    private SessionHealthProbe() {
+        // Private constructor - utility class
+    }
+
+    /**
+     * Check if the current thread's session has expired.
+     * Returns the cached result for this driver if it is younger than session.probe.ttl.ms.
+     * @return true if expired, not verifiably logged in, browser is gone, or the probe failed
+     */
+    public static boolean isExpired() {
+        if (!DriverManager.isDriverInitialized()) {
+            return true;
+        }
+        WebDriver driver = DriverManager.getDriver();
+
+        long ttl = ConfigLoader.getInstance().getSessionProbeTtl();
+        ProbeResult cached = lastResults.get(driver);
+        if (ttl > 0 && cached != null && System.currentTimeMillis() - cached.time < ttl) {
+            cacheHits.incrementAndGet();
+            return cached.expired;
+        }
+
+        long start = System.nanoTime();
+        boolean expired;
+        try {
+            expired = !DriverManager.isDriverAlive() || !isLoggedIn(driver);
+        } catch (Exception e) {
+            logger.debug("Session probe failed: {}", e.getMessage());
+            expired = true; // Any error means session is gone
+        }
+        long elapsed = System.nanoTime() - start;
+
+        totalProbeNanos.addAndGet(elapsed);
+        probeCount.incrementAndGet();
+        lastResults.put(driver, new ProbeResult(System.currentTimeMillis(), expired));
+
+        logger.debug("Session probe: expired={} in {} ms", expired, elapsed / 1_000_000);
+        return expired;
+    }
+
+    /**
+     * Drop the cached probe result of the current thread's driver (call after login, logout or driver change)
+     */
+    public static void invalidate() {
+        if (DriverManager.isDriverInitialized()) {
+            lastResults.remove(DriverManager.getDriver());
+        } else {
+            lastResults.clear();
+        }
+    }
+
+    // ==================== Checks ====================
+
+    @SuppressWarnings("unchecked")
+    private static boolean isLoggedIn(WebDriver driver) throws InterruptedException {
+        ConfigLoader config = ConfigLoader.getInstance();
+        long deadline = System.currentTimeMillis() + READY_WAIT_MILLIS;
+        Map<String, Object> state = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT);
+        while (!Boolean.TRUE.equals(state.get("ready")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            state = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT);
+        }
+
+        String url = String.valueOf(state.get("url"));
+        if (!Boolean.TRUE.equals(state.get("ready"))) {
+            logger.debug("Session probe: page not loaded ({})", url);
+            return false;
+        }
+        if (!isAppOrigin(url, SessionManager.getLoginUrl()) || url.matches(config.getSessionLoginUrlPattern())) {
+            logger.debug("Session probe: not on an authenticated app page ({})", url);
+            return false;
+        }
+        if (Boolean.TRUE.equals(state.get("loginForm"))) {
+            return false;
+        }
+
+        String authCookie = config.getSessionAuthCookie();
+        boolean hasCookie = authCookie.isEmpty()
+                ? !driver.manage().getCookies().isEmpty()
+                : driver.manage().getCookieNamed(authCookie) != null;
+        if (!hasCookie) {
+            logger.debug("Session probe: auth cookie '{}' missing", authCookie.isEmpty() ? "*" : authCookie);
+        }
+        return hasCookie;
+    }
+
+    private static boolean isAppOrigin(String url, String baseUrl) {
+        try {
+            URI page = URI.create(url);
+            URI base = URI.create(baseUrl);
+            return page.getHost() != null && page.getHost().equalsIgnoreCase(base.getHost())
+                    && Objects.equals(page.getScheme(), base.getScheme());
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get total time spent in probes
+     * @return Time in milliseconds
+     */
+    public static long getTotalProbeTimeMillis() {
+        return totalProbeNanos.get() / 1_000_000;
+    }
+
+    /**
+     * Get number of probes that hit the browser
+     * @return Probe count
+     */
+    public static int getProbeCount() {
+        return probeCount.get();
+    }
+
+    /**
+     * Get number of calls served from the cached result
+     * @return Cache hit count
+     */
+    public static int getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Log probe statistics
+     */
+    public static void printStatistics() {
+        logger.info("Session probe: {} probes, {} cached, {} ms total",
+                getProbeCount(), getCacheHits(), getTotalProbeTimeMillis());
+    }
+}
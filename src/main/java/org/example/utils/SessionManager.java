@@ -3,15 +3,17 @@ package org.example.utils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.ConfigLoader;
+import org.example.config.FrameworkConstants;
+import org.example.core.bootstrap.SuiteBootstrap;
 import org.example.core.driver.DriverManager;
+import org.example.core.wait.Pause;
+import org.example.core.wait.WaitEngine;
 import org.example.pages.PreLoginPage;
 import org.example.utils.excel.ExcelReader;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.time.Duration;
+import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,6 +24,9 @@ import java.util.Map;
  * - Session expiry detection (instant check, no 30s wait)
  * - Auto-re-login when session expires at runtime
  * - Reset module page flags on re-login
+ * - Session snapshot reuse: cookies/storage captured after login are injected into
+ *   new or reinitialised drivers, falling back to UI login if the restored session is invalid
+ *   (opt-in via session.snapshot.enabled; see SessionSnapshot for handling of the stored tokens)
  *
  * Usage: All step definition classes should call SessionManager.ensureLoggedIn()
  * instead of maintaining their own login logic.
@@ -39,6 +44,9 @@ public class SessionManager {
     // Cached test data for login credentials
     private static Map<String, String> loginData;
 
+    // URL the last login navigated to (Excel BASE_URL, or base.url if not set)
+    private static volatile String loginUrl;
+
     private SessionManager() {
         // Prevent instantiation
     }
@@ -49,12 +57,18 @@ public class SessionManager {
      * Call this from every module's Background step.
      */
     public static void ensureLoggedIn() {
+        // Claim the browser started in the background by SuiteBootstrap (if any)
+        if (!DriverManager.isDriverInitialized() && DriverManager.hasPendingDriver()) {
+            DriverManager.initDriver();
+        }
+
         // First check if browser is still alive
         if (!DriverManager.isDriverAlive()) {
             logger.warn("Browser window is not alive - reinitializing driver...");
             ConfigLoader config = ConfigLoader.getInstance();
             DriverManager.reinitializeDriver(config.getBrowser(), config.isHeadless());
             isLoggedIn = false;
+            SessionHealthProbe.invalidate();
             notifySessionReset();
         }
 
@@ -62,6 +76,7 @@ public class SessionManager {
         if (isLoggedIn && isSessionExpired()) {
             logger.warn("Session expired - detected login page. Re-logging in...");
             isLoggedIn = false;
+            discardSnapshot();
             notifySessionReset();
         }
 
@@ -81,6 +96,11 @@ public class SessionManager {
         if (url.isEmpty()) {
             url = ConfigLoader.getInstance().getBaseUrl();
         }
+        loginUrl = url;
+
+        if (restoreSnapshot(url)) {
+            return;
+        }
 
         for (int attempt = 1; attempt <= 2; attempt++) {
             try {
@@ -100,27 +120,29 @@ public class SessionManager {
                 // Perform login flow
                 preLoginPage.enterUserId(getLoginData("USER_ID_VALID"));
                 preLoginPage.clickProceedButton();
-                sleep(500);
+                Pause.sleep(500);
 
                 // Wait for password field to be interactable
                 waitForPasswordField();
                 preLoginPage.enterPassword(getLoginData("PASSWORD_VALID"));
-                sleep(300);
+                Pause.sleep(300);
                 preLoginPage.clickAccessImageCheckbox();
                 preLoginPage.clickLoginButton();
-                sleep(1000);
+                Pause.sleep(1000);
 
                 // Verify dashboard loaded
                 preLoginPage.waitForPageLoad();
                 isLoggedIn = true;
+                SessionHealthProbe.invalidate();
                 logger.info("Login successful - session established (attempt {})", attempt);
+                captureSnapshot();
                 return;
 
             } catch (Exception e) {
                 logger.error("Login attempt {} failed: {}", attempt, e.getMessage());
                 if (attempt < 2) {
                     logger.info("Retrying login with fresh driver...");
-                    sleep(2000);
+                    Pause.sleep(2000);
                 } else {
                     logger.error("Login failed after 2 attempts");
                     throw new RuntimeException("Login failed after 2 attempts: " + e.getMessage(), e);
@@ -130,20 +152,98 @@ public class SessionManager {
     }
 
     /**
-     * Quick check if session expired (login page visible).
-     * Uses findElements() which returns instantly - no 30s wait.
-     * Returns true if browser crashed (treat as expired).
+     * Try to restore a persisted session snapshot instead of logging in through the UI.
+     * Opens the application origin, injects cookies/storage, then validates with one probe.
+     * @param url Application base URL
+     * @return true if the restored session is valid
      */
-    public static boolean isSessionExpired() {
+    private static boolean restoreSnapshot(String url) {
+        ConfigLoader config = ConfigLoader.getInstance();
+        if (!config.isSessionSnapshotEnabled()) {
+            return false;
+        }
+
+        SessionSnapshot.deleteExpired(new File(FrameworkConstants.SESSION_SNAPSHOT_PATH), config.getSessionSnapshotTtl());
+        SessionSnapshot snapshot = SessionSnapshot.load(getSnapshotFile());
+        if (snapshot == null) {
+            return false;
+        }
+        if (snapshot.isOlderThan(config.getSessionSnapshotTtl())) {
+            logger.info("Session snapshot older than {} min - using UI login", config.getSessionSnapshotTtl());
+            discardSnapshot();
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
         try {
             if (!DriverManager.isDriverAlive()) {
-                return true; // Browser crashed = session expired
+                DriverManager.reinitializeDriver(config.getBrowser(), config.isHeadless());
             }
-            return !DriverManager.getDriver().findElements(
-                    By.xpath("//input[@placeholder='Enter your user ID']")).isEmpty();
+            DriverManager.navigateTo(url);
+            snapshot.restore(DriverManager.getDriver());
+            new PreLoginPage().waitForPageLoad();
+
+            SessionHealthProbe.invalidate();
+            if (!isSessionExpired()) {
+                isLoggedIn = true;
+                logger.info("Session restored from snapshot in {} ms - UI login skipped",
+                        System.currentTimeMillis() - start);
+                return true;
+            }
+            logger.info("Restored session is not valid - falling back to UI login");
         } catch (Exception e) {
-            return true; // Any error means session is gone
+            logger.warn("Could not restore session snapshot: {}", e.getMessage());
         }
+
+        discardSnapshot();
+        try {
+            DriverManager.deleteAllCookies();
+        } catch (Exception e) {
+            logger.debug("Could not clear cookies after failed restore: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Capture and persist the current authenticated session
+     */
+    private static void captureSnapshot() {
+        if (!ConfigLoader.getInstance().isSessionSnapshotEnabled()) {
+            return;
+        }
+        try {
+            SessionSnapshot.capture(DriverManager.getDriver()).save(getSnapshotFile());
+        } catch (Exception e) {
+            logger.warn("Could not capture session snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the persisted session snapshot (session no longer valid)
+     */
+    private static void discardSnapshot() {
+        File snapshotFile = getSnapshotFile();
+        if (snapshotFile.exists() && !snapshotFile.delete()) {
+            logger.debug("Could not delete session snapshot: {}", snapshotFile);
+        }
+    }
+
+    /**
+     * Snapshot file per environment and user: target/session/<env>_<userId>.json
+     */
+    private static File getSnapshotFile() {
+        String userId = getLoginData("USER_ID_VALID").replaceAll("[^a-zA-Z0-9]", "_");
+        String fileName = ConfigLoader.getInstance().getEnvironment() + "_" + userId + ".json";
+        return new File(FrameworkConstants.SESSION_SNAPSHOT_PATH, fileName);
+    }
+
+    /**
+     * Quick check if session expired (login page visible).
+     * Delegates to SessionHealthProbe - one script call, no implicit wait, short result cache.
+     * Returns true if browser crashed (treat as expired).
+     */
+    public static boolean isSessionExpired() {
+        return SessionHealthProbe.isExpired();
     }
 
     /**
@@ -153,11 +253,21 @@ public class SessionManager {
         return isLoggedIn;
     }
 
+    /**
+     * Get the URL used for login (the app origin a healthy session stays on).
+     * @return Login URL, or base.url if no login has run yet
+     */
+    public static String getLoginUrl() {
+        String url = loginUrl;
+        return url != null ? url : ConfigLoader.getInstance().getBaseUrl();
+    }
+
     /**
      * Force reset login state (e.g., after explicit logout).
      */
     public static void resetLoginState() {
         isLoggedIn = false;
+        SessionHealthProbe.invalidate();
         notifySessionReset();
     }
 
@@ -185,10 +295,15 @@ public class SessionManager {
 
     /**
      * Load login credentials from Excel (cached).
+     * Reuses the workbook already loaded by SuiteBootstrap when available.
      */
     private static void loadLoginData() {
         if (loginData == null) {
             try {
+                if (SuiteBootstrap.isStarted()) {
+                    loginData = SuiteBootstrap.getTestData(); // default "prelogin" sheet
+                    return;
+                }
                 String excelPath = ConfigLoader.getInstance().getSuiteExcelPath();
                 ExcelReader reader = new ExcelReader(excelPath);
                 loginData = reader.getTestData(); // reads default "prelogin" sheet
@@ -213,19 +328,11 @@ public class SessionManager {
         try {
             By passwordLocator = By.xpath(
                     "//input[@type='password' or @placeholder='Enter your password' or @placeholder='Enter Password']");
-            new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(30))
-                    .until(ExpectedConditions.elementToBeClickable(passwordLocator));
+            WaitEngine.getInstance().waitFor(DriverManager.getDriver(), "LoginPasswordField",
+                    passwordLocator, WaitEngine.Condition.CLICKABLE, 30);
             logger.debug("Password field is interactable");
         } catch (Exception e) {
             logger.warn("Password field wait timed out, attempting anyway: {}", e.getMessage());
         }
     }
-
-    private static void sleep(int ms) {
-        try {
-            Thread.sleep(ms);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
 }
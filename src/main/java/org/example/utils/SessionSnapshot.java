@@ -0,0 +1,238 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SessionSnapshot - Captured authenticated browser state (cookies, localStorage, sessionStorage).
+ * Captured after a successful UI login and injected into new or reinitialised drivers,
+ * so a browser restart does not have to repeat the login flow.
+ *
+ * Snapshots are persisted as JSON under target/session/ and contain live session tokens
+ * (including httpOnly auth cookies) in plain text. They are therefore opt-in
+ * (session.snapshot.enabled), written owner-only, deleted once older than
+ * session.snapshot.ttl.minutes, and target/session must never be archived as a build artifact.
+ */
+public class SessionSnapshot {
+
+    private static final Logger logger = LogManager.getLogger(SessionSnapshot.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String STORAGE_DUMP_SCRIPT =
+            "var dump = function(s) { var o = {}; try { for (var i = 0; i < s.length; i++) {" +
+            " var k = s.key(i); o[k] = s.getItem(k); } } catch (e) {} return o; };" +
+            "return { local: dump(window.localStorage), session: dump(window.sessionStorage) };";
+
+    private static final String STORAGE_RESTORE_SCRIPT =
+            "var fill = function(s, d) { try { for (var k in d) { s.setItem(k, d[k]); } } catch (e) {} };" +
+            "fill(window.localStorage, arguments[0]); fill(window.sessionStorage, arguments[1]);";
+
+    private final long capturedAt;
+    private final String url;
+    private final List<Map<String, Object>> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+
+    private SessionSnapshot(long capturedAt, String url, List<Map<String, Object>> cookies,
+                            Map<String, String> localStorage, Map<String, String> sessionStorage) {
+        this.capturedAt = capturedAt;
+        this.url = url;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+    }
+
+    /**
+     * Capture current authenticated state from the driver
+     * @param driver WebDriver instance (on an authenticated page)
+     * @return Captured snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot capture(WebDriver driver) {
+        List<Map<String, Object>> cookieList = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", cookie.getName());
+            entry.put("value", cookie.getValue());
+            entry.put("domain", cookie.getDomain());
+            entry.put("path", cookie.getPath());
+            entry.put("expiry", cookie.getExpiry() != null ? cookie.getExpiry().getTime() : null);
+            entry.put("secure", cookie.isSecure());
+            entry.put("httpOnly", cookie.isHttpOnly());
+            entry.put("sameSite", cookie.getSameSite());
+            cookieList.add(entry);
+        }
+
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(STORAGE_DUMP_SCRIPT);
+        Map<String, String> local = toStringMap(storage != null ? storage.get("local") : null);
+        Map<String, String> session = toStringMap(storage != null ? storage.get("session") : null);
+
+        logger.info("Session snapshot captured: {} cookies, {} localStorage, {} sessionStorage entries",
+                cookieList.size(), local.size(), session.size());
+        return new SessionSnapshot(System.currentTimeMillis(), driver.getCurrentUrl(), cookieList, local, session);
+    }
+
+    /**
+     * Inject snapshot into the driver. The driver must already be on the application origin
+     * (cookies and storage are origin-scoped); navigates to the captured URL afterwards.
+     * @param driver WebDriver instance
+     */
+    public void restore(WebDriver driver) {
+        int restored = 0;
+        for (Map<String, Object> entry : cookies) {
+            try {
+                Cookie.Builder builder = new Cookie.Builder((String) entry.get("name"), (String) entry.get("value"))
+                        .path((String) entry.get("path"))
+                        .isSecure(Boolean.TRUE.equals(entry.get("secure")))
+                        .isHttpOnly(Boolean.TRUE.equals(entry.get("httpOnly")));
+                if (entry.get("domain") != null) {
+                    builder.domain((String) entry.get("domain"));
+                }
+                if (entry.get("expiry") instanceof Number) {
+                    builder.expiresOn(new Date(((Number) entry.get("expiry")).longValue()));
+                }
+                if (entry.get("sameSite") != null) {
+                    builder.sameSite((String) entry.get("sameSite"));
+                }
+                driver.manage().addCookie(builder.build());
+                restored++;
+            } catch (Exception e) {
+                logger.debug("Could not restore cookie {}: {}", entry.get("name"), e.getMessage());
+            }
+        }
+
+        ((JavascriptExecutor) driver).executeScript(STORAGE_RESTORE_SCRIPT, localStorage, sessionStorage);
+        driver.get(url);
+        logger.info("Session snapshot restored: {}/{} cookies, {} localStorage, {} sessionStorage entries",
+                restored, cookies.size(), localStorage.size(), sessionStorage.size());
+    }
+
+    /**
+     * Check if snapshot is older than the given age
+     * @param maxAgeMinutes Maximum age in minutes
+     * @return true if expired
+     */
+    public boolean isOlderThan(int maxAgeMinutes) {
+        return System.currentTimeMillis() - capturedAt > maxAgeMinutes * 60_000L;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    // ==================== Persistence ====================
+
+    /**
+     * Save snapshot as JSON
+     * @param file Target file
+     */
+    public void save(File file) {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("capturedAt", capturedAt);
+        root.put("url", url);
+        root.put("cookies", cookies);
+        root.put("localStorage", localStorage);
+        root.put("sessionStorage", sessionStorage);
+        try {
+            createOwnerOnly(file);
+            objectMapper.writeValue(file, root);
+            logger.debug("Session snapshot saved: {}", file);
+        } catch (IOException e) {
+            logger.warn("Could not save session snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete snapshot files older than the given age (any environment or user)
+     * @param directory Snapshot directory
+     * @param maxAgeMinutes Maximum age in minutes
+     */
+    public static void deleteExpired(File directory, int maxAgeMinutes) {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".json"));
+        if (files == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - maxAgeMinutes * 60_000L;
+        for (File file : files) {
+            if (file.lastModified() < cutoff && file.delete()) {
+                logger.debug("Expired session snapshot deleted: {}", file);
+            }
+        }
+    }
+
+    /**
+     * Create an empty file (and its directory) readable and writable by the current user only
+     * @param file Target file
+     * @throws IOException if the file cannot be created
+     */
+    private static void createOwnerOnly(File file) throws IOException {
+        Path path = file.toPath();
+        Path parent = path.toAbsolutePath().getParent();
+        Files.deleteIfExists(path);
+
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            if (!Files.exists(parent)) {
+                Files.createDirectories(parent,
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            }
+            Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createDirectories(parent);
+            Files.createFile(path);
+            file.setReadable(false, false);
+            file.setReadable(true, true);
+            file.setWritable(false, false);
+            file.setWritable(true, true);
+        }
+    }
+
+    /**
+     * Load snapshot from JSON
+     * @param file Snapshot file
+     * @return Snapshot or null if file is missing or unreadable
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot load(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            Map<String, Object> root = objectMapper.readValue(file, new TypeReference<Map<String, Object>>() {});
+            return new SessionSnapshot(
+                    ((Number) root.get("capturedAt")).longValue(),
+                    (String) root.get("url"),
+                    (List<Map<String, Object>>) root.get("cookies"),
+                    toStringMap(root.get("localStorage")),
+                    toStringMap(root.get("sessionStorage")));
+        } catch (Exception e) {
+            logger.warn("Could not load session snapshot {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<String, String> toStringMap(Object value) {
+        Map<String, String> result = new HashMap<>();
+        if (value instanceof Map) {
+            ((Map<?, ?>) value).forEach((k, v) -> result.put(String.valueOf(k), v != null ? String.valueOf(v) : null));
+        }
+        return result;
+    }
+}
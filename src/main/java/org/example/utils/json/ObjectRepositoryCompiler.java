@@ -0,0 +1,493 @@
+package org.example.utils.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.config.ConfigLoader;
+import org.example.config.FrameworkConstants;
+
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * ObjectRepositoryCompiler - Build-time linter and compiler for the Object Repository JSON files.
+ *
+ * Checks every locator before a test run rather than after a full wait timeout:
+ *   ERROR   - empty locatorValue, unknown locatorType, XPath that does not compile as XPath 1.0
+ *             (the version browsers evaluate), malformed CSS, class/tag names that cannot match
+ *   WARNING - the same key defined with different locators in several modules (the global
+ *             lookup silently keeps only one), leading //* and deep ancestor:: chains
+ *
+ * Writes a compact tab-separated index of the parsed modules. ObjectRepositoryManager loads a
+ * module from the index instead of parsing its JSON while the source file is unchanged
+ * (same size and modification time).
+ *
+ * HOW TO RUN:
+ *   mvn -P or-compile process-classes
+ *   or run main() with arguments: [orFolder] [indexFile] [--strict]
+ *   --strict fails on warnings as well as errors.
+ */
+public final class ObjectRepositoryCompiler {
+
+    private static final Logger logger = LogManager.getLogger(ObjectRepositoryCompiler.class);
+
+    static final String INDEX_HEADER = "#OR-INDEX\t1";
+    private static final String MODULE_RECORD = "M";
+    private static final String ELEMENT_RECORD = "E";
+
+    // More ancestor:: steps than this in one path are reported as expensive
+    private static final int MAX_ANCESTOR_STEPS = 1;
+
+    private static final Set<String> LOCATOR_TYPES = Set.of(
+            FrameworkConstants.LOCATOR_ID, FrameworkConstants.LOCATOR_NAME, FrameworkConstants.LOCATOR_XPATH,
+            FrameworkConstants.LOCATOR_CSS, "cssselector",
+            FrameworkConstants.LOCATOR_LINK_TEXT, "linktext",
+            FrameworkConstants.LOCATOR_PARTIAL_LINK_TEXT, "partiallinktext",
+            FrameworkConstants.LOCATOR_TAG_NAME, "tagname", "tag",
+            FrameworkConstants.LOCATOR_CLASS_NAME, "classname", "class");
+
+    public enum Severity {
+        ERROR, WARNING
+    }
+
+    /**
+     * Finding - Inner class holding one lint result
+     */
+    public static class Finding {
+        private final Severity severity;
+        private final String module;
+        private final String elementKey;
+        private final String message;
+
+        public Finding(Severity severity, String module, String elementKey, String message) {
+            this.severity = severity;
+            this.module = module;
+            this.elementKey = elementKey;
+            this.message = message;
+        }
+
+        public Severity getSeverity() {
+            return severity;
+        }
+
+        public String getModule() {
+            return module;
+        }
+
+        public String getElementKey() {
+            return elementKey;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-7s %s.%s: %s", severity, module, elementKey, message);
+        }
+    }
+
+    /**
+     * CompiledModule - Inner class holding one module's elements and the fingerprint of its source file
+     */
+    static class CompiledModule {
+        final String fileName;
+        final long length;
+        final long lastModified;
+        final String moduleName;
+        // elementKey -> {locatorType, locatorValue}, in file order
+        final Map<String, String[]> elements = new LinkedHashMap<>();
+
+        CompiledModule(String fileName, long length, long lastModified, String moduleName) {
+            this.fileName = fileName;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.moduleName = moduleName;
+        }
+
+        boolean matches(File jsonFile) {
+            return jsonFile.getName().equals(fileName)
+                    && jsonFile.length() == length
+                    && jsonFile.lastModified() == lastModified;
+        }
+    }
+
+    /**
+     * Result - Inner class holding the compiled modules and all findings
+     */
+    public static class Result {
+        private final List<CompiledModule> modules = new ArrayList<>();
+        private final List<Finding> findings = new ArrayList<>();
+
+        public List<Finding> getFindings() {
+            return findings;
+        }
+
+        public long count(Severity severity) {
+            return findings.stream().filter(f -> f.severity == severity).count();
+        }
+
+        public int getModuleCount() {
+            return modules.size();
+        }
+
+        public int getElementCount() {
+            return modules.stream().mapToInt(m -> m.elements.size()).sum();
+        }
+    }
+
+    private ObjectRepositoryCompiler() {
+        // Private constructor - utility class
+    }
+
+    /**
+     * Lint the OR folder and write the index
+     * @param args [orFolder] [indexFile] [--strict]; defaults come from config.properties
+     */
+    public static void main(String[] args) {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        boolean strict = arguments.remove("--strict");
+        String orFolder = arguments.size() > 0 ? arguments.get(0) : ConfigLoader.getInstance().getObjectRepositoryFolder();
+        String indexFile = arguments.size() > 1 ? arguments.get(1) : ConfigLoader.getInstance().getObjectRepositoryIndexFile();
+
+        Result result = compile(new File(orFolder));
+        for (Finding finding : result.getFindings()) {
+            if (finding.severity == Severity.ERROR) {
+                logger.error("{}", finding);
+            } else {
+                logger.warn("{}", finding);
+            }
+        }
+        logger.info("Object Repository compiled: {} modules, {} elements, {} error(s), {} warning(s)",
+                result.getModuleCount(), result.getElementCount(), result.count(Severity.ERROR), result.count(Severity.WARNING));
+
+        // Thrown rather than System.exit so exec:java fails the build without killing Maven
+        if (result.count(Severity.ERROR) > 0 || (strict && result.count(Severity.WARNING) > 0)) {
+            throw new IllegalStateException("Object Repository has " + result.count(Severity.ERROR) + " error(s)"
+                    + (strict ? " and " + result.count(Severity.WARNING) + " warning(s)" : "") + " - index not written");
+        }
+        writeIndex(result, new File(indexFile));
+        logger.info("Object Repository index written: {}", indexFile);
+    }
+
+    // ==================== Compile ====================
+
+    /**
+     * Parse and lint every JSON file in the OR folder
+     * @param orFolder OR folder
+     * @return Compiled modules and findings
+     */
+    public static Result compile(File orFolder) {
+        Result result = new Result();
+        File[] jsonFiles = orFolder.listFiles((dir, name) -> name.toLowerCase().endsWith(".json"));
+        if (jsonFiles == null || jsonFiles.length == 0) {
+            result.findings.add(new Finding(Severity.ERROR, orFolder.getPath(), "*", "no OR JSON files found"));
+            return result;
+        }
+        // Same order as ObjectRepositoryManager, so "last one wins" names the same module
+        Arrays.sort(jsonFiles, Comparator.comparing(File::getName));
+
+        for (File jsonFile : jsonFiles) {
+            CompiledModule module = parseModule(jsonFile, result.findings);
+            if (module != null) {
+                result.modules.add(module);
+                module.elements.forEach((key, locator) -> lintLocator(module.moduleName, key, locator[0], locator[1], result.findings));
+            }
+        }
+        findCollisions(result);
+        return result;
+    }
+
+    /**
+     * Parse one OR JSON file (the same defaults as ObjectRepositoryManager)
+     * @param jsonFile JSON file
+     * @param findings Findings to add parse errors to
+     * @return Parsed module, or null if it could not be read
+     */
+    static CompiledModule parseModule(File jsonFile, List<Finding> findings) {
+        String fileModule = jsonFile.getName().replace(".json", "");
+        JsonNode rootNode;
+        try {
+            rootNode = JsonReader.readJsonFile(jsonFile.getAbsolutePath());
+        } catch (RuntimeException e) {
+            findings.add(new Finding(Severity.ERROR, fileModule, "*", "cannot parse JSON: " + e.getMessage()));
+            return null;
+        }
+
+        String moduleName = rootNode.has("module") ? rootNode.get("module").asText() : fileModule;
+        CompiledModule module = new CompiledModule(jsonFile.getName(), jsonFile.length(), jsonFile.lastModified(), moduleName);
+        JsonNode objectsNode = rootNode.get("objects");
+        if (objectsNode == null) {
+            findings.add(new Finding(Severity.ERROR, moduleName, "*", "no 'objects' node"));
+            return module;
+        }
+
+        objectsNode.fields().forEachRemaining(entry -> {
+            JsonNode elementNode = entry.getValue();
+            String locatorType = elementNode.has("locatorType") ? elementNode.get("locatorType").asText() : "xpath";
+            String locatorValue = elementNode.has("locatorValue") ? elementNode.get("locatorValue").asText() : "";
+            module.elements.put(entry.getKey(), new String[]{locatorType, locatorValue});
+        });
+        return module;
+    }
+
+    // ==================== Lint ====================
+
+    private static void lintLocator(String module, String key, String locatorType, String locatorValue, List<Finding> findings) {
+        String type = locatorType.toLowerCase().trim();
+        if (!LOCATOR_TYPES.contains(type)) {
+            findings.add(new Finding(Severity.ERROR, module, key, "unknown locatorType '" + locatorType + "'"));
+            return;
+        }
+        if (locatorValue.trim().isEmpty()) {
+            findings.add(new Finding(Severity.ERROR, module, key, "empty locatorValue"));
+            return;
+        }
+
+        String problem = null;
+        switch (type) {
+            case FrameworkConstants.LOCATOR_XPATH:
+                problem = checkXPath(locatorValue);
+                if (problem == null) {
+                    lintXPathCost(module, key, locatorValue, findings);
+                }
+                break;
+            case FrameworkConstants.LOCATOR_CSS:
+            case "cssselector":
+                problem = checkCss(locatorValue);
+                break;
+            case FrameworkConstants.LOCATOR_CLASS_NAME:
+            case "classname":
+            case "class":
+                problem = locatorValue.trim().contains(" ") ? "class name must be a single class (use css for compound classes)" : null;
+                break;
+            case FrameworkConstants.LOCATOR_TAG_NAME:
+            case "tagname":
+            case "tag":
+                problem = locatorValue.matches("[A-Za-z][A-Za-z0-9-]*") ? null : "not a valid tag name";
+                break;
+            default:
+                break;
+        }
+        if (problem != null) {
+            findings.add(new Finding(Severity.ERROR, module, key, problem + ": " + locatorValue));
+        }
+    }
+
+    private static String checkXPath(String xpath) {
+        try {
+            XPathFactory.newInstance().newXPath().compile(xpath);
+            return null;
+        } catch (XPathExpressionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return "invalid XPath 1.0 (" + cause.getMessage() + ")";
+        }
+    }
+
+    /**
+     * Structural CSS check: balanced brackets and quotes, no empty list entry or dangling combinator
+     */
+    private static String checkCss(String css) {
+        int parens = 0;
+        int brackets = 0;
+        char quote = 0;
+        for (int i = 0; i < css.length(); i++) {
+            char c = css.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '(' || c == ')') {
+                parens += c == '(' ? 1 : -1;
+            } else if (c == '[' || c == ']') {
+                brackets += c == '[' ? 1 : -1;
+            }
+            if (parens < 0 || brackets < 0) {
+                return "invalid CSS (unexpected '" + c + "')";
+            }
+        }
+        if (quote != 0) {
+            return "invalid CSS (unterminated string)";
+        }
+        if (parens != 0 || brackets != 0) {
+            return "invalid CSS (unbalanced " + (parens != 0 ? "parentheses" : "brackets") + ")";
+        }
+        String trimmed = css.trim();
+        if (trimmed.startsWith(",") || trimmed.matches(".*,\\s*,.*")) {
+            return "invalid CSS (empty selector in list)";
+        }
+        if (trimmed.matches(".*[>+~,]$")) {
+            return "invalid CSS (dangling combinator)";
+        }
+        return null;
+    }
+
+    private static void lintXPathCost(String module, String key, String xpath, List<Finding> findings) {
+        for (String path : splitUnion(xpath)) {
+            String trimmed = path.trim().replaceFirst("^\\(+", "");
+            if (trimmed.startsWith("//*")) {
+                findings.add(new Finding(Severity.WARNING, module, key,
+                        "leading //* tests every element in the document - name the element: " + path.trim()));
+            }
+            int ancestorSteps = path.split("ancestor(-or-self)?::", -1).length - 1;
+            if (ancestorSteps > MAX_ANCESTOR_STEPS) {
+                findings.add(new Finding(Severity.WARNING, module, key,
+                        ancestorSteps + " ancestor:: steps in one path - anchor on a closer element: " + path.trim()));
+            }
+        }
+    }
+
+    /**
+     * Split an XPath on top-level '|' (outside predicates, parentheses and string literals)
+     */
+    private static List<String> splitUnion(String xpath) {
+        List<String> paths = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < xpath.length(); i++) {
+            char c = xpath.charAt(i);
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                paths.add(xpath.substring(start, i));
+                start = i + 1;
+            }
+        }
+        paths.add(xpath.substring(start));
+        return paths;
+    }
+
+    private static void findCollisions(Result result) {
+        // elementKey -> (module -> locator), in load order
+        Map<String, Map<String, String>> definitions = new TreeMap<>();
+        for (CompiledModule module : result.modules) {
+            module.elements.forEach((key, locator) -> definitions
+                    .computeIfAbsent(key, k -> new LinkedHashMap<>())
+                    .put(module.moduleName, locator[0].toLowerCase().trim() + ": " + locator[1]));
+        }
+        definitions.forEach((key, byModule) -> {
+            if (byModule.values().stream().distinct().count() > 1) {
+                List<String> modules = new ArrayList<>(byModule.keySet());
+                result.findings.add(new Finding(Severity.WARNING, modules.get(modules.size() - 1), key,
+                        "defined with different locators in modules " + modules + "; getLocator(key) resolves to "
+                                + modules.get(modules.size() - 1) + " - use getLocator(module, key) or rename"));
+            }
+        });
+    }
+
+    // ==================== Index ====================
+
+    /**
+     * Write the compact index: a header line, then per module an M record followed by its E records
+     *   M  fileName  length  lastModified  moduleName
+     *   E  elementKey  locatorType  locatorValue
+     * Fields are tab-separated; tabs, newlines and backslashes inside fields are escaped.
+     * @param result Compile result
+     * @param indexFile Output file
+     */
+    public static void writeIndex(Result result, File indexFile) {
+        try {
+            File parent = indexFile.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                Files.createDirectories(parent.toPath());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(indexFile.toPath(), StandardCharsets.UTF_8)) {
+                writer.write(INDEX_HEADER);
+                writer.newLine();
+                for (CompiledModule module : result.modules) {
+                    writeRecord(writer, MODULE_RECORD, module.fileName, String.valueOf(module.length),
+                            String.valueOf(module.lastModified), module.moduleName);
+                    for (Map.Entry<String, String[]> element : module.elements.entrySet()) {
+                        writeRecord(writer, ELEMENT_RECORD, element.getKey(), element.getValue()[0], element.getValue()[1]);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write OR index: " + indexFile, e);
+        }
+    }
+
+    /**
+     * Read an index written by writeIndex
+     * @param indexFile Index file
+     * @return Modules keyed by source file name
+     * @throws IOException if the file cannot be read or is not an OR index
+     */
+    static Map<String, CompiledModule> readIndex(File indexFile) throws IOException {
+        Map<String, CompiledModule> modules = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+            if (!INDEX_HEADER.equals(reader.readLine())) {
+                throw new IOException("Not an OR index (or unsupported version): " + indexFile);
+            }
+            CompiledModule module = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                if (MODULE_RECORD.equals(fields[0]) && fields.length == 5) {
+                    module = new CompiledModule(unescape(fields[1]), Long.parseLong(fields[2]),
+                            Long.parseLong(fields[3]), unescape(fields[4]));
+                    modules.put(module.fileName, module);
+                } else if (ELEMENT_RECORD.equals(fields[0]) && fields.length == 4 && module != null) {
+                    module.elements.put(unescape(fields[1]), new String[]{unescape(fields[2]), unescape(fields[3])});
+                } else {
+                    throw new IOException("Malformed OR index line: " + line);
+                }
+            }
+        }
+        return modules;
+    }
+
+    private static void writeRecord(BufferedWriter writer, String type, String... fields) throws IOException {
+        writer.write(type);
+        for (String field : fields) {
+            writer.write('\t');
+            writer.write(escape(field));
+        }
+        writer.newLine();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                sb.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
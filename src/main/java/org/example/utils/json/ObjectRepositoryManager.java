@@ -1,5 +1,8 @@
 package org.example.utils.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -8,14 +11,42 @@ import org.example.config.FrameworkConstants;
 import org.openqa.selenium.By;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * ObjectRepositoryManager - Manages Object Repository from JSON files.
  * Loads element locators by module and provides By locators for elements.
  *
+ * Each locator is compiled into an immutable By once at load time. The global index maps an
+ * element key to an int handle into a flat By array, so getLocator(key) is one map lookup plus
+ * an array read; callers resolving the same key repeatedly can keep the handle (getHandle) and
+ * skip the map as well.
+ *
+ * Modules are loaded lazily: startup only reads which keys each file defines (a streaming scan,
+ * or the ObjectRepositoryCompiler index while the file is unchanged), and a module is parsed on
+ * first access to one of its keys. All state lives in an immutable snapshot that is replaced
+ * as a whole (copy-on-write), so readers never lock and never see a half-loaded module.
+ *
+ * With or.watch.enabled the OR folder is watched; an edited module is re-parsed and swapped in
+ * while the run continues. An edit that does not parse keeps the previous version.
+ *
  * JSON Structure:
  * {
  *   "module": "Login",
@@ -30,11 +61,13 @@ public class ObjectRepositoryManager {
     private static final Logger logger = LogManager.getLogger(ObjectRepositoryManager.class);
     private static ObjectRepositoryManager instance;
 
-    // Cache for loaded modules: moduleName -> (elementKey -> LocatorInfo)
-    private final Map<String, Map<String, LocatorInfo>> moduleCache;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // Editors save in several writes (truncate + write, or temp file + rename)
+    private static final long WATCH_DEBOUNCE_MILLIS = 200;
 
-    // Global cache for all elements: elementKey -> LocatorInfo
-    private final Map<String, LocatorInfo> globalCache;
+    // Current snapshot, replaced as a whole under the instance lock
+    private volatile Snapshot snapshot;
 
     private final String orFolderPath;
 
@@ -45,11 +78,13 @@ public class ObjectRepositoryManager {
         private final String locatorType;
         private final String locatorValue;
         private final String module;
+        private final By locator;
 
         public LocatorInfo(String locatorType, String locatorValue, String module) {
             this.locatorType = locatorType;
             this.locatorValue = locatorValue;
             this.module = module;
+            this.locator = createByLocator(locatorType, locatorValue);
         }
 
         public String getLocatorType() {
@@ -64,6 +99,14 @@ public class ObjectRepositoryManager {
             return module;
         }
 
+        /**
+         * Get the By compiled from this locator at load time
+         * @return By locator (shared, immutable)
+         */
+        public By getBy() {
+            return locator;
+        }
+
         @Override
         public String toString() {
             return String.format("%s: %s [%s]", locatorType, locatorValue, module);
@@ -71,19 +114,91 @@ public class ObjectRepositoryManager {
     }
 
     /**
-     * Private constructor - loads all OR files from configured folder
+     * ModuleFile - Inner class holding one OR file's module name, keys and (once loaded) elements
+     */
+    private static class ModuleFile {
+        private final String fileName;
+        private final String moduleName;
+        private final Set<String> keys;
+        // null until the module is first used
+        private final Map<String, LocatorInfo> elements;
+        // Index record while the file is unchanged, else null
+        private final ObjectRepositoryCompiler.CompiledModule compiled;
+
+        ModuleFile(String fileName, String moduleName, Set<String> keys,
+                   Map<String, LocatorInfo> elements, ObjectRepositoryCompiler.CompiledModule compiled) {
+            this.fileName = fileName;
+            this.moduleName = moduleName;
+            this.keys = keys;
+            this.elements = elements;
+            this.compiled = compiled;
+        }
+
+        ModuleFile withElements(Map<String, LocatorInfo> loadedElements) {
+            return new ModuleFile(fileName, moduleName, keys, loadedElements, compiled);
+        }
+    }
+
+    /**
+     * Snapshot - Inner class holding one immutable view of the repository
+     */
+    private static class Snapshot {
+        // Sorted by file name; a key defined in several files resolves to the last one
+        private final List<ModuleFile> files;
+        private final Map<String, ModuleFile> filesByModule = new HashMap<>();
+        private final Map<String, ModuleFile> owners = new HashMap<>();
+        // Handles are append-only, so a handle stays valid across reloads
+        private final Map<String, Integer> handles;
+        private final String[] keys;
+        // Per handle; null until the owning module is loaded
+        private final LocatorInfo[] resolved;
+
+        Snapshot(List<ModuleFile> files, Snapshot previous) {
+            this.files = files;
+            this.handles = previous == null ? new HashMap<>() : new HashMap<>(previous.handles);
+            List<String> keyList = previous == null ? new ArrayList<>() : new ArrayList<>(Arrays.asList(previous.keys));
+            for (ModuleFile file : files) {
+                filesByModule.put(file.moduleName, file);
+                for (String elementKey : file.keys) {
+                    owners.put(elementKey, file);
+                    if (!handles.containsKey(elementKey)) {
+                        handles.put(elementKey, keyList.size());
+                        keyList.add(elementKey);
+                    }
+                }
+            }
+            this.keys = keyList.toArray(new String[0]);
+            this.resolved = new LocatorInfo[keys.length];
+            for (Map.Entry<String, ModuleFile> owner : owners.entrySet()) {
+                Map<String, LocatorInfo> elements = owner.getValue().elements;
+                if (elements != null) {
+                    resolved[handles.get(owner.getKey())] = elements.get(owner.getKey());
+                }
+            }
+        }
+
+        int loadedCount() {
+            return (int) files.stream().filter(file -> file.elements != null).count();
+        }
+    }
+
+    /**
+     * Private constructor - indexes all OR files from configured folder
      */
     private ObjectRepositoryManager() {
-        this.moduleCache = new ConcurrentHashMap<>();
-        this.globalCache = new ConcurrentHashMap<>();
         this.orFolderPath = ConfigLoader.getInstance().getObjectRepositoryFolder();
-        loadAllModules();
+        this.snapshot = new Snapshot(scanAllModules(null), null);
+        logger.info("Object Repository indexed: {} modules, {} element keys (modules load on first use)",
+                    snapshot.files.size(), snapshot.owners.size());
+        if (ConfigLoader.getInstance().isObjectRepositoryWatchEnabled()) {
+            startWatcher();
+        }
     }
 
     /**
      * Get singleton instance
      * @return ObjectRepositoryManager instance
-          */
+     */
     public static synchronized ObjectRepositoryManager getInstance() {
         if (instance == null) {
             instance = new ObjectRepositoryManager();
@@ -92,59 +207,138 @@ public class ObjectRepositoryManager {
     }
 
     /**
-     * Reload all OR files (useful for dynamic updates)
+     * Reload all OR files (useful for dynamic updates). Readers keep using the previous
+     * snapshot until the new one is published; handles stay valid.
      */
     public static void reload() {
-        instance = null;
-        getInstance();
+        getInstance().reloadAll();
+    }
+
+    // ==================== Loading ====================
+
+    private synchronized void reloadAll() {
+        snapshot = new Snapshot(scanAllModules(snapshot), snapshot);
+        logger.info("Object Repository reloaded: {} modules, {} element keys", snapshot.files.size(), snapshot.owners.size());
     }
 
     /**
-     * Load all JSON files from OR folder
+     * Read module name and keys of every JSON file in the OR folder (no locators are built)
+     * @param previous Snapshot whose version of a file is kept if the file no longer parses, or null
+     * @return Module files sorted by file name
      */
-    private void loadAllModules() {
+    private List<ModuleFile> scanAllModules(Snapshot previous) {
+        List<ModuleFile> files = new ArrayList<>();
         File orFolder = new File(orFolderPath);
 
         if (!orFolder.exists() || !orFolder.isDirectory()) {
             logger.warn("Object Repository folder not found: {}", orFolderPath);
-            return;
+            return files;
         }
 
         File[] jsonFiles = orFolder.listFiles((dir, name) -> name.toLowerCase().endsWith(".json"));
 
         if (jsonFiles == null || jsonFiles.length == 0) {
             logger.warn("No JSON files found in OR folder: {}", orFolderPath);
-            return;
+            return files;
         }
 
+        // Sorted so a key defined in several modules always resolves to the same one
+        Arrays.sort(jsonFiles, Comparator.comparing(File::getName));
+        Map<String, ObjectRepositoryCompiler.CompiledModule> index = readIndex();
+
         for (File jsonFile : jsonFiles) {
-            loadModule(jsonFile);
+            ObjectRepositoryCompiler.CompiledModule compiled = index.get(jsonFile.getName());
+            ModuleFile file = compiled != null && compiled.matches(jsonFile)
+                    ? new ModuleFile(compiled.fileName, compiled.moduleName, compiled.elements.keySet(), null, compiled)
+                    : scanModule(jsonFile);
+            if (file == null && previous != null) {
+                file = previous.files.stream().filter(f -> f.fileName.equals(jsonFile.getName())).findFirst().orElse(null);
+                if (file != null) {
+                    logger.warn("Keeping previous version of OR file {} until it parses", jsonFile.getName());
+                }
+            }
+            if (file != null) {
+                files.add(file);
+            }
         }
+        return files;
+    }
 
-        logger.info("Object Repository loaded: {} modules, {} total elements",
-                    moduleCache.size(), globalCache.size());
+    /**
+     * Read the pre-parsed index written by ObjectRepositoryCompiler, if there is one
+     * @return Compiled modules by source file name (empty if there is no usable index)
+     */
+    private Map<String, ObjectRepositoryCompiler.CompiledModule> readIndex() {
+        File indexFile = new File(ConfigLoader.getInstance().getObjectRepositoryIndexFile());
+        if (!indexFile.isFile()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return ObjectRepositoryCompiler.readIndex(indexFile);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring OR index {}: {}", indexFile, e.getMessage());
+            return Collections.emptyMap();
+        }
     }
 
     /**
-     * Load a single module from JSON file
+     * Read the module name and element keys of a JSON file with the streaming parser
      * @param jsonFile JSON file
+     * @return Unloaded module file, or null if the file cannot be read
      */
-    private void loadModule(File jsonFile) {
-        try {
-            JsonNode rootNode = JsonReader.readJsonFile(jsonFile.getAbsolutePath());
+    private ModuleFile scanModule(File jsonFile) {
+        String moduleName = jsonFile.getName().replace(".json", "");
+        Set<String> keys = new LinkedHashSet<>();
+        boolean hasObjects = false;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(jsonFile)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("root is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("module".equals(field) && value.isScalarValue()) {
+                    moduleName = parser.getText();
+                } else if ("objects".equals(field) && value == JsonToken.START_OBJECT) {
+                    hasObjects = true;
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        keys.add(parser.getCurrentName());
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Error reading OR file {}: {}", jsonFile.getName(), e.getMessage());
+            return null;
+        }
 
-            String moduleName = rootNode.has("module") ?
-                                rootNode.get("module").asText() :
-                                jsonFile.getName().replace(".json", "");
+        if (!hasObjects) {
+            logger.warn("No 'objects' node found in: {}", jsonFile.getName());
+            return null;
+        }
+        return new ModuleFile(jsonFile.getName(), moduleName, keys, null, null);
+    }
 
-            JsonNode objectsNode = rootNode.get("objects");
+    /**
+     * Parse a module's locators, from the index record if the file is unchanged, else from JSON
+     * @param file Module file
+     * @return Element key -> LocatorInfo, or null if the JSON cannot be parsed
+     */
+    private Map<String, LocatorInfo> parseModule(ModuleFile file) {
+        Map<String, LocatorInfo> moduleElements = new HashMap<>();
 
-            if (objectsNode == null) {
-                logger.warn("No 'objects' node found in: {}", jsonFile.getName());
-                return;
-            }
+        if (file.compiled != null) {
+            file.compiled.elements.forEach((elementKey, locator) ->
+                    moduleElements.put(elementKey, new LocatorInfo(locator[0], locator[1], file.moduleName)));
+            return moduleElements;
+        }
 
-            Map<String, LocatorInfo> moduleElements = new HashMap<>();
+        try {
+            JsonNode objectsNode = JsonReader.readJsonFile(new File(orFolderPath, file.fileName).getAbsolutePath()).get("objects");
 
             objectsNode.fields().forEachRemaining(entry -> {
                 String elementKey = entry.getKey();
@@ -155,33 +349,206 @@ public class ObjectRepositoryManager {
                 String locatorValue = elementNode.has("locatorValue") ?
                                       elementNode.get("locatorValue").asText() : "";
 
-                LocatorInfo locatorInfo = new LocatorInfo(locatorType, locatorValue, moduleName);
-                moduleElements.put(elementKey, locatorInfo);
-                globalCache.put(elementKey, locatorInfo);
+                moduleElements.put(elementKey, new LocatorInfo(locatorType, locatorValue, file.moduleName));
             });
-
-            moduleCache.put(moduleName, moduleElements);
-            logger.debug("Loaded module '{}' with {} elements", moduleName, moduleElements.size());
+            return moduleElements;
 
         } catch (Exception e) {
-            logger.error("Error loading OR file {}: {}", jsonFile.getName(), e.getMessage());
+            logger.error("Error loading OR file {}: {}", file.fileName, e.getMessage());
+            return null;
         }
     }
 
+    /**
+     * Get a module's elements, loading the module into a new snapshot on first use
+     * @param file Module file from the current snapshot
+     * @return Element key -> LocatorInfo
+     */
+    private Map<String, LocatorInfo> loadedElements(ModuleFile file) {
+        if (file.elements != null) {
+            return file.elements;
+        }
+        synchronized (this) {
+            Snapshot current = snapshot;
+            ModuleFile latest = current.files.stream()
+                    .filter(f -> f.fileName.equals(file.fileName)).findFirst().orElse(file);
+            if (latest.elements != null) {
+                return latest.elements;
+            }
+
+            Map<String, LocatorInfo> moduleElements = parseModule(latest);
+            if (moduleElements == null) {
+                // Keep the keys but do not retry on every access
+                moduleElements = new HashMap<>();
+            }
+            ModuleFile loaded = latest.withElements(Collections.unmodifiableMap(moduleElements));
+            List<ModuleFile> files = new ArrayList<>(current.files);
+            files.replaceAll(f -> f.fileName.equals(loaded.fileName) ? loaded : f);
+            snapshot = new Snapshot(files, current);
+            logger.debug("Loaded module '{}' with {} elements", loaded.moduleName, moduleElements.size());
+            return loaded.elements;
+        }
+    }
+
+    /**
+     * Resolve a key whose module is not loaded yet
+     * @param elementKey Element key
+     * @return LocatorInfo, or null if no module defines the key
+     */
+    private LocatorInfo resolve(String elementKey) {
+        ModuleFile owner = snapshot.owners.get(elementKey);
+        return owner == null ? null : loadedElements(owner).get(elementKey);
+    }
+
+    // ==================== Hot Reload ====================
+
+    private void startWatcher() {
+        File orFolder = new File(orFolderPath);
+        if (!orFolder.isDirectory()) {
+            return;
+        }
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            orFolder.toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            Thread watcher = new Thread(() -> watch(watchService), "or-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+            logger.info("Watching Object Repository folder for changes: {}", orFolderPath);
+        } catch (IOException e) {
+            logger.warn("Cannot watch Object Repository folder {}: {}", orFolderPath, e.getMessage());
+        }
+    }
+
+    private void watch(WatchService watchService) {
+        try {
+            while (true) {
+                WatchKey watchKey = watchService.take();
+                Thread.sleep(WATCH_DEBOUNCE_MILLIS);
+
+                Set<String> changed = new TreeSet<>();
+                boolean overflow = false;
+                for (WatchKey key = watchKey; key != null; key = watchService.poll()) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            overflow = true;
+                        } else if (event.context().toString().toLowerCase().endsWith(".json")) {
+                            changed.add(event.context().toString());
+                        }
+                    }
+                    key.reset();
+                }
+
+                try {
+                    if (overflow) {
+                        reloadAll();
+                    } else if (!changed.isEmpty()) {
+                        reloadFiles(changed);
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Object Repository hot reload failed: {}", e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Watch service closed - stop watching
+        }
+    }
+
+    /**
+     * Re-read changed OR files and publish one new snapshot. Modules that were loaded are
+     * re-parsed now; the others stay lazy.
+     * @param fileNames Changed file names in the OR folder
+     */
+    private synchronized void reloadFiles(Set<String> fileNames) {
+        Snapshot current = snapshot;
+        List<ModuleFile> files = new ArrayList<>(current.files);
+
+        for (String fileName : fileNames) {
+            File jsonFile = new File(orFolderPath, fileName);
+            ModuleFile previous = files.stream().filter(f -> f.fileName.equals(fileName)).findFirst().orElse(null);
+
+            if (!jsonFile.isFile()) {
+                if (previous != null) {
+                    files.remove(previous);
+                    logger.info("Object Repository module removed: {}", fileName);
+                }
+                continue;
+            }
+
+            ModuleFile scanned = scanModule(jsonFile);
+            if (scanned != null && previous != null && previous.elements != null) {
+                Map<String, LocatorInfo> moduleElements = parseModule(scanned);
+                scanned = moduleElements == null ? null : scanned.withElements(Collections.unmodifiableMap(moduleElements));
+            }
+            if (scanned == null) {
+                logger.warn("Keeping previous version of OR file {} until it parses", fileName);
+                continue;
+            }
+
+            if (previous != null) {
+                files.set(files.indexOf(previous), scanned);
+            } else {
+                files.add(scanned);
+                files.sort(Comparator.comparing(f -> f.fileName));
+            }
+            logger.info("Object Repository module '{}' reloaded from {} ({} elements)",
+                        scanned.moduleName, fileName, scanned.keys.size());
+        }
+
+        snapshot = new Snapshot(files, current);
+    }
+
+    // ==================== Lookup ====================
+
     /**
      * Get By locator for element by key
      * @param elementKey Element key from OR
      * @return By locator
      */
     public By getLocator(String elementKey) {
-        LocatorInfo locatorInfo = globalCache.get(elementKey);
+        LocatorInfo locatorInfo = getLocatorInfo(elementKey);
 
         if (locatorInfo == null) {
             logger.error("Element not found in Object Repository: {}", elementKey);
             throw new RuntimeException("Element not found in OR: " + elementKey);
         }
 
-        return createByLocator(locatorInfo.getLocatorType(), locatorInfo.getLocatorValue());
+        return locatorInfo.getBy();
+    }
+
+    /**
+     * Get the handle of an element key in the locator index. Handles stay valid across reloads.
+     * @param elementKey Element key from OR
+     * @return Handle for getLocator(int)
+     */
+    public int getHandle(String elementKey) {
+        Integer handle = snapshot.handles.get(elementKey);
+
+        if (handle == null) {
+            logger.error("Element not found in Object Repository: {}", elementKey);
+            throw new RuntimeException("Element not found in OR: " + elementKey);
+        }
+
+        return handle;
+    }
+
+    /**
+     * Get By locator by handle (no key hashing)
+     * @param handle Handle from getHandle(String)
+     * @return By locator
+     */
+    public By getLocator(int handle) {
+        Snapshot current = snapshot;
+        LocatorInfo locatorInfo = current.resolved[handle];
+        if (locatorInfo == null) {
+            locatorInfo = resolve(current.keys[handle]);
+            if (locatorInfo == null) {
+                throw new RuntimeException("Element not found in OR: " + current.keys[handle]);
+            }
+        }
+        return locatorInfo.getBy();
     }
 
     /**
@@ -191,21 +558,21 @@ public class ObjectRepositoryManager {
      * @return By locator
      */
     public By getLocator(String moduleName, String elementKey) {
-        Map<String, LocatorInfo> moduleElements = moduleCache.get(moduleName);
+        ModuleFile file = snapshot.filesByModule.get(moduleName);
 
-        if (moduleElements == null) {
+        if (file == null) {
             logger.error("Module not found in Object Repository: {}", moduleName);
             throw new RuntimeException("Module not found in OR: " + moduleName);
         }
 
-        LocatorInfo locatorInfo = moduleElements.get(elementKey);
+        LocatorInfo locatorInfo = loadedElements(file).get(elementKey);
 
         if (locatorInfo == null) {
             logger.error("Element '{}' not found in module '{}'", elementKey, moduleName);
             throw new RuntimeException("Element not found: " + elementKey + " in module: " + moduleName);
         }
 
-        return createByLocator(locatorInfo.getLocatorType(), locatorInfo.getLocatorValue());
+        return locatorInfo.getBy();
     }
 
     /**
@@ -214,7 +581,13 @@ public class ObjectRepositoryManager {
      * @return LocatorInfo object
      */
     public LocatorInfo getLocatorInfo(String elementKey) {
-        return globalCache.get(elementKey);
+        Snapshot current = snapshot;
+        Integer handle = current.handles.get(elementKey);
+        if (handle == null) {
+            return null;
+        }
+        LocatorInfo locatorInfo = current.resolved[handle];
+        return locatorInfo != null ? locatorInfo : resolve(elementKey);
     }
 
     /**
@@ -223,7 +596,7 @@ public class ObjectRepositoryManager {
      * @return Locator value string
      */
     public String getLocatorValue(String elementKey) {
-        LocatorInfo info = globalCache.get(elementKey);
+        LocatorInfo info = getLocatorInfo(elementKey);
         return info != null ? info.getLocatorValue() : null;
     }
 
@@ -233,7 +606,7 @@ public class ObjectRepositoryManager {
      * @return Locator type string
      */
     public String getLocatorType(String elementKey) {
-        LocatorInfo info = globalCache.get(elementKey);
+        LocatorInfo info = getLocatorInfo(elementKey);
         return info != null ? info.getLocatorType() : null;
     }
 
@@ -243,7 +616,7 @@ public class ObjectRepositoryManager {
      * @return true if element exists
      */
     public boolean hasElement(String elementKey) {
-        return globalCache.containsKey(elementKey);
+        return snapshot.owners.containsKey(elementKey);
     }
 
     /**
@@ -252,24 +625,33 @@ public class ObjectRepositoryManager {
      * @return true if module exists
      */
     public boolean hasModule(String moduleName) {
-        return moduleCache.containsKey(moduleName);
+        return snapshot.filesByModule.containsKey(moduleName);
     }
 
     /**
-     * Get all element keys for a module
+     * Get all element keys for a module (loads the module)
      * @param moduleName Module name
      * @return Map of element keys to LocatorInfo
      */
     public Map<String, LocatorInfo> getModuleElements(String moduleName) {
-        return moduleCache.getOrDefault(moduleName, new HashMap<>());
+        ModuleFile file = snapshot.filesByModule.get(moduleName);
+        return file != null ? loadedElements(file) : new HashMap<>();
     }
 
     /**
-     * Get all loaded module names
+     * Get all module names
      * @return Array of module names
      */
     public String[] getModuleNames() {
-        return moduleCache.keySet().toArray(new String[0]);
+        return snapshot.filesByModule.keySet().toArray(new String[0]);
+    }
+
+    /**
+     * Get how many modules have been loaded so far
+     * @return Loaded module count
+     */
+    public int getLoadedModuleCount() {
+        return snapshot.loadedCount();
     }
 
     /**
@@ -278,7 +660,7 @@ public class ObjectRepositoryManager {
      * @param locatorValue Locator value
      * @return By locator
      */
-    private By createByLocator(String locatorType, String locatorValue) {
+    private static By createByLocator(String locatorType, String locatorValue) {
         String type = locatorType.toLowerCase().trim();
 
         switch (type) {
@@ -318,7 +700,7 @@ public class ObjectRepositoryManager {
      * @return By locator with replaced values
      */
     public By getLocatorWithDynamicValue(String elementKey, Map<String, String> replacements) {
-        LocatorInfo locatorInfo = globalCache.get(elementKey);
+        LocatorInfo locatorInfo = getLocatorInfo(elementKey);
 
         if (locatorInfo == null) {
             throw new RuntimeException("Element not found in OR: " + elementKey);
@@ -351,9 +733,9 @@ public class ObjectRepositoryManager {
      */
     public void printAllElements() {
         logger.info("========== Object Repository Contents ==========");
-        for (Map.Entry<String, Map<String, LocatorInfo>> module : moduleCache.entrySet()) {
-            logger.info("Module: {}", module.getKey());
-            for (Map.Entry<String, LocatorInfo> element : module.getValue().entrySet()) {
+        for (ModuleFile file : snapshot.files) {
+            logger.info("Module: {}", file.moduleName);
+            for (Map.Entry<String, LocatorInfo> element : loadedElements(file).entrySet()) {
                 logger.info("  {} -> {}", element.getKey(), element.getValue());
             }
         }
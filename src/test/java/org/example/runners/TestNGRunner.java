@@ -4,6 +4,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.ConfigLoader;
 import org.example.config.FrameworkConstants;
+import org.example.core.bootstrap.SuiteBootstrap;
 import org.example.core.driver.DriverManager;
 import org.example.core.keywords.KeywordEngine;
 import org.example.reporting.ReportManager;
@@ -41,10 +42,13 @@ public class TestNGRunner {
         ConfigLoader config = ConfigLoader.getInstance();
         config.printAllProperties();
 
-        // Load test data from Excel
+        // Start browser and load OR/validation/environment/test data in parallel
+        SuiteBootstrap.start();
+
+        // Load test cases from Excel
         String suiteExcelPath = config.getSuiteExcelPath();
         excelReader = new ExcelReader(suiteExcelPath);
-        testData = excelReader.getTestData();
+        testData = SuiteBootstrap.getTestData();
 
         // Initialize Excel writer for results
         excelWriter = new ExcelWriter(suiteExcelPath);
@@ -106,6 +110,10 @@ public class TestNGRunner {
             excelWriter.saveAndClose();
         }
 
+        // Log startup timings and stop bootstrap executor
+        SuiteBootstrap.printTimings();
+        SuiteBootstrap.shutdown();
+
         // Flush reports
         ReportManager.flushReports();
 
@@ -5,6 +5,7 @@ import io.cucumber.java.en.Then;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.core.driver.DriverManager;
+import org.example.core.wait.Pause;
 import org.example.pages.BasePage;
 import org.example.pages.DashboardPage;
 import org.example.pages.FundTransferPage;
@@ -12,6 +13,8 @@ import org.example.pages.ManageBeneficiariesPage;
 import org.example.pages.PreLoginPage;
 import org.testng.Assert;
 
+import java.util.List;
+
 /**
  * CommonSteps - Universal reusable step definitions for ALL modules.
  * Uses page resolver pattern: ONE method per action, page name as {word} parameter.
@@ -83,12 +86,6 @@ public class CommonSteps {
         }
     }
 
-    // ==================== Helper Methods ====================
-
-    private void sleep(int ms) {
-        try { Thread.sleep(ms); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-    }
-
     // ==================== CLICK ACTIONS ====================
 
     @When("user clicks on {string} on {word} page")
@@ -121,6 +118,12 @@ public class CommonSteps {
         pageObj.selectFirstDropdownOption(objectKey);
     }
 
+    @When("user selects {string} from {string} on {word} page")
+    public void userSelectsOption(String optionText, String objectKey, String page) {
+        BasePage pageObj = getPageObject(page);
+        pageObj.selectDropdownOption(objectKey, optionText);
+    }
+
     // ==================== BENEFICIARY SELECTION ====================
 
     @When("user selects first beneficiary from dropdown on {word} page")
@@ -140,16 +143,20 @@ public class CommonSteps {
     @Then("{string} should not be displayed on {word} page")
     public void elementShouldNotBeDisplayed(String objectKey, String page) {
         BasePage pageObj = getPageObject(page);
-        boolean displayed = false;
-        try {
-            displayed = pageObj.isElementDisplayedOnPage(objectKey);
-        } catch (Exception e) {
-            displayed = false;
-        }
-        Assert.assertFalse(displayed,
+        // Settle once and check once instead of waiting out the display timeout
+        Assert.assertTrue(pageObj.isElementAbsentOnPage(objectKey),
                 objectKey + " is displayed on " + page + " page when it should not be");
     }
 
+    @Then("these elements should be displayed on {word} page:")
+    public void elementsShouldBeDisplayed(String page, List<String> objectKeys) {
+        BasePage pageObj = getPageObject(page);
+        // One script round-trip per poll for the whole section instead of one wait per element
+        List<String> missing = pageObj.snapshot(objectKeys, 7).getNotDisplayed();
+        Assert.assertTrue(missing.isEmpty(),
+                missing + " not displayed on " + page + " page");
+    }
+
     // ==================== SELECTED BY DEFAULT ====================
 
     @Then("{string} should be selected by default on {word} page")
@@ -164,7 +171,7 @@ public class CommonSteps {
     @Then("error message {string} should be displayed on {word} page")
     public void errorMessageShouldBeDisplayed(String expectedMessage, String page) {
         BasePage pageObj = getPageObject(page);
-        sleep(300);
+        Pause.sleep(300);
         Assert.assertTrue(pageObj.isTextDisplayedOnPage(expectedMessage),
                 "Error message '" + expectedMessage + "' is not displayed on " + page + " page");
     }
@@ -174,22 +181,15 @@ public class CommonSteps {
     @Then("field error should be displayed for {string} on {word} page")
     public void fieldErrorShouldBeDisplayed(String objectKey, String page) {
         BasePage pageObj = getPageObject(page);
-        sleep(1500);
-        boolean hasError = pageObj.isFieldErrorDisplayed(objectKey);
-        if (!hasError) {
-            // Retry after longer wait for slow network validation
-            sleep(3000);
-            hasError = pageObj.isFieldErrorDisplayed(objectKey);
-        }
-        Assert.assertTrue(hasError,
+        // Polls cheaply - allows for slow network validation
+        Assert.assertTrue(pageObj.waitForFieldError(objectKey, 5),
                 "Field error is not displayed for " + objectKey + " on " + page + " page");
     }
 
     @Then("field error should not be displayed for {string} on {word} page")
     public void fieldErrorShouldNotBeDisplayed(String objectKey, String page) {
         BasePage pageObj = getPageObject(page);
-        sleep(300);
-        Assert.assertFalse(pageObj.isFieldErrorDisplayed(objectKey),
+        Assert.assertTrue(pageObj.isFieldErrorAbsent(objectKey),
                 "Field error is displayed for " + objectKey + " when it should not be on " + page + " page");
     }
 
@@ -282,7 +282,7 @@ public class CommonSteps {
 
     @Then("cancel popup should be displayed on {word} page")
     public void cancelPopupDisplayed(String page) {
-        sleep(3000);
+        Pause.sleep(3000);
         Assert.assertTrue(ftPage.isCancelPopupDisplayed(),
                 "Cancel popup is not displayed on " + page + " page");
     }
@@ -297,13 +297,13 @@ public class CommonSteps {
     @When("user clicks on Cancel button on cancel popup on {word} page")
     public void userClicksCancelOnPopup(String page) {
         ftPage.clickCancelOnPopup();
-        sleep(300);
+        Pause.sleep(300);
     }
 
     @When("user clicks on Confirm button on cancel popup on {word} page")
     public void userClicksConfirmOnPopup(String page) {
         ftPage.clickConfirmOnPopup();
-        sleep(500);
+        Pause.sleep(500);
     }
 
     // ==================== TEXT ON PAGE VERIFICATION ====================
@@ -311,7 +311,7 @@ public class CommonSteps {
     @Then("text {string} should be displayed on {word} page")
     public void textShouldBeDisplayed(String expectedText, String page) {
         BasePage pageObj = getPageObject(page);
-        sleep(300);
+        Pause.sleep(300);
         Assert.assertTrue(pageObj.isTextDisplayedOnPage(expectedText),
                 "Text '" + expectedText + "' is not displayed on " + page + " page");
     }
@@ -319,7 +319,7 @@ public class CommonSteps {
     @Then("text {string} should not be displayed on {word} page")
     public void textShouldNotBeDisplayed(String expectedText, String page) {
         BasePage pageObj = getPageObject(page);
-        Assert.assertFalse(pageObj.isTextDisplayedOnPage(expectedText),
+        Assert.assertTrue(pageObj.isTextAbsentOnPage(expectedText),
                 "Text '" + expectedText + "' is displayed on " + page + " page when it should not be");
     }
 
@@ -337,7 +337,7 @@ public class CommonSteps {
 
     @Then("next page should be displayed after form submission on {word} page")
     public void nextPageAfterSubmission(String page) {
-        sleep(1000);
+        Pause.sleep(1000);
         boolean confirmPage = ftPage.isConfirmPageDisplayed();
         boolean otpPage = ftPage.isOTPInputDisplayed();
         boolean errorShown = ftPage.isErrorMessageDisplayed() || ftPage.isToastMessageDisplayed();
@@ -367,14 +367,14 @@ public class CommonSteps {
 
     @When("user waits {int} milliseconds")
     public void userWaitsMilliseconds(int ms) {
-        sleep(ms);
+        Pause.sleep(ms);
     }
 
     // ==================== URL VERIFICATION ====================
 
     @Then("URL should contain {string}")
     public void urlShouldContain(String text) {
-        sleep(1500);
+        Pause.sleep(1500);
         String url = DriverManager.getDriver().getCurrentUrl().toLowerCase();
         Assert.assertTrue(url.contains(text.toLowerCase()),
                 "URL does not contain '" + text + "'. Actual URL: " + url);
@@ -384,7 +384,7 @@ public class CommonSteps {
 
     @Then("user should be on a new or redirected page")
     public void userShouldBeOnNewOrRedirectedPage() {
-        sleep(1000);
+        Pause.sleep(1000);
         int windowCount = DriverManager.getDriver().getWindowHandles().size();
         Assert.assertTrue(windowCount >= 1, "No page is open");
         // Close extra windows and switch back to first
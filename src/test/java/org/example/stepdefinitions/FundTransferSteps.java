@@ -6,6 +6,7 @@ import io.cucumber.java.en.And;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.ConfigLoader;
+import org.example.core.wait.Pause;
 import org.example.pages.DashboardPage;
 import org.example.pages.FundTransferPage;
 import org.example.utils.SessionManager;
@@ -77,10 +78,6 @@ public class FundTransferSteps {
         return "";
     }
 
-    private void sleep(int ms) {
-        try { Thread.sleep(ms); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-    }
-
     private void navigateBackToFundTransfer() {
         logger.info("Attempting to navigate back to Fund Transfer page...");
 
@@ -92,7 +89,7 @@ public class FundTransferSteps {
         }
         try {
             ftPage.clickConfirmOnPopup();
-            sleep(2000);
+            Pause.sleep(2000);
             if (ftPage.isPageTitleDisplayed()) {
                 logger.info("Dismissed popup and landed on FT page");
                 return;
@@ -105,13 +102,13 @@ public class FundTransferSteps {
         for (int i = 0; i < 3; i++) {
             try {
                 ftPage.clickBackArrow();
-                sleep(1500);
+                Pause.sleep(1500);
                 // Check if CAUTION popup appeared and confirm it
                 try {
                     if (ftPage.isCancelPopupDisplayed()) {
                         logger.info("CAUTION popup appeared after back arrow click, confirming...");
                         ftPage.clickConfirmOnPopup();
-                        sleep(2000);
+                        Pause.sleep(2000);
                     }
                 } catch (Exception popupEx) {
                     // No popup, continue
@@ -129,7 +126,7 @@ public class FundTransferSteps {
         // Strategy 2: Browser back
         try {
             ftPage.navigateBack();
-            sleep(1500);
+            Pause.sleep(1500);
             if (ftPage.isPageTitleDisplayed()) {
                 logger.info("Browser back successful - FT page title displayed");
                 return;
@@ -142,7 +139,7 @@ public class FundTransferSteps {
         try {
             logger.info("Fallback: navigating via Home -> Fund Transfer");
             ftPage.clickHomeNav();
-            sleep(1500);
+            Pause.sleep(1500);
             dashboardPage.waitForDashboardLoad();
             dashboardPage.scrollToServices();
             dashboardPage.clickFundTransfer();
@@ -188,7 +185,7 @@ public class FundTransferSteps {
                 try {
                     logger.info("Recovery: clicking Home nav and retrying...");
                     ftPage.clickHomeNav();
-                    sleep(1000);
+                    Pause.sleep(1000);
                     dashboardPage.waitForDashboardLoad();
                     dashboardPage.scrollToServices();
                     dashboardPage.clickFundTransfer();
@@ -228,21 +225,15 @@ public class FundTransferSteps {
         String amount = getTestDataValue(testCaseId, "Amount_Value");
         String remarks = getTestDataValue(testCaseId, "Remarks_Value");
 
+        // Text fields are filled in one script call; empty values are skipped
         if ("Other Bank".equalsIgnoreCase(bankType)) {
             ftPage.selectOtherBank();
             String ifsc = getTestDataValue(testCaseId, "IFSCCode_Value");
-            if (accountNo != null && !accountNo.isEmpty()) ftPage.enterAccountNumber(accountNo);
-            if (reAccountNo != null && !reAccountNo.isEmpty()) ftPage.enterReEnterAccountNumber(reAccountNo);
-            if (ifsc != null && !ifsc.isEmpty()) ftPage.enterIFSCCode(ifsc);
-            if (recipientName != null && !recipientName.isEmpty()) ftPage.enterRecipientName(recipientName);
+            ftPage.fillQuickTransferFields(accountNo, reAccountNo, ifsc, recipientName, amount);
         } else {
             ftPage.selectShivalikBank();
-            if (accountNo != null && !accountNo.isEmpty()) ftPage.enterAccountNumber(accountNo);
-            if (reAccountNo != null && !reAccountNo.isEmpty()) ftPage.enterReEnterAccountNumber(reAccountNo);
-            if (recipientName != null && !recipientName.isEmpty()) ftPage.enterRecipientName(recipientName);
+            ftPage.fillQuickTransferFields(accountNo, reAccountNo, null, recipientName, amount);
         }
-
-        if (amount != null && !amount.isEmpty()) ftPage.enterAmount(amount);
         ftPage.selectFirstTransferFromAccount();
         if (remarks != null && !remarks.isEmpty()) ftPage.enterRemarks(remarks);
     }
@@ -259,22 +250,22 @@ public class FundTransferSteps {
 
         if ("Other Bank".equalsIgnoreCase(bankType)) {
             ftPage.selectOtherBank();
-            sleep(1000); // Wait for Other Bank mode to render
+            Pause.sleep(1000); // Wait for Other Bank mode to render
             if ("IMPS".equalsIgnoreCase(transactionType)) {
                 ftPage.selectIMPS();
             } else if ("RTGS".equalsIgnoreCase(transactionType)) {
                 ftPage.selectRTGS();
             }
-            sleep(1000); // Wait for transaction type to settle
+            Pause.sleep(1000); // Wait for transaction type to settle
         } else {
             ftPage.selectShivalikBank();
         }
 
         if (beneficiary != null && !beneficiary.isEmpty()) {
             ftPage.enterBeneficiarySearch(beneficiary);
-            sleep(3000); // Wait for API to return beneficiary search results
+            Pause.sleep(3000); // Wait for API to return beneficiary search results
             ftPage.selectBeneficiaryFromDropdown();
-            sleep(1000); // Wait for selection to register in React form
+            Pause.sleep(1000); // Wait for selection to register in React form
         }
 
         if (amount != null && !amount.isEmpty()) ftPage.enterAmount(amount);
@@ -302,7 +293,7 @@ public class FundTransferSteps {
 
     @Then("expected result from test case {string} should be validated on {word} page")
     public void expectedResultShouldBeValidated(String testCaseId, String page) {
-        sleep(2000);
+        Pause.sleep(2000);
         String expectedResult = getTestDataValue(testCaseId, "ExpectedResult");
         if (expectedResult == null || expectedResult.isEmpty()) {
             logger.warn("No ExpectedResult found for test case: {}", testCaseId);
@@ -317,11 +308,11 @@ public class FundTransferSteps {
                 // Retry up to 3 times with increasing wait for slow network
                 boolean found = ftPage.isTextDisplayedOnPage(trimmedMsg);
                 if (!found) {
-                    sleep(2000);
+                    Pause.sleep(2000);
                     found = ftPage.isTextDisplayedOnPage(trimmedMsg);
                 }
                 if (!found) {
-                    sleep(3000);
+                    Pause.sleep(3000);
                     found = ftPage.isTextDisplayedOnPage(trimmedMsg);
                 }
                 Assert.assertTrue(found,
@@ -441,7 +432,7 @@ public class FundTransferSteps {
         }
         ftPage.waitForOTPInput();
         ftPage.enterOTP(otp);
-        sleep(500);
+        Pause.sleep(500);
         logger.info("Entered OTP '{}' for test case: {}", otp, testCaseId);
     }
 
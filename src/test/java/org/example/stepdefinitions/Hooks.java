@@ -9,7 +9,11 @@ import io.cucumber.java.Scenario;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.ConfigLoader;
+import org.example.core.bootstrap.SuiteBootstrap;
 import org.example.core.driver.DriverManager;
+import org.example.core.driver.NetworkBlocker;
+import org.example.core.keywords.ElementCache;
+import org.example.core.wait.Pause;
 import org.example.reporting.ReportManager;
 import org.example.utils.screenshot.ScreenshotManager;
 
@@ -41,7 +45,8 @@ public class Hooks {
 
     /**
      * Before all scenarios - Suite level setup
-     * Browser opens once here and stays open for all scenarios
+     * Browser starts opening in the background here and stays open for all scenarios.
+     * The first step that needs the browser joins on it via DriverManager.getDriver().
      */
     @BeforeAll
     public static void beforeAll() {
@@ -56,9 +61,9 @@ public class Hooks {
         ConfigLoader config = ConfigLoader.getInstance();
         config.printAllProperties();
 
-        // Initialize WebDriver once for all scenarios
-        DriverManager.initDriver(config.getBrowser(), config.isHeadless());
-        logger.info("Browser opened - will remain open for all scenarios");
+        // Start WebDriver once for all scenarios, overlapped with OR/test data loading
+        SuiteBootstrap.start();
+        logger.info("Browser launching in background - will remain open for all scenarios");
     }
 
     /**
@@ -80,6 +85,9 @@ public class Hooks {
         // Reset step counter for new scenario
         stepCounter = 0;
 
+        // Sleeps before this point (suite setup, previous hooks) don't belong to the scenario
+        Pause.drainScenarioMillis();
+
         // Extract module name from feature file path
         currentModule = extractModuleName(scenario);
 
@@ -100,6 +108,16 @@ public class Hooks {
         // API tests don't need browser
     }
 
+    /**
+     * Before scenario tagged @multitab - run as a tab of the shared browser instead of
+     * the thread's own browser (for independent, read-only scenarios)
+     * @param scenario Current scenario
+     */
+    @Before(value = "@multitab", order = 1)
+    public void beforeMultiTabScenario(Scenario scenario) {
+        DriverManager.openTabWorker();
+    }
+
     /**
      * After each step - capture screenshot for every step.
      * Screenshot naming: Module_TestCaseId_Step01_datetime.png, Step02, etc.
@@ -133,6 +151,21 @@ public class Hooks {
         // Save final screenshot to file with proper naming
         captureStepScreenshot(scenario, currentModule, currentTestCaseId, finalStepName);
 
+        // Fixed-sleep time (Pause.sleep) spent in this scenario
+        long sleptMillis = Pause.drainScenarioMillis();
+        if (sleptMillis > 0) {
+            logger.info("Fixed sleeps ({}): {} ms", currentTestCaseId, sleptMillis);
+            scenario.log("Fixed sleeps: " + sleptMillis + " ms");
+        }
+
+        // Requests blocked by the network blocking profile during this scenario
+        if (DriverManager.isDriverInitialized()) {
+            NetworkBlocker.NetworkStats networkStats = NetworkBlocker.drainStats(DriverManager.getDriver());
+            if (networkStats != null) {
+                logger.info("Network ({}): {}", currentTestCaseId, networkStats);
+            }
+        }
+
         if (scenario.isFailed()) {
             logger.error("SCENARIO FAILED: {} - {}", currentTestCaseId, scenario.getName());
         } else {
@@ -143,6 +176,15 @@ public class Hooks {
         // Will be closed in @AfterAll after all scenarios complete
     }
 
+    /**
+     * After scenario tagged @multitab - close the worker tab (runs after the final screenshot)
+     * @param scenario Current scenario
+     */
+    @After(value = "@multitab", order = 0)
+    public void afterMultiTabScenario(Scenario scenario) {
+        DriverManager.closeTabWorker();
+    }
+
     /**
      * After all scenarios - Suite level teardown
      * Browser closes here after all scenarios are complete
@@ -155,6 +197,20 @@ public class Hooks {
 
         // Reset session state before quitting driver
         org.example.utils.SessionManager.resetLoginState();
+        org.example.utils.SessionHealthProbe.printStatistics();
+        org.example.core.driver.DriverWatchdog.getInstance().printStatistics();
+        org.example.core.wait.WaitEngine.getInstance().printStatistics();
+        Pause.printStatistics();
+        ReportManager.addSystemInfo("Fixed Sleep Time", Pause.getTotalMillis() + " ms");
+        Pause.getSiteStats().stream().limit(10).forEach(site ->
+                ReportManager.addSystemInfo("Sleep @ " + site.getSite(), site.getTotalMillis() + " ms / " + site.getCount()));
+        ElementCache.printStatistics();
+        ReportManager.addSystemInfo("Element Cache", ElementCache.getTotalHits() + " hit(s) / "
+                + (ElementCache.getTotalHits() + ElementCache.getTotalMisses()) + " lookup(s), "
+                + ElementCache.getTotalStale() + " stale");
+        if (org.example.core.driver.ProfileTemplate.isEnabled()) {
+            org.example.core.driver.ProfileTemplate.getInstance().printStatistics();
+        }
 
         // Quit WebDriver after all scenarios are done
         if (DriverManager.isDriverInitialized()) {
@@ -165,6 +221,11 @@ public class Hooks {
                 logger.warn("Browser was already closed: {}", e.getMessage());
             }
         }
+        DriverManager.shutdownPool();
+
+        // Log startup timings and stop bootstrap executor
+        SuiteBootstrap.printTimings();
+        SuiteBootstrap.shutdown();
 
         // Flush reports
         ReportManager.flushReports();
@@ -6,6 +6,7 @@ import io.cucumber.java.en.Then;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.config.ConfigLoader;
+import org.example.core.wait.Pause;
 import org.example.pages.DashboardPage;
 import org.example.pages.ManageBeneficiariesPage;
 import org.example.utils.SessionManager;
@@ -87,10 +88,6 @@ public class ManageBeneficiarySteps {
         return "";
     }
 
-    private void sleep(int ms) {
-        try { Thread.sleep(ms); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-    }
-
     // ==================== BACKGROUND: Login + Navigate to Manage Beneficiary ====================
 
     @Given("user is logged in and navigates to Manage Beneficiary page")
@@ -129,7 +126,7 @@ public class ManageBeneficiarySteps {
                 try {
                     logger.info("Recovery: clicking Home nav and retrying...");
                     mbPage.clickHomeNav();
-                    sleep(1000);
+                    Pause.sleep(1000);
                     dashboardPage.waitForDashboardLoad();
                     dashboardPage.scrollToServices();
                     dashboardPage.clickManageBeneficiary();
@@ -173,7 +170,7 @@ public class ManageBeneficiarySteps {
         }
         try {
             mbPage.clickCautionConfirmButton();
-            sleep(2000);
+            Pause.sleep(2000);
             if (mbPage.isPageTitleDisplayed()) {
                 logger.info("Dismissed popup and landed on MB page");
                 return;
@@ -187,7 +184,7 @@ public class ManageBeneficiarySteps {
             if (mbPage.isDoneButtonDisplayedFast()) {
                 logger.info("Done button found - clicking to return to main page");
                 mbPage.clickDoneButton();
-                sleep(2000);
+                Pause.sleep(2000);
                 if (mbPage.isPageTitleDisplayed()) {
                     logger.info("Done button click successful - MB page title displayed");
                     return;
@@ -201,13 +198,13 @@ public class ManageBeneficiarySteps {
         for (int i = 0; i < 3; i++) {
             try {
                 mbPage.clickBackArrow();
-                sleep(1500);
+                Pause.sleep(1500);
                 // Check if CAUTION popup appeared and confirm it
                 try {
                     if (mbPage.isCautionPopupDisplayed()) {
                         logger.info("CAUTION popup appeared after back arrow click, confirming...");
                         mbPage.clickCautionConfirmButton();
-                        sleep(2000);
+                        Pause.sleep(2000);
                     }
                 } catch (Exception popupEx) {
                     // No popup, continue
@@ -225,7 +222,7 @@ public class ManageBeneficiarySteps {
         // Strategy 2: Browser back
         try {
             mbPage.navigateBack();
-            sleep(1500);
+            Pause.sleep(1500);
             if (mbPage.isPageTitleDisplayed()) {
                 logger.info("Browser back successful - MB page title displayed");
                 return;
@@ -238,7 +235,7 @@ public class ManageBeneficiarySteps {
         try {
             logger.info("Fallback: navigating via Home -> Manage Beneficiary");
             mbPage.clickHomeNav();
-            sleep(1500);
+            Pause.sleep(1500);
             dashboardPage.waitForDashboardLoad();
             dashboardPage.scrollToServices();
             dashboardPage.clickManageBeneficiary();
@@ -259,15 +256,9 @@ public class ManageBeneficiarySteps {
         String nickname = getTestDataValue(testCaseId, "Nickname_Value");
 
         // Shivalik Bank is selected by default - no radio click needed
-
-        if (accountNo != null && !accountNo.isEmpty()) mbPage.enterAccountNumber(accountNo);
-        if (reAccountNo != null && !reAccountNo.isEmpty()) {
-            mbPage.enterReEnterAccountNumber(reAccountNo);
-        } else if (accountNo != null && !accountNo.isEmpty()) {
-            mbPage.enterReEnterAccountNumber(accountNo);
-        }
-        if (beneficiaryName != null && !beneficiaryName.isEmpty()) mbPage.enterBeneficiaryName(beneficiaryName);
-        if (nickname != null && !nickname.isEmpty()) mbPage.enterNickname(nickname);
+        // Re-enter defaults to the account number; empty values are skipped
+        if (reAccountNo == null || reAccountNo.isEmpty()) reAccountNo = accountNo;
+        mbPage.fillBeneficiaryFields(accountNo, reAccountNo, null, beneficiaryName, nickname);
     }
 
     // ==================== COMPOSITE FORM FILL - Other Bank Beneficiary ====================
@@ -282,15 +273,9 @@ public class ManageBeneficiarySteps {
 
         mbPage.clickOtherBankRadio();
 
-        if (accountNo != null && !accountNo.isEmpty()) mbPage.enterAccountNumber(accountNo);
-        if (reAccountNo != null && !reAccountNo.isEmpty()) {
-            mbPage.enterReEnterAccountNumber(reAccountNo);
-        } else if (accountNo != null && !accountNo.isEmpty()) {
-            mbPage.enterReEnterAccountNumber(accountNo);
-        }
-        if (ifscCode != null && !ifscCode.isEmpty()) mbPage.enterIFSCCode(ifscCode);
-        if (beneficiaryName != null && !beneficiaryName.isEmpty()) mbPage.enterBeneficiaryName(beneficiaryName);
-        if (nickname != null && !nickname.isEmpty()) mbPage.enterNickname(nickname);
+        // Re-enter defaults to the account number; empty values are skipped
+        if (reAccountNo == null || reAccountNo.isEmpty()) reAccountNo = accountNo;
+        mbPage.fillBeneficiaryFields(accountNo, reAccountNo, ifscCode, beneficiaryName, nickname);
     }
 
     // ==================== EXPECTED RESULT VALIDATION FROM EXCEL ====================
@@ -303,7 +288,7 @@ public class ManageBeneficiarySteps {
             return;
         }
 
-        sleep(300);
+        Pause.sleep(300);
         String[] expectedMessages = expectedResult.split(";");
         boolean anyFound = false;
         for (String msg : expectedMessages) {
@@ -345,7 +330,7 @@ public class ManageBeneficiarySteps {
                 mbPage.clearOTP();
                 mbPage.enterOTP(otp);
                 mbPage.clickSubmitButton();
-                sleep(500);
+                Pause.sleep(500);
                 logger.info("Wrong OTP attempt {} of 3 for test case {}", (i + 1), testCaseId);
             } catch (Exception e) {
                 logger.warn("OTP attempt {} failed: {}", (i + 1), e.getMessage());
@@ -398,7 +383,7 @@ public class ManageBeneficiarySteps {
 
     @Then("MB nickname update should proceed or error should be shown")
     public void mbNicknameUpdateShouldProceedOrError() {
-        sleep(300);
+        Pause.sleep(300);
         boolean otpShown = mbPage.isOTPInputDisplayed();
         boolean errorShown = mbPage.isErrorMessageDisplayed() || mbPage.isToastMessageDisplayed();
         Assert.assertTrue(otpShown || errorShown,
@@ -414,7 +399,7 @@ public class ManageBeneficiarySteps {
         String expectedNickname = getTestDataValue(testCaseId, "Nickname_Value");
         String expectedIFSC = getTestDataValue(testCaseId, "IFSCCode_Value");
 
-        sleep(500);
+        Pause.sleep(500);
         mbPage.waitForConfirmPageLoad();
 
         boolean anyValidated = false;
@@ -464,7 +449,7 @@ public class ManageBeneficiarySteps {
         String expectedName = getTestDataValue(testCaseId, "BeneficiaryName_Value");
         String expectedNickname = getTestDataValue(testCaseId, "Nickname_Value");
 
-        sleep(500);
+        Pause.sleep(500);
         mbPage.waitForBeneficiaryDetailLoad();
 
         boolean anyValidated = false;
@@ -5,6 +5,7 @@ import io.cucumber.java.en.When;
 import io.cucumber.java.en.Then;
 import org.example.config.ConfigLoader;
 import org.example.core.driver.DriverManager;
+import org.example.core.wait.Pause;
 import org.example.pages.PreLoginPage;
 import org.example.pages.DashboardPage;
 import org.example.utils.excel.ExcelReader;
@@ -43,10 +44,6 @@ public class PreLoginSteps {
         return testData.getOrDefault(key, "");
     }
 
-    private void sleep(int ms) {
-        try { Thread.sleep(ms); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-    }
-
     // ==================== BACKGROUND ====================
 
     @Given("user navigates to PreLogin URL from Excel key {string}")
@@ -97,11 +94,8 @@ public class PreLoginSteps {
 
     @Then("user should login successfully")
     public void userShouldLoginSuccessfully() {
-        sleep(5000);
-        boolean isDashboardDisplayed = dashboardPage.isQuickServicesDisplayed()
-                || dashboardPage.isAccountsDisplayed()
-                || dashboardPage.isLogoDisplayed();
-        Assert.assertTrue(isDashboardDisplayed,
+        Pause.sleep(5000);
+        Assert.assertTrue(dashboardPage.isDashboardDisplayed(),
                 "User login was not successful - Dashboard page is not displayed");
     }
 }
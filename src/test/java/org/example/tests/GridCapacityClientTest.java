@@ -0,0 +1,165 @@
+package org.example.tests;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.config.ConfigLoader;
+import org.example.core.driver.GridCapacityClient;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GridCapacityClientTest - Checks capacity parsing, thread count and slot gating of GridCapacityClient
+ * against a stub Grid serving /status (no browser needed). Single-threaded: the tests share the stub
+ * response and the grid.queue.* system properties.
+ */
+@Test(singleThreaded = true)
+public class GridCapacityClientTest {
+
+    // Node 1: UP, 3 chrome slots (1 busy) + 1 firefox slot; node 2: DOWN, 2 chrome slots
+    private static final String TWO_NODES = "{\"value\":{\"ready\":true,\"nodes\":["
+            + "{\"availability\":\"UP\",\"slots\":["
+            + "{\"stereotype\":{\"browserName\":\"chrome\"},\"session\":{\"sessionId\":\"a\"}},"
+            + "{\"stereotype\":{\"browserName\":\"chrome\"},\"session\":null},"
+            + "{\"stereotype\":{\"browserName\":\"chrome\"}},"
+            + "{\"stereotype\":{\"browserName\":\"firefox\"},\"session\":null}]},"
+            + "{\"availability\":\"DOWN\",\"slots\":["
+            + "{\"stereotype\":{\"browserName\":\"chrome\"},\"session\":null},"
+            + "{\"stereotype\":{\"browserName\":\"chrome\"},\"session\":null}]}]}}";
+
+    private static final String FULL = "{\"value\":{\"ready\":false,\"nodes\":["
+            + "{\"availability\":\"UP\",\"slots\":["
+            + "{\"stereotype\":{\"browserName\":\"chrome\"},\"session\":{\"sessionId\":\"a\"}}]}]}}";
+
+    private HttpServer server;
+    private String gridUrl;
+    private volatile String statusBody;
+    private volatile int statusCode;
+
+    @BeforeClass
+    public void startStubGrid() throws IOException {
+        // Short queue settings; system properties take precedence over config.properties
+        System.setProperty("grid.queue.timeout", "1");
+        System.setProperty("grid.queue.backoff.initial.ms", "100");
+        System.setProperty("grid.queue.backoff.max.ms", "200");
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/status", exchange -> {
+            byte[] body = statusBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(statusCode, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        gridUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubGrid() {
+        if (server != null) {
+            server.stop(0);
+        }
+        System.clearProperty("grid.queue.timeout");
+        System.clearProperty("grid.queue.backoff.initial.ms");
+        System.clearProperty("grid.queue.backoff.max.ms");
+    }
+
+    @BeforeMethod
+    public void resetStub() {
+        statusBody = TWO_NODES;
+        statusCode = 200;
+    }
+
+    @Test
+    public void countsOnlyFreeSlotsOnNodesThatAreUp() {
+        GridCapacityClient client = new GridCapacityClient(gridUrl);
+
+        GridCapacityClient.Capacity chrome = client.getCapacity("chrome");
+        Assert.assertNotNull(chrome);
+        Assert.assertEquals(chrome.getTotalSlots(), 5);
+        Assert.assertEquals(chrome.getFreeSlots(), 2);
+        Assert.assertEquals(client.getRecommendedThreadCount("chrome", 7), 2);
+    }
+
+    @Test
+    public void dropsTrailingWdHubFromGridUrl() {
+        GridCapacityClient client = new GridCapacityClient(gridUrl + "/wd/hub/");
+
+        Assert.assertEquals(client.getCapacity("firefox").getFreeSlots(), 1);
+    }
+
+    @Test
+    public void unknownCapacityUsesConfiguredThreadCount() {
+        GridCapacityClient client = new GridCapacityClient(gridUrl);
+
+        // Browser without slots
+        Assert.assertNull(client.getCapacity("MicrosoftEdge"));
+        Assert.assertEquals(client.getRecommendedThreadCount("MicrosoftEdge", 3), 3);
+
+        // Status endpoint failing
+        statusCode = 500;
+        Assert.assertTrue(client.getCapacity().isEmpty());
+        Assert.assertEquals(client.getRecommendedThreadCount("chrome", 3), 3);
+    }
+
+    @Test
+    public void unknownCapacityAdmitsOnlyConfiguredSlots() throws InterruptedException {
+        statusCode = 500;
+        GridCapacityClient client = new GridCapacityClient(gridUrl);
+        int slots = Math.max(1, ConfigLoader.getInstance().getThreadCount());
+        AtomicInteger concurrent = new AtomicInteger(0);
+        AtomicInteger peak = new AtomicInteger(0);
+
+        Thread[] threads = new Thread[slots + 2];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    client.acquireSession("chrome", () -> {
+                        peak.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                        pause(300);
+                        concurrent.decrementAndGet();
+                        return null;
+                    });
+                } catch (RuntimeException ignored) {
+                    // Queue timeout for requests beyond the assumed slots is acceptable here
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertTrue(peak.get() <= slots, "Peak concurrent session requests " + peak.get() + " > " + slots);
+    }
+
+    @Test
+    public void fullGridTimesOutWithoutRequestingSession() {
+        statusBody = FULL;
+        GridCapacityClient client = new GridCapacityClient(gridUrl);
+        AtomicInteger requests = new AtomicInteger(0);
+
+        Assert.assertThrows(RuntimeException.class, () -> client.acquireSession("chrome", () -> {
+            requests.incrementAndGet();
+            return null;
+        }));
+        Assert.assertEquals(requests.get(), 0);
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.utils;
+
+import org.example.config.ConfigLoader;
+import org.example.core.driver.BrowserType;
+import org.example.core.driver.DriverFactory;
+import org.example.core.driver.LaunchPreset;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LaunchPresetBenchmark - Standalone utility comparing browser launch presets.
+ *
+ * For every preset it launches the browser N times and reports the average
+ * launch time (driver creation) and first-navigation time (driver.get(baseUrl)).
+ *
+ * HOW TO RUN:
+ * 1. Right-click this file in IntelliJ -> Run 'LaunchPresetBenchmark.main()'
+ * 2. Program Arguments (all optional): [browser] [iterations] [url]
+ *    e.g. chrome 5 https://example.com
+ * 3. From the command line:
+ *    mvn test-compile exec:java -Dexec.mainClass=org.example.utils.LaunchPresetBenchmark
+ *        -Dexec.classpathScope=test -Dexec.args="edge 3"
+ *
+ * Combined presets can be measured by passing them joined with '+' as a fourth argument
+ * (e.g. "lean-headless+ci"); otherwise every preset is measured on its own.
+ */
+public class LaunchPresetBenchmark {
+
+    public static void main(String[] args) {
+        ConfigLoader config = ConfigLoader.getInstance();
+        String browser = args.length > 0 ? args[0] : config.getBrowser();
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        String url = args.length > 2 ? args[2] : config.getBaseUrl();
+
+        List<List<LaunchPreset>> candidates = new ArrayList<>();
+        if (args.length > 3) {
+            List<LaunchPreset> combined = new ArrayList<>();
+            for (String name : args[3].split("\\+")) {
+                combined.add(LaunchPreset.fromString(name));
+            }
+            candidates.add(combined);
+        } else {
+            for (LaunchPreset preset : LaunchPreset.values()) {
+                candidates.add(Collections.singletonList(preset));
+            }
+        }
+
+        BrowserType browserType = BrowserType.fromString(browser, false);
+        DriverFactory factory = new DriverFactory();
+
+        System.out.println("Browser: " + browserType + ", iterations: " + iterations + ", url: " + url);
+        System.out.println(String.format("%-22s %12s %16s %12s", "Preset", "Launch (ms)", "First nav (ms)", "Total (ms)"));
+
+        for (List<LaunchPreset> presets : candidates) {
+            LaunchPreset.Settings settings = LaunchPreset.compose(presets, false);
+            long launchTotal = 0;
+            long navigationTotal = 0;
+            int completed = 0;
+
+            for (int i = 0; i < iterations; i++) {
+                WebDriver driver = null;
+                try {
+                    long start = System.nanoTime();
+                    driver = factory.createDriver(browserType, settings);
+                    long launched = System.nanoTime();
+                    driver.get(url);
+                    long navigated = System.nanoTime();
+
+                    launchTotal += (launched - start) / 1_000_000;
+                    navigationTotal += (navigated - launched) / 1_000_000;
+                    completed++;
+                } catch (Exception e) {
+                    System.err.println("Preset " + settings + " failed: " + e.getMessage());
+                } finally {
+                    if (driver != null) {
+                        driver.quit();
+                    }
+                }
+            }
+
+            if (completed == 0) {
+                System.out.println(String.format("%-22s %12s %16s %12s", settings, "-", "-", "-"));
+                continue;
+            }
+            long launch = launchTotal / completed;
+            long navigation = navigationTotal / completed;
+            System.out.println(String.format("%-22s %12d %16d %12d", settings, launch, navigation, launch + navigation));
+        }
+    }
+}
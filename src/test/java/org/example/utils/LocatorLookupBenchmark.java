@@ -0,0 +1,92 @@
+package org.example.utils;
+
+import org.example.utils.json.ObjectRepositoryManager;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * LocatorLookupBenchmark - Standalone utility measuring the per-lookup cost of OR locators.
+ *
+ * Compares, over every key in the Object Repository:
+ *   build per call - type normalised and a new By built on each lookup (the old getLocator path,
+ *                    still used by getLocatorWithDynamicValue)
+ *   key lookup     - getLocator(key): map lookup into the compiled index
+ *   handle lookup  - getLocator(handle): array read only
+ * No browser is needed.
+ *
+ * HOW TO RUN:
+ * 1. Right-click this file in IntelliJ -> Run 'LocatorLookupBenchmark.main()'
+ * 2. Program Arguments (optional): [rounds] e.g. 2000
+ * 3. From the command line:
+ *    mvn test-compile exec:java -Dexec.mainClass=org.example.utils.LocatorLookupBenchmark
+ *        -Dexec.classpathScope=test -Dexec.args="2000"
+ *
+ * A simple warm-up/measure loop rather than JMH (not a project dependency); each mode is warmed
+ * up for the same number of rounds first and results are folded into a sink so the JIT cannot
+ * drop the lookups.
+ */
+public class LocatorLookupBenchmark {
+
+    private static final Map<String, String> NO_REPLACEMENTS = Collections.emptyMap();
+
+    private static int sink;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+        ObjectRepositoryManager orManager = ObjectRepositoryManager.getInstance();
+        String[] keys = allKeys(orManager);
+        if (keys.length == 0) {
+            System.out.println("Object Repository is empty - nothing to measure");
+            return;
+        }
+        int[] handles = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            handles[i] = orManager.getHandle(keys[i]);
+        }
+
+        System.out.println("Keys: " + keys.length + ", rounds: " + rounds);
+        System.out.println(String.format("%-16s %12s", "Mode", "ns/lookup"));
+
+        for (String mode : new String[]{"build per call", "key lookup", "handle lookup"}) {
+            run(orManager, mode, keys, handles, rounds); // warm-up
+            long start = System.nanoTime();
+            run(orManager, mode, keys, handles, rounds);
+            double perLookup = (double) (System.nanoTime() - start) / ((long) rounds * keys.length);
+            System.out.println(String.format("%-16s %12.1f", mode, perLookup));
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static void run(ObjectRepositoryManager orManager, String mode, String[] keys, int[] handles, int rounds) {
+        int local = 0;
+        for (int r = 0; r < rounds; r++) {
+            switch (mode) {
+                case "build per call":
+                    for (String key : keys) {
+                        local ^= System.identityHashCode(orManager.getLocatorWithDynamicValue(key, NO_REPLACEMENTS));
+                    }
+                    break;
+                case "key lookup":
+                    for (String key : keys) {
+                        local ^= System.identityHashCode(orManager.getLocator(key));
+                    }
+                    break;
+                default:
+                    for (int handle : handles) {
+                        local ^= System.identityHashCode(orManager.getLocator(handle));
+                    }
+                    break;
+            }
+        }
+        sink ^= local;
+    }
+
+    private static String[] allKeys(ObjectRepositoryManager orManager) {
+        return Arrays.stream(orManager.getModuleNames())
+                .flatMap(module -> orManager.getModuleElements(module).keySet().stream())
+                .distinct()
+                .toArray(String[]::new);
+    }
+}
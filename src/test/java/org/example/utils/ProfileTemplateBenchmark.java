@@ -0,0 +1,98 @@
+package org.example.utils;
+
+import org.example.config.ConfigLoader;
+import org.example.core.driver.BrowserType;
+import org.example.core.driver.DriverFactory;
+import org.example.core.driver.ProfileTemplate;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * ProfileTemplateBenchmark - Standalone utility comparing cold starts from an empty profile
+ * with starts from a cloned profile template.
+ *
+ * For both modes it launches the browser N times and reports the average launch time (driver
+ * creation, including the clone), first-navigation time (driver.get(url)) and first contentful
+ * paint as reported by the page's Performance API. The one-off template build is reported
+ * separately and not counted in the averages.
+ *
+ * HOW TO RUN:
+ * 1. Right-click this file in IntelliJ -> Run 'ProfileTemplateBenchmark.main()'
+ * 2. Program Arguments (all optional): [browser] [iterations] [url]
+ *    e.g. chrome 5 https://example.com
+ * 3. From the command line:
+ *    mvn test-compile exec:java -Dexec.mainClass=org.example.utils.ProfileTemplateBenchmark
+ *        -Dexec.classpathScope=test -Dexec.args="chrome 3"
+ */
+public class ProfileTemplateBenchmark {
+
+    private static final String TEMPLATE_PROPERTY = "browser.profile.template.enabled";
+
+    private static final String FIRST_PAINT_SCRIPT =
+            "var paint = performance.getEntriesByName('first-contentful-paint')[0];"
+            + "return paint ? Math.round(paint.startTime) : -1;";
+
+    public static void main(String[] args) {
+        ConfigLoader config = ConfigLoader.getInstance();
+        String browser = args.length > 0 ? args[0] : config.getBrowser();
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        String url = args.length > 2 ? args[2] : config.getBaseUrl();
+
+        BrowserType browserType = BrowserType.fromString(browser, config.isHeadless());
+        DriverFactory factory = new DriverFactory();
+
+        System.out.println("Browser: " + browserType + ", iterations: " + iterations + ", url: " + url);
+
+        // Build the template outside the measured runs
+        System.setProperty(TEMPLATE_PROPERTY, "true");
+        factory.createDriver(browserType).quit();
+        System.out.println("Template build: " + ProfileTemplate.getInstance().getBuildMillis() + " ms"
+                + " (0 = reused from an earlier run)");
+
+        System.out.println(String.format("%-16s %12s %16s %16s", "Profile", "Launch (ms)", "First nav (ms)", "First paint (ms)"));
+        for (boolean useTemplate : new boolean[]{false, true}) {
+            System.setProperty(TEMPLATE_PROPERTY, String.valueOf(useTemplate));
+            long launchTotal = 0;
+            long navigationTotal = 0;
+            long paintTotal = 0;
+            int paintSamples = 0;
+            int completed = 0;
+
+            for (int i = 0; i < iterations; i++) {
+                WebDriver driver = null;
+                try {
+                    long start = System.nanoTime();
+                    driver = factory.createDriver(browserType);
+                    long launched = System.nanoTime();
+                    driver.get(url);
+                    long navigated = System.nanoTime();
+
+                    Object paint = ((JavascriptExecutor) driver).executeScript(FIRST_PAINT_SCRIPT);
+                    if (paint instanceof Number && ((Number) paint).longValue() >= 0) {
+                        paintTotal += ((Number) paint).longValue();
+                        paintSamples++;
+                    }
+                    launchTotal += (launched - start) / 1_000_000;
+                    navigationTotal += (navigated - launched) / 1_000_000;
+                    completed++;
+                } catch (Exception e) {
+                    System.err.println("Run failed: " + e.getMessage());
+                } finally {
+                    if (driver != null) {
+                        driver.quit();
+                    }
+                }
+            }
+
+            String label = useTemplate ? "template clone" : "empty profile";
+            if (completed == 0) {
+                System.out.println(String.format("%-16s %12s %16s %16s", label, "-", "-", "-"));
+                continue;
+            }
+            System.out.println(String.format("%-16s %12d %16d %16s", label,
+                    launchTotal / completed, navigationTotal / completed,
+                    paintSamples > 0 ? String.valueOf(paintTotal / paintSamples) : "n/a"));
+        }
+        ProfileTemplate.getInstance().printStatistics();
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.utils;
+
+import org.example.config.ConfigLoader;
+import org.example.core.driver.BrowserType;
+import org.example.core.driver.DriverFactory;
+import org.example.core.wait.WaitEngine;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * WaitBackendBenchmark - Standalone utility comparing the poll and observer wait backends.
+ *
+ * Each iteration schedules an element to appear after a known delay (0-1000 ms, so poll
+ * intervals fall at different points) and times WaitEngine.waitFor until it returns. The
+ * reported overhead is the time past the delay, i.e. how late the wait noticed the element.
+ *
+ * HOW TO RUN:
+ * 1. Right-click this file in IntelliJ -> Run 'WaitBackendBenchmark.main()'
+ * 2. Program Arguments (all optional): [browser] [iterations] [url]
+ *    e.g. chrome 40 https://example.com
+ * 3. From the command line:
+ *    mvn test-compile exec:java -Dexec.mainClass=org.example.utils.WaitBackendBenchmark
+ *        -Dexec.classpathScope=test -Dexec.args="edge 40"
+ *
+ * Adaptive timeouts do not affect the result: every element appears well before the ceiling.
+ */
+public class WaitBackendBenchmark {
+
+    private static final String[] BACKENDS = {"poll", "observer"};
+    private static final long[] DELAYS = {0, 150, 400, 1000}; // milliseconds
+
+    private static final String APPEAR_SCRIPT =
+            "var id = arguments[0];" +
+            "setTimeout(function () {" +
+            "  var e = document.createElement('div');" +
+            "  e.id = id; e.textContent = id;" +
+            "  document.body.appendChild(e);" +
+            "}, arguments[1]);";
+
+    public static void main(String[] args) {
+        ConfigLoader config = ConfigLoader.getInstance();
+        String browser = args.length > 0 ? args[0] : config.getBrowser();
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        String url = args.length > 2 ? args[2] : config.getBaseUrl();
+
+        BrowserType browserType = BrowserType.fromString(browser, false);
+        WebDriver driver = new DriverFactory().createDriver(browserType);
+        WaitEngine waitEngine = WaitEngine.getInstance();
+
+        try {
+            driver.get(url);
+            System.out.println("Browser: " + browserType + ", iterations: " + iterations + ", url: " + url);
+            System.out.println(String.format("%-10s %14s %14s %14s", "Backend", "Avg over (ms)", "p95 over (ms)", "Max over (ms)"));
+
+            for (String backend : BACKENDS) {
+                // System properties take precedence over config.properties
+                System.setProperty("wait.backend", backend);
+                List<Long> overheads = new ArrayList<>();
+
+                for (int i = 0; i < iterations; i++) {
+                    String id = "wait-benchmark-" + backend + "-" + i;
+                    long delay = DELAYS[i % DELAYS.length];
+                    long start = System.nanoTime();
+                    ((JavascriptExecutor) driver).executeScript(APPEAR_SCRIPT, id, delay);
+                    waitEngine.waitFor(driver, "benchmark:" + backend, By.id(id), WaitEngine.Condition.VISIBLE, 10);
+                    long elapsed = (System.nanoTime() - start) / 1_000_000;
+                    overheads.add(Math.max(0, elapsed - delay));
+                }
+
+                Collections.sort(overheads);
+                long average = overheads.stream().mapToLong(Long::longValue).sum() / overheads.size();
+                long p95 = overheads.get((int) Math.ceil(overheads.size() * 0.95) - 1);
+                System.out.println(String.format("%-10s %14d %14d %14d", backend, average, p95,
+                        overheads.get(overheads.size() - 1)));
+            }
+        } finally {
+            System.clearProperty("wait.backend");
+            driver.quit();
+        }
+    }
+}
@@ -15,13 +15,14 @@ Feature: Dashboard Module Testing
   @smoke @DB_0001
   Scenario: DB_0001 - Verify Dashboard opens with header elements
     Then Dashboard should be displayed
-    And "ShivalikLogo_Object" should be displayed on Dashboard page
-    And "ProfileName_Object" should be displayed on Dashboard page
-    And "CustomerCarePhoneText_Object" should be displayed on Dashboard page
-    And "CustomerCarePhone_Object" should be displayed on Dashboard page
-    And "CustomerCareEmail_Object" should be displayed on Dashboard page
-    And "LatestUpdatesTitle_Object" should be displayed on Dashboard page
-    And "MarqueeText_Object" should be displayed on Dashboard page
+    And these elements should be displayed on Dashboard page:
+      | ShivalikLogo_Object          |
+      | ProfileName_Object           |
+      | CustomerCarePhoneText_Object |
+      | CustomerCarePhone_Object     |
+      | CustomerCareEmail_Object     |
+      | LatestUpdatesTitle_Object    |
+      | MarqueeText_Object           |
 
   @regression @DB_0007
   Scenario: DB_0007 - Verify Bill Pay button click and return
@@ -39,9 +40,10 @@ Feature: Dashboard Module Testing
 
   @smoke @DB_0009
   Scenario: DB_0009 - Verify Notification and Profile section
-    Then "NotificationIcon_Object" should be displayed on Dashboard page
-    And "ProfileButton_Object" should be displayed on Dashboard page
-    And "ProfileName_Object" should be displayed on Dashboard page
+    Then these elements should be displayed on Dashboard page:
+      | NotificationIcon_Object |
+      | ProfileButton_Object    |
+      | ProfileName_Object      |
 
   # ==============================================================================
   # MODULE 2: QUICK SERVICES (QS_0001 - QS_0016)
@@ -52,14 +54,15 @@ Feature: Dashboard Module Testing
 
   @smoke @QS_0001
   Scenario: QS_0001 - Verify Quick Services section with all options
-    Then "Db_QuickServicesTitle_Object" should be displayed on Dashboard page
-    And "ViewChequeStatusService_Object" should be displayed on Dashboard page
-    And "RequestChequeBookService_Object" should be displayed on Dashboard page
-    And "StopChequeService_Object" should be displayed on Dashboard page
-    And "PositivePayService_Object" should be displayed on Dashboard page
-    And "ApplyForLoanService_Object" should be displayed on Dashboard page
-    And "ApplyForLockerService_Object" should be displayed on Dashboard page
-    And "GenerateDebitCardPinService_Object" should be displayed on Dashboard page
+    Then these elements should be displayed on Dashboard page:
+      | Db_QuickServicesTitle_Object       |
+      | ViewChequeStatusService_Object     |
+      | RequestChequeBookService_Object    |
+      | StopChequeService_Object           |
+      | PositivePayService_Object          |
+      | ApplyForLoanService_Object         |
+      | ApplyForLockerService_Object       |
+      | GenerateDebitCardPinService_Object |
 
   @regression @QS_0003
   Scenario: QS_0003 - Verify View Cheque Status click and return
@@ -92,9 +95,10 @@ Feature: Dashboard Module Testing
 
   @smoke @FB_0001
   Scenario: FB_0001 - Verify Favourite Beneficiary section
-    Then "FavouriteBeneficiaryTitle_Object" should be displayed on Dashboard page
-    And "SeeAllBeneficiary_Object" should be displayed on Dashboard page
-    And "AddNewBeneficiary_Object" should be displayed on Dashboard page
+    Then these elements should be displayed on Dashboard page:
+      | FavouriteBeneficiaryTitle_Object |
+      | SeeAllBeneficiary_Object         |
+      | AddNewBeneficiary_Object         |
     And no beneficiary image should be displayed or beneficiary cards should be visible
 
   @regression @FB_0003
@@ -115,9 +119,10 @@ Feature: Dashboard Module Testing
 
   @smoke @AH_0001
   Scenario: AH_0001 - Verify App Download links displayed
-    Then "DownloadAppSection_Object" should be displayed on Dashboard page
-    And "PlayStoreIcon_Object" should be displayed on Dashboard page
-    And "AppStoreIcon_Object" should be displayed on Dashboard page
+    Then these elements should be displayed on Dashboard page:
+      | DownloadAppSection_Object |
+      | PlayStoreIcon_Object      |
+      | AppStoreIcon_Object       |
 
   @regression @AH_0002
   Scenario: AH_0002 - Verify Google Play Store link opens new page
@@ -137,18 +142,20 @@ Feature: Dashboard Module Testing
 
   @smoke @AN_0007
   Scenario: AN_0007 - Verify Accounts section with all tabs
-    Then "AccountsTitle_Object" should be displayed on Dashboard page
-    And "SavingsTab_Object" should be displayed on Dashboard page
-    And "CurrentTab_Object" should be displayed on Dashboard page
-    And "DepositTab_Object" should be displayed on Dashboard page
-    And "LoanTab_Object" should be displayed on Dashboard page
-    And "ODCCTab_Object" should be displayed on Dashboard page
+    Then these elements should be displayed on Dashboard page:
+      | AccountsTitle_Object |
+      | SavingsTab_Object    |
+      | CurrentTab_Object    |
+      | DepositTab_Object    |
+      | LoanTab_Object       |
+      | ODCCTab_Object       |
 
   @regression @AN_0012
   Scenario: AN_0012 - Verify account balance masked and eye icon
-    Then "AccountCard_Object" should be displayed on Dashboard page
-    And "AccountNumber_Object" should be displayed on Dashboard page
-    And "ShowDetailsIcon_Object" should be displayed on Dashboard page
+    Then these elements should be displayed on Dashboard page:
+      | AccountCard_Object     |
+      | AccountNumber_Object   |
+      | ShowDetailsIcon_Object |
     When user clicks on "ShowDetailsIcon_Object" on Dashboard page
 
   # ==============================================================================
@@ -159,13 +166,14 @@ Feature: Dashboard Module Testing
 
   @smoke @SS_0001
   Scenario: SS_0001 - Verify Services section with all options
-    Then "ServicesTitle_Object" should be displayed on Dashboard page
-    And "FundTransferService_Object" should be displayed on Dashboard page
-    And "OpenFDRDService_Object" should be displayed on Dashboard page
-    And "AccountStatementService_Object" should be displayed on Dashboard page
-    And "Db_ManageBeneficiaryService_Object" should be displayed on Dashboard page
-    And "ApplyForLoanServiceCard_Object" should be displayed on Dashboard page
-    And "ApplyForLockerServiceCard_Object" should be displayed on Dashboard page
+    Then these elements should be displayed on Dashboard page:
+      | ServicesTitle_Object               |
+      | FundTransferService_Object         |
+      | OpenFDRDService_Object             |
+      | AccountStatementService_Object     |
+      | Db_ManageBeneficiaryService_Object |
+      | ApplyForLoanServiceCard_Object     |
+      | ApplyForLockerServiceCard_Object   |
 
   @regression @SS_0003
   Scenario: SS_0003 - Verify Fund Transfer click and return
@@ -199,12 +207,13 @@ Feature: Dashboard Module Testing
 
   @smoke @RT_0001
   Scenario: RT_0001 - Verify Recent Transactions section
-    Then "RecentTransactionsTitle_Object" should be displayed on Dashboard page
-    And "TransactionAccountDropdown_Object" should be displayed on Dashboard page
-    And "TransactionList_Object" should be displayed on Dashboard page
-    And "TransactionName_Object" should be displayed on Dashboard page
-    And "TransactionAmount_Object" should be displayed on Dashboard page
-    And "TransactionDate_Object" should be displayed on Dashboard page
+    Then these elements should be displayed on Dashboard page:
+      | RecentTransactionsTitle_Object    |
+      | TransactionAccountDropdown_Object |
+      | TransactionList_Object            |
+      | TransactionName_Object            |
+      | TransactionAmount_Object          |
+      | TransactionDate_Object            |
 
   # ==============================================================================
   # MODULE 8: FASTAG (FT_0001 - FT_0008)
@@ -223,9 +232,10 @@ Feature: Dashboard Module Testing
 
   @smoke @MI_0001
   Scenario: MI_0001 - Verify My Investments section
-    Then "MyInvestmentsTitle_Object" should be displayed on Dashboard page
-    And "FDInvestmentText_Object" should be displayed on Dashboard page
-    And "Db_OpenFDButton_Object" should be displayed on Dashboard page
+    Then these elements should be displayed on Dashboard page:
+      | MyInvestmentsTitle_Object |
+      | FDInvestmentText_Object   |
+      | Db_OpenFDButton_Object    |
 
   @regression @MI_0003
   Scenario: MI_0003 - Verify Book Fixed Deposits click and return
@@ -25,33 +25,36 @@ Feature: Fund Transfer - Complete Module Testing
 
   @fundtransfer_mainpage @FT_003
   Scenario: FT_003 - Verify all transfer cards displayed with details
-    Then "TransferToBeneficiaryCard_Object" should be displayed on FT page
-    And "TransferToBeneficiaryTitle_Object" should be displayed on FT page
-    And "TransferToBeneficiaryDesc_Object" should be displayed on FT page
-    And "QuickTransferCard_Object" should be displayed on FT page
-    And "QuickTransferTitle_Object" should be displayed on FT page
-    And "QuickTransferDesc_Object" should be displayed on FT page
-    And "SelfAccountCard_Object" should be displayed on FT page
-    And "SelfAccountTitle_Object" should be displayed on FT page
-    And "SelfAccountDesc_Object" should be displayed on FT page
+    Then these elements should be displayed on FT page:
+      | TransferToBeneficiaryCard_Object  |
+      | TransferToBeneficiaryTitle_Object |
+      | TransferToBeneficiaryDesc_Object  |
+      | QuickTransferCard_Object          |
+      | QuickTransferTitle_Object         |
+      | QuickTransferDesc_Object          |
+      | SelfAccountCard_Object            |
+      | SelfAccountTitle_Object           |
+      | SelfAccountDesc_Object            |
 
   @fundtransfer_mainpage @FT_009
   Scenario: FT_009 - Verify Recent Transactions and Services sections
-    Then "FT_RecentTransactionsTitle_Object" should be displayed on FT page
-    And "FT_TransactionAccountDropdown_Object" should be displayed on FT page
-    And "FT_TransactionList_Object" should be displayed on FT page
-    And "FT_ServicesTitle_Object" should be displayed on FT page
+    Then these elements should be displayed on FT page:
+      | FT_RecentTransactionsTitle_Object    |
+      | FT_TransactionAccountDropdown_Object |
+      | FT_TransactionList_Object            |
+      | FT_ServicesTitle_Object              |
 
   @fundtransfer_mainpage @FT_012
   Scenario: FT_012 - Verify all service links displayed
-    Then "ScheduleTransactionsService_Object" should be displayed on FT page
-    And "AccountStatementService_Object" should be displayed on FT page
-    And "FavoriteTransactionsService_Object" should be displayed on FT page
-    And "MiniStatementService_Object" should be displayed on FT page
-    And "EmailStatementService_Object" should be displayed on FT page
-    And "ManageBeneficiaryService_Object" should be displayed on FT page
-    And "RaiseDisputeService_Object" should be displayed on FT page
-    And "ModifyTransactionLimitService_Object" should be displayed on FT page
+    Then these elements should be displayed on FT page:
+      | ScheduleTransactionsService_Object   |
+      | AccountStatementService_Object       |
+      | FavoriteTransactionsService_Object   |
+      | MiniStatementService_Object          |
+      | EmailStatementService_Object         |
+      | ManageBeneficiaryService_Object      |
+      | RaiseDisputeService_Object           |
+      | ModifyTransactionLimitService_Object |
 
   @fundtransfer_mainpage @FT_020
   Scenario: FT_020 - Verify clicking Transfer to Beneficiary card opens TB page
@@ -105,14 +108,15 @@ Feature: Fund Transfer - Complete Module Testing
   @transfer_to_beneficiary @FT_035
   Scenario: FT_035 - Verify all TB Shivalik form fields and buttons displayed
     When user clicks on "TransferToBeneficiaryCard_Object" on FT page
-    Then "SelectBeneficiaryInput_Object" should be displayed on TB page
-    And "EnterAmountInput_Object" should be displayed on TB page
-    And "RupeeSymbol_Object" should be displayed on TB page
-    And "TransferFromDropdown_Object" should be displayed on TB page
-    And "PaymentDateInput_Object" should be displayed on TB page
-    And "RemarksInput_Object" should be displayed on TB page
-    And "FT_CancelButton_Object" should be displayed on TB page
-    And "FT_ContinueButton_Object" should be displayed on TB page
+    Then these elements should be displayed on TB page:
+      | SelectBeneficiaryInput_Object |
+      | EnterAmountInput_Object       |
+      | RupeeSymbol_Object            |
+      | TransferFromDropdown_Object   |
+      | PaymentDateInput_Object       |
+      | RemarksInput_Object           |
+      | FT_CancelButton_Object        |
+      | FT_ContinueButton_Object      |
 
   @transfer_to_beneficiary @FT_042
   Scenario: FT_042 - Verify Amount field accepts numeric values
@@ -251,9 +255,10 @@ Feature: Fund Transfer - Complete Module Testing
   Scenario: FT_082 - Verify Other Bank shows NEFT/IMPS/RTGS with NEFT selected by default
     When user clicks on "TransferToBeneficiaryCard_Object" on FT page
     And user clicks on "OtherBankLabel_Object" on TB page
-    Then "NEFTLabel_Object" should be displayed on TB page
-    And "IMPSLabel_Object" should be displayed on TB page
-    And "RTGSLabel_Object" should be displayed on TB page
+    Then these elements should be displayed on TB page:
+      | NEFTLabel_Object |
+      | IMPSLabel_Object |
+      | RTGSLabel_Object |
     And "NEFTRadio_Object" should be selected by default on TB page
 
   @transfer_to_beneficiary @FT_084
@@ -307,9 +312,10 @@ Feature: Fund Transfer - Complete Module Testing
     When user clicks on "TransferToBeneficiaryCard_Object" on FT page
     And user clicks on "OtherBankLabel_Object" on TB page
     And user clicks on "IMPSLabel_Object" on TB page
-    Then "SelectBeneficiaryInput_Object" should be displayed on TB page
-    And "EnterAmountInput_Object" should be displayed on TB page
-    And "TransferFromDropdown_Object" should be displayed on TB page
+    Then these elements should be displayed on TB page:
+      | SelectBeneficiaryInput_Object |
+      | EnterAmountInput_Object       |
+      | TransferFromDropdown_Object   |
 
   @transfer_to_beneficiary @FT_092
   Scenario: FT_092 - Verify switching from IMPS to NEFT restores Payment Date and Remarks
@@ -381,13 +387,14 @@ Feature: Fund Transfer - Complete Module Testing
   @quick_transfer @FT_143
   Scenario: FT_143 - Verify Quick Transfer page opens with method selection cards
     When user clicks on "QuickTransferCard_Object" on FT page
-    Then "QuickTransferPageTitle_Object" should be displayed on QT page
-    And "ByMobileNumberCard_Object" should be displayed on QT page
-    And "ByMobileNumberTitle_Object" should be displayed on QT page
-    And "ByMobileNumberDesc_Object" should be displayed on QT page
-    And "ByAccountDetailsCard_Object" should be displayed on QT page
-    And "ByAccountDetailsTitle_Object" should be displayed on QT page
-    And "ByAccountDetailsDesc_Object" should be displayed on QT page
+    Then these elements should be displayed on QT page:
+      | QuickTransferPageTitle_Object |
+      | ByMobileNumberCard_Object     |
+      | ByMobileNumberTitle_Object    |
+      | ByMobileNumberDesc_Object     |
+      | ByAccountDetailsCard_Object   |
+      | ByAccountDetailsTitle_Object  |
+      | ByAccountDetailsDesc_Object   |
 
   @quick_transfer @FT_146
   Scenario: FT_146 - Verify By Account Details page opens with Shivalik Bank selected
@@ -400,12 +407,13 @@ Feature: Fund Transfer - Complete Module Testing
   Scenario: FT_147 - Verify all Shivalik Bank form fields displayed
     When user clicks on "QuickTransferCard_Object" on FT page
     And user clicks on "ByAccountDetailsCard_Object" on QT page
-    Then "QT_AccountNumberInput_Object" should be displayed on QT page
-    And "QT_ReEnterAccountInput_Object" should be displayed on QT page
-    And "QT_RecipientNameInput_Object" should be displayed on QT page
-    And "EnterAmountInput_Object" should be displayed on QT page
-    And "TransferFromDropdown_Object" should be displayed on QT page
-    And "RemarksInput_Object" should be displayed on QT page
+    Then these elements should be displayed on QT page:
+      | QT_AccountNumberInput_Object  |
+      | QT_ReEnterAccountInput_Object |
+      | QT_RecipientNameInput_Object  |
+      | EnterAmountInput_Object       |
+      | TransferFromDropdown_Object   |
+      | RemarksInput_Object           |
     When user clicks on "GoBackButton_Object" on QT page
     And user clicks on Confirm button on cancel popup on QT page
 
@@ -599,13 +607,14 @@ Feature: Fund Transfer - Complete Module Testing
     When user clicks on "QuickTransferCard_Object" on FT page
     And user clicks on "ByAccountDetailsCard_Object" on QT page
     And user clicks on "OtherBankLabel_Object" on QT page
-    Then "QT_AccountNumberInput_Object" should be displayed on QT page
-    And "QT_ReEnterAccountInput_Object" should be displayed on QT page
-    And "QT_IFSCCodeInput_Object" should be displayed on QT page
-    And "QT_RecipientNameInput_Object" should be displayed on QT page
-    And "EnterAmountInput_Object" should be displayed on QT page
-    And "TransferFromDropdown_Object" should be displayed on QT page
-    And "RemarksInput_Object" should be displayed on QT page
+    Then these elements should be displayed on QT page:
+      | QT_AccountNumberInput_Object  |
+      | QT_ReEnterAccountInput_Object |
+      | QT_IFSCCodeInput_Object       |
+      | QT_RecipientNameInput_Object  |
+      | EnterAmountInput_Object       |
+      | TransferFromDropdown_Object   |
+      | RemarksInput_Object           |
 
   @quick_transfer @FT_202
   Scenario: FT_202 - Verify Invalid IFSC code shows error
@@ -682,11 +691,12 @@ Feature: Fund Transfer - Complete Module Testing
     When user clicks on "SelfAccountCard_Object" on FT page
     Then "SA_SidebarTitle_Object" should be displayed on FT page
     When user selects account from sidebar for test case "FT_SA_001"
-    Then "ChangeAccountButton_Object" should be displayed on SA page
-    And "SelfTransferAmountInput_Object" should be displayed on SA page
-    And "TransferFromDropdown_Object" should be displayed on SA page
-    And "PaymentDateInput_Object" should be displayed on SA page
-    And "RemarksInput_Object" should be displayed on SA page
+    Then these elements should be displayed on SA page:
+      | ChangeAccountButton_Object     |
+      | SelfTransferAmountInput_Object |
+      | TransferFromDropdown_Object    |
+      | PaymentDateInput_Object        |
+      | RemarksInput_Object            |
 
   @self_account @FT_271
   Scenario: FT_271 - Verify CANCEL and CONTINUE buttons on SA page
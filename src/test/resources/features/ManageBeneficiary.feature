@@ -14,9 +14,10 @@ Feature: Manage Beneficiary - Complete Module Testing
 
   @managebeneficiary_mainpage @MB_001
   Scenario: MB_001 - Verify Manage Beneficiaries main page elements
-    Then "PageTitle_Object" should be displayed on MB page
-    And "CoolingPeriodIcon_Object" should be displayed on MB page
-    And "FavoriteIcon_Object" should be displayed on MB page
+    Then these elements should be displayed on MB page:
+      | PageTitle_Object         |
+      | CoolingPeriodIcon_Object |
+      | FavoriteIcon_Object      |
     And beneficiary list or no beneficiaries text should be displayed on MB page
     And "AddButton_Object" should be displayed on MB page
     And "SearchBeneficiaryInput_Object" should be displayed on MB page
@@ -32,13 +33,14 @@ Feature: Manage Beneficiary - Complete Module Testing
     When user clicks on "AddButton_Object" on MB page
     Then "MB_AddTitle_Object" should be displayed on MB page
     And "MB_ShivalikBankRadio_Object" should be selected by default on MB page
-    And "MB_AccountNumberInput_Object" should be displayed on MB page
-    And "MB_ReEnterAccountInput_Object" should be displayed on MB page
-    And "MB_BeneficiaryNameInput_Object" should be displayed on MB page
-    And "MB_NicknameInput_Object" should be displayed on MB page
-    And "MB_ContinueButton_Object" should be displayed on MB page
-    And "MB_AddBackArrow_Object" should be displayed on MB page
-    And "MB_BeneficiaryTypeLabel_Object" should be displayed on MB page
+    And these elements should be displayed on MB page:
+      | MB_AccountNumberInput_Object   |
+      | MB_ReEnterAccountInput_Object  |
+      | MB_BeneficiaryNameInput_Object |
+      | MB_NicknameInput_Object        |
+      | MB_ContinueButton_Object       |
+      | MB_AddBackArrow_Object         |
+      | MB_BeneficiaryTypeLabel_Object |
 
   @add_shivalik @MB_012
   Scenario: MB_012 - Click CONTINUE with empty Shivalik form and validate errors
@@ -70,11 +72,12 @@ Feature: Manage Beneficiary - Complete Module Testing
     And user clicks on "MB_ContinueButton_Object" on MB page
     Then "MB_ConfirmTitle_Object" should be displayed on MB page
     And MB confirm page should display correct details for test case "MB_015"
-    And "MB_OTPInput_Object" should be displayed on MB page
-    And "MB_OTPTimerText_Object" should be displayed on MB page
-    And "MB_ResendOTPLink_Object" should be displayed on MB page
-    And "MB_OTPMessage_Object" should be displayed on MB page
-    And "MB_NeverShareOTPText_Object" should be displayed on MB page
+    And these elements should be displayed on MB page:
+      | MB_OTPInput_Object          |
+      | MB_OTPTimerText_Object      |
+      | MB_ResendOTPLink_Object     |
+      | MB_OTPMessage_Object        |
+      | MB_NeverShareOTPText_Object |
     And MB SUBMIT button should be disabled
 
   @add_shivalik @MB_016
@@ -135,12 +138,13 @@ Feature: Manage Beneficiary - Complete Module Testing
     When user clicks on "AddButton_Object" on MB page
     And user clicks on "MB_OtherBankLabel_Object" on MB page
     Then "MB_OtherBankRadio_Object" should be selected by default on MB page
-    And "MB_IFSCCodeInput_Object" should be displayed on MB page
-    And "MB_IFSCCodeLabel_Object" should be displayed on MB page
-    And "MB_SearchIFSCLink_Object" should be displayed on MB page
-    And "MB_AccountNumberInput_Object" should be displayed on MB page
-    And "MB_BeneficiaryNameInput_Object" should be displayed on MB page
-    And "MB_NicknameInput_Object" should be displayed on MB page
+    And these elements should be displayed on MB page:
+      | MB_IFSCCodeInput_Object        |
+      | MB_IFSCCodeLabel_Object        |
+      | MB_SearchIFSCLink_Object       |
+      | MB_AccountNumberInput_Object   |
+      | MB_BeneficiaryNameInput_Object |
+      | MB_NicknameInput_Object        |
 
   @add_otherbank @MB_041
   Scenario: MB_041 - Click CONTINUE with empty Other Bank form and validate errors
@@ -190,12 +194,13 @@ Feature: Manage Beneficiary - Complete Module Testing
     When user clicks on "AddButton_Object" on MB page
     And user clicks on "MB_OtherBankLabel_Object" on MB page
     And user clicks on "MB_SearchIFSCLink_Object" on MB page
-    Then "MB_SearchIFSCSidebarTitle_Object" should be displayed on MB page
-    And "MB_SearchIFSCSelectBank_Object" should be displayed on MB page
-    And "MB_SearchIFSCSelectState_Object" should be displayed on MB page
-    And "MB_SearchIFSCSelectCity_Object" should be displayed on MB page
-    And "MB_SearchIFSCSelectBranch_Object" should be displayed on MB page
-    And "MB_SearchIFSCCloseIcon_Object" should be displayed on MB page
+    Then these elements should be displayed on MB page:
+      | MB_SearchIFSCSidebarTitle_Object |
+      | MB_SearchIFSCSelectBank_Object   |
+      | MB_SearchIFSCSelectState_Object  |
+      | MB_SearchIFSCSelectCity_Object   |
+      | MB_SearchIFSCSelectBranch_Object |
+      | MB_SearchIFSCCloseIcon_Object    |
     When user clicks on "MB_SearchIFSCCloseIcon_Object" on MB page
     Then "MB_AddTitle_Object" should be displayed on MB page
 
@@ -207,17 +212,19 @@ Feature: Manage Beneficiary - Complete Module Testing
   @edit_beneficiary @MB_060
   Scenario: MB_060 - Click beneficiary, verify details page, 3-dot menu and Edit form
     When user clicks on "MB_BeneficiaryRow_Object" on MB page
-    Then "MB_BeneficiaryDetailTitle_Object" should be displayed on MB page
-    And "MB_BeneficiaryDetailName_Object" should be displayed on MB page
-    And "MB_MoreSquareIcon_Object" should be displayed on MB page
-    And "MB_VerifyBeneficiaryDetailButton_Object" should be displayed on MB page
-    And "MB_SendMoneyButton_Object" should be displayed on MB page
+    Then these elements should be displayed on MB page:
+      | MB_BeneficiaryDetailTitle_Object        |
+      | MB_BeneficiaryDetailName_Object         |
+      | MB_MoreSquareIcon_Object                |
+      | MB_VerifyBeneficiaryDetailButton_Object |
+      | MB_SendMoneyButton_Object               |
     And MB beneficiary details should match test case "MB_060"
     When user clicks on "MB_MoreSquareIcon_Object" on MB page
     And user clicks on "MB_EditButton_Object" on MB page
-    Then "MB_EditTitle_Object" should be displayed on MB page
-    And "MB_EditNicknameInput_Object" should be displayed on MB page
-    And "MB_SaveButton_Object" should be displayed on MB page
+    Then these elements should be displayed on MB page:
+      | MB_EditTitle_Object         |
+      | MB_EditNicknameInput_Object |
+      | MB_SaveButton_Object        |
 
   @edit_beneficiary @MB_061
   Scenario: MB_061 - E2E Edit: beneficiary → 3-dot → Edit → nickname → SAVE → OTP → success → Done → main